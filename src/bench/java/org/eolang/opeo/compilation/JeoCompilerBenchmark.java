@@ -0,0 +1,103 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2023 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.opeo.compilation;
+
+import com.jcabi.xml.XML;
+import com.jcabi.xml.XMLDocument;
+import java.util.concurrent.TimeUnit;
+import org.cactoos.io.ResourceOf;
+import org.cactoos.text.TextOf;
+import org.eolang.opeo.jeo.JeoDecompiler;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark for {@link JeoCompiler}.
+ * Compiles real XMIRs from the test resources, decompiled beforehand.
+ * @since 0.5
+ */
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class JeoCompilerBenchmark {
+
+    /**
+     * Test resource with XMIR.
+     */
+    @Param({"xmir/Bar.xmir", "xmir/Known.xmir"})
+    private String resource;
+
+    /**
+     * Decompiled XMIR text.
+     */
+    private String decompiled;
+
+    /**
+     * XMIR to compile.
+     * {@link JeoCompiler} modifies XMIR in place, so we need a fresh copy for each call.
+     */
+    private XML xmir;
+
+    /**
+     * Read and decompile XMIR from resources.
+     * @throws Exception If fails.
+     */
+    @Setup
+    public void decompile() throws Exception {
+        this.decompiled = new JeoDecompiler(
+            new XMLDocument(new TextOf(new ResourceOf(this.resource)).asString()),
+            this.resource
+        ).decompile().toString();
+    }
+
+    /**
+     * Parse a fresh copy of XMIR.
+     */
+    @Setup(Level.Invocation)
+    public void parse() {
+        this.xmir = new XMLDocument(this.decompiled);
+    }
+
+    /**
+     * Compile XMIR.
+     * @return Compiled XMIR.
+     */
+    @Benchmark
+    public XML compile() {
+        return new JeoCompiler(this.xmir).compile();
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2023 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.opeo.compilation;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.eolang.jeo.representation.xmir.XmlNode;
+import org.eolang.opeo.ast.Addition;
+import org.eolang.opeo.ast.ArrayConstructor;
+import org.eolang.opeo.ast.AstNode;
+import org.eolang.opeo.ast.Attributes;
+import org.eolang.opeo.ast.ClassField;
+import org.eolang.opeo.ast.Const;
+import org.eolang.opeo.ast.Duplicate;
+import org.eolang.opeo.ast.Invocation;
+import org.eolang.opeo.ast.Multiplication;
+import org.eolang.opeo.ast.Owner;
+import org.eolang.opeo.ast.Popped;
+import org.eolang.opeo.ast.Return;
+import org.eolang.opeo.ast.StaticInvocation;
+import org.eolang.opeo.ast.StoreArray;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.xembly.Xembler;
+
+/**
+ * Benchmark for {@link XmirParser#toJeoNodes()}.
+ * Parses high-level EO nodes back into jeo instructions.
+ * @since 0.5
+ */
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class XmirParserBenchmark {
+
+    /**
+     * High-level EO nodes.
+     */
+    private List<XmlNode> nodes;
+
+    /**
+     * Prepare nodes.
+     * 'System.out.printf("Number is %s", new Object[]{Integer.valueOf(2)}); return (1 + 2) * 3;'
+     */
+    @Setup
+    public void setup() {
+        final String type = "java/lang/Object";
+        this.nodes = Arrays.<AstNode>asList(
+            new Popped(
+                new Invocation(
+                    new ClassField("java/lang/System", "out", "Ljava/io/PrintStream;"),
+                    new Attributes()
+                        .name("printf")
+                        .descriptor("(Ljava/lang/String;[Ljava/lang/Object;)Ljava/io/PrintStream;")
+                        .owner("java/io/PrintStream")
+                        .interfaced(false),
+                    new Const("Number is %s"),
+                    new StoreArray(
+                        new Duplicate(new ArrayConstructor(new Const(1), type)),
+                        new Const(0),
+                        new StaticInvocation(
+                            new Attributes()
+                                .owner("java/lang/Integer")
+                                .name("valueOf")
+                                .descriptor("(I)Ljava/lang/Integer;")
+                                .interfaced(false),
+                            new Owner("java/lang/Integer"),
+                            new Const(2)
+                        )
+                    )
+                )
+            ),
+            new Return(new Multiplication(new Addition(new Const(1), new Const(2)), new Const(3)))
+        ).stream()
+            .map(AstNode::toXmir)
+            .map(Xembler::new)
+            .map(Xembler::xmlQuietly)
+            .map(XmlNode::new)
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * Parse nodes.
+     * @return Jeo instructions.
+     */
+    @Benchmark
+    public List<XmlNode> parse() {
+        return new XmirParser(this.nodes).toJeoNodes();
+    }
+}
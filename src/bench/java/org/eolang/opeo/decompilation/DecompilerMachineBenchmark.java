@@ -0,0 +1,144 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2023 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.opeo.decompilation;
+
+import java.util.concurrent.TimeUnit;
+import org.eolang.opeo.Instruction;
+import org.eolang.opeo.OpcodeInstruction;
+import org.objectweb.asm.Opcodes;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.xembly.Directive;
+
+/**
+ * Benchmark for {@link DecompilerMachine}.
+ * Decompiles representative instruction sequences.
+ * @since 0.5
+ */
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class DecompilerMachineBenchmark {
+
+    /**
+     * Name of the instruction sequence.
+     */
+    @Param({"arithmetic", "invocations", "arrays"})
+    private String sequence;
+
+    /**
+     * Instructions to decompile.
+     */
+    private Instruction[] instructions;
+
+    /**
+     * Prepare instructions.
+     */
+    @Setup
+    public void setup() {
+        if ("arithmetic".equals(this.sequence)) {
+            this.instructions = DecompilerMachineBenchmark.arithmetic();
+        } else if ("invocations".equals(this.sequence)) {
+            this.instructions = DecompilerMachineBenchmark.invocations();
+        } else {
+            this.instructions = DecompilerMachineBenchmark.arrays();
+        }
+    }
+
+    /**
+     * Decompile instructions.
+     * @return Decompiled directives.
+     */
+    @Benchmark
+    public Iterable<Directive> decompile() {
+        return new DecompilerMachine().decompile(this.instructions);
+    }
+
+    /**
+     * Arithmetic over local variables: 'return (a + 2) * (a - 3);'.
+     * @return Instructions.
+     */
+    private static Instruction[] arithmetic() {
+        return new Instruction[]{
+            new OpcodeInstruction(Opcodes.ICONST_1),
+            new OpcodeInstruction(Opcodes.ISTORE, 1),
+            new OpcodeInstruction(Opcodes.ILOAD, 1),
+            new OpcodeInstruction(Opcodes.ICONST_2),
+            new OpcodeInstruction(Opcodes.IADD),
+            new OpcodeInstruction(Opcodes.ILOAD, 1),
+            new OpcodeInstruction(Opcodes.ICONST_3),
+            new OpcodeInstruction(Opcodes.ISUB),
+            new OpcodeInstruction(Opcodes.IMUL),
+            new OpcodeInstruction(Opcodes.IRETURN),
+        };
+    }
+
+    /**
+     * Constructor and method invocations: 'return new A(28).foo(bar()) + 3;'.
+     * @return Instructions.
+     */
+    private static Instruction[] invocations() {
+        return new Instruction[]{
+            new OpcodeInstruction(Opcodes.NEW, "A"),
+            new OpcodeInstruction(Opcodes.DUP),
+            new OpcodeInstruction(Opcodes.BIPUSH, 28),
+            new OpcodeInstruction(Opcodes.INVOKESPECIAL, "A", "<init>", "(I)V", false),
+            new OpcodeInstruction(Opcodes.ALOAD, 0),
+            new OpcodeInstruction(Opcodes.INVOKEVIRTUAL, "App", "bar", "()I", false),
+            new OpcodeInstruction(Opcodes.INVOKEVIRTUAL, "A", "foo", "(I)I", false),
+            new OpcodeInstruction(Opcodes.ICONST_3),
+            new OpcodeInstruction(Opcodes.IADD),
+            new OpcodeInstruction(Opcodes.IRETURN),
+        };
+    }
+
+    /**
+     * Array creation and insertion: 'Object[] arr = new Object[2]; arr[0] = this;'.
+     * @return Instructions.
+     */
+    private static Instruction[] arrays() {
+        return new Instruction[]{
+            new OpcodeInstruction(Opcodes.ICONST_2),
+            new OpcodeInstruction(Opcodes.ANEWARRAY, "java/lang/Object"),
+            new OpcodeInstruction(Opcodes.DUP),
+            new OpcodeInstruction(Opcodes.ICONST_0),
+            new OpcodeInstruction(Opcodes.ALOAD, 0),
+            new OpcodeInstruction(Opcodes.AASTORE),
+            new OpcodeInstruction(Opcodes.ASTORE, 1),
+            new OpcodeInstruction(Opcodes.RETURN),
+        };
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2023 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.opeo.decompilation;
+
+import it.XmirCorpus;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark for {@link NaiveDecompiler} on a synthetic corpus.
+ * The default corpus has 10k methods, bigger corpora can be requested with
+ * '-p methods=100000,1000000' JMH option.
+ * @since 0.5
+ */
+@Fork(1)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class NaiveDecompilerBenchmark {
+
+    /**
+     * Methods per class in the corpus.
+     */
+    private static final int PER_CLASS = 100;
+
+    /**
+     * Total number of methods in the corpus.
+     */
+    @Param({"10000"})
+    private int methods;
+
+    /**
+     * Temporary folder.
+     */
+    private Path temp;
+
+    /**
+     * Generate the corpus.
+     * @throws IOException If fails.
+     */
+    @Setup
+    public void generate() throws IOException {
+        this.temp = Files.createTempDirectory("opeo-corpus-benchmark");
+        new XmirCorpus(
+            Math.max(1, this.methods / NaiveDecompilerBenchmark.PER_CLASS),
+            Math.min(this.methods, NaiveDecompilerBenchmark.PER_CLASS)
+        ).save(this.temp.resolve("xmir"));
+    }
+
+    /**
+     * Remove the temporary folder.
+     * @throws IOException If fails.
+     */
+    @TearDown
+    public void clean() throws IOException {
+        try (Stream<Path> all = Files.walk(this.temp)) {
+            all.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+        }
+    }
+
+    /**
+     * Decompile the whole corpus.
+     */
+    @Benchmark
+    public void decompile() {
+        new NaiveDecompiler(this.temp.resolve("xmir"), this.temp.resolve("opeo-xmir"))
+            .decompile();
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2023 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.opeo.jeo;
+
+import java.util.concurrent.TimeUnit;
+import org.eolang.jeo.representation.xmir.HexString;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark for {@link Hex} compared to {@link HexString} of jeo.
+ * Run it together with {@code XmirParserBenchmark}, the 'gc.alloc.rate.norm' column of
+ * the 'gc' profiler shows bytes allocated per operation.
+ * @since 0.5
+ */
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class HexBenchmark {
+
+    /**
+     * Method descriptor as XMIR keeps it.
+     * '(Ljava/lang/String;[Ljava/lang/Object;)Ljava/io/PrintStream;'.
+     */
+    private final String descriptor = String.join(
+        " ",
+        "28 4C 6A 61 76 61 2F 6C 61 6E 67 2F 53 74 72 69 6E 67 3B 5B 4C 6A 61 76 61 2F 6C",
+        "61 6E 67 2F 4F 62 6A 65 63 74 3B 29 4C 6A 61 76 61 2F 69 6F 2F 50 72 69 6E 74 53",
+        "74 72 65 61 6D 3B"
+    );
+
+    /**
+     * Integer as XMIR keeps it.
+     */
+    private final String integer = "00 00 00 00 00 00 01 2C";
+
+    /**
+     * Decode string with jeo.
+     * @return String.
+     */
+    @Benchmark
+    public String jeoString() {
+        return new HexString(this.descriptor).decode();
+    }
+
+    /**
+     * Decode string with opeo.
+     * @return String.
+     */
+    @Benchmark
+    public String opeoString() {
+        return new Hex(this.descriptor).string();
+    }
+
+    /**
+     * Decode integer with jeo.
+     * @return Integer.
+     */
+    @Benchmark
+    public int jeoInt() {
+        return new HexString(this.integer).decodeAsInt();
+    }
+
+    /**
+     * Decode integer with opeo.
+     * @return Integer.
+     */
+    @Benchmark
+    public int opeoInt() {
+        return (int) new Hex(this.integer).number();
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2023 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.opeo.storage;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.cactoos.bytes.BytesOf;
+import org.cactoos.io.ResourceOf;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark for {@link FileStorage}.
+ * Reads and writes a folder of XMIR files.
+ * @since 0.5
+ */
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class FileStorageBenchmark {
+
+    /**
+     * Number of XMIR files in the storage.
+     */
+    @Param({"100"})
+    private int files;
+
+    /**
+     * Temporary folder.
+     */
+    private Path temp;
+
+    /**
+     * Storage under test.
+     */
+    private Storage storage;
+
+    /**
+     * Create XMIR files.
+     * @throws Exception If fails.
+     */
+    @Setup
+    public void setup() throws Exception {
+        this.temp = Files.createTempDirectory("opeo-storage-benchmark");
+        final Path input = this.temp.resolve("xmir");
+        final byte[] xmir = new BytesOf(new ResourceOf("xmir/Bar.xmir")).asBytes();
+        for (int index = 0; index < this.files; ++index) {
+            final Path file = input.resolve(String.format("pckg%d/Bar%d.xmir", index % 10, index));
+            Files.createDirectories(file.getParent());
+            Files.write(file, xmir);
+        }
+        this.storage = new FileStorage(input, this.temp.resolve("output"));
+    }
+
+    /**
+     * Remove the temporary folder.
+     * @throws IOException If fails.
+     */
+    @TearDown
+    public void clean() throws IOException {
+        try (Stream<Path> all = Files.walk(this.temp)) {
+            all.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+        }
+    }
+
+    /**
+     * Read and parse all the files.
+     * @return Total number of programs.
+     */
+    @Benchmark
+    public long read() {
+        return this.storage.all().mapToLong(entry -> entry.xpath("/program/@name").size()).sum();
+    }
+
+    /**
+     * Read and write all the files.
+     * @return Number of written files.
+     */
+    @Benchmark
+    public int write() {
+        final List<XmirEntry> all = this.storage.all().collect(Collectors.toList());
+        all.forEach(this.storage::save);
+        return all.size();
+    }
+}
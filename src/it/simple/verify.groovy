@@ -29,4 +29,10 @@ assert log.contains("Hello, world!")
 def phi = new File(basedir, 'target/generated-sources/phi-expressions/org/eolang/opeo/simple/Doubles.phi')
 assert !phi.text.contains('IFGE')
 assert phi.text.contains('ifge')
+// Check that both goals saved their sections of the performance report.
+def report = new File(basedir, 'target/opeo-report.json')
+assert report.exists()
+assert report.text.contains('"decompile": {')
+assert report.text.contains('"compile": {')
+assert report.text.contains('"allocated_bytes"')
 true
\ No newline at end of file
@@ -25,13 +25,15 @@ package org.eolang.opeo;
 
 import com.jcabi.log.Logger;
 import java.io.File;
+import java.util.Date;
+import java.util.Objects;
 import org.apache.maven.plugin.AbstractMojo;
 import org.apache.maven.plugins.annotations.LifecyclePhase;
 import org.apache.maven.plugins.annotations.Mojo;
 import org.apache.maven.plugins.annotations.Parameter;
-import org.eolang.opeo.compilation.Compiler;
 import org.eolang.opeo.compilation.DummyCompiler;
-import org.eolang.opeo.compilation.SelectiveCompiler;
+import org.eolang.opeo.daemon.Client;
+import org.eolang.opeo.daemon.Job;
 
 /**
  * Compiles high-level EO representation into low-level representation.
@@ -82,15 +84,115 @@ public final class CompileMojo extends AbstractMojo {
     )
     private boolean disabled;
 
+    /**
+     * Glob patterns of XMIR files to process, relative to {@link #sourcesDir}.
+     * For example, {@code org/eolang/**}. If empty, all the files are processed.
+     *
+     * @since 0.5.0
+     */
+    @Parameter(property = "opeo.includes")
+    private String[] includes;
+
+    /**
+     * Glob patterns of XMIR files to skip, relative to {@link #sourcesDir}.
+     * For example, {@code **&#47;shaded/**}. Skipped files are never parsed,
+     * they are hard-linked or copied to {@link #outputDir} as is.
+     *
+     * @since 0.5.0
+     */
+    @Parameter(property = "opeo.excludes")
+    private String[] excludes;
+
+    /**
+     * Where to save the performance report of the run.
+     * Each goal of the build writes its own section of the JSON report.
+     *
+     * @since 0.5.0
+     */
+    @Parameter(
+        property = "opeo.report",
+        defaultValue = "${project.build.directory}/opeo-report.json"
+    )
+    private File report;
+
+    /**
+     * When the build started.
+     * Sections of the performance report written by earlier builds are dropped.
+     *
+     * @since 0.5.0
+     */
+    @Parameter(defaultValue = "${session.request.startTime}", readonly = true)
+    private Date started;
+
+    /**
+     * Endpoint file of the warm daemon.
+     * If the daemon is enabled by {@link #daemonEnabled} and it's running, see
+     * 'opeo:daemon' goal, the compilation is done by the daemon, otherwise it's done
+     * in the current JVM.
+     *
+     * @since 0.5.0
+     */
+    @Parameter(
+        property = "opeo.daemon.file",
+        defaultValue = "${user.home}/.m2/opeo-daemon.properties"
+    )
+    private File daemon;
+
+    /**
+     * Whether to send the compilation to the warm daemon, see 'opeo:daemon' goal.
+     * It's off by default, so the build never depends on a process started
+     * by somebody else.
+     *
+     * @since 0.5.0
+     * @checkstyle MemberNameCheck (6 lines)
+     */
+    @Parameter(
+        property = "opeo.daemon",
+        defaultValue = "false"
+    )
+    private boolean daemonEnabled;
+
+    /**
+     * How long to wait for the daemon to finish the compilation, in milliseconds.
+     * When the time is over, the compilation is done in the current JVM.
+     *
+     * @since 0.5.0
+     * @checkstyle MemberNameCheck (6 lines)
+     */
+    @Parameter(
+        property = "opeo.daemon.timeout",
+        defaultValue = "600000"
+    )
+    private int daemonTimeout;
+
+    /**
+     * Plugin version.
+     * The daemon of another plugin version doesn't accept jobs.
+     *
+     * @since 0.5.0
+     */
+    @Parameter(defaultValue = "${plugin.version}", readonly = true)
+    private String version;
+
     @Override
     public void execute() {
-        final Compiler compiler;
         if (this.disabled) {
             Logger.info(this, "Compiler is disabled");
-            compiler = new DummyCompiler(this.sourcesDir.toPath(), this.outputDir.toPath());
+            new DummyCompiler(this.sourcesDir.toPath(), this.outputDir.toPath()).compile();
         } else {
-            compiler = new SelectiveCompiler(this.sourcesDir.toPath(), this.outputDir.toPath());
+            final Job job = new Job("compile")
+                .with("sources", this.sourcesDir)
+                .with("output", this.outputDir)
+                .with("includes", this.includes)
+                .with("excludes", this.excludes)
+                .with("report", this.report)
+                .with("build", this.started);
+            if (!this.daemonEnabled || Objects.isNull(this.daemon)
+                || !new Client(
+                    this.daemon.toPath(), String.valueOf(this.version), this.daemonTimeout
+                ).run(job)) {
+                job.run();
+            }
         }
-        compiler.compile();
     }
 }
@@ -0,0 +1,92 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2023 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.opeo;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.apache.maven.plugin.AbstractMojo;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugins.annotations.Mojo;
+import org.apache.maven.plugins.annotations.Parameter;
+import org.eolang.opeo.daemon.Daemon;
+
+/**
+ * Starts the warm decompiler daemon.
+ * While the daemon is running, 'decompile' and 'compile' goals of the same plugin version
+ * send their work to it instead of warming up a new JVM on every build:
+ * <pre>
+ * mvn org.eolang:opeo-maven-plugin:daemon
+ * </pre>
+ * The daemon stops when nobody uses it during the idle timeout.
+ *
+ * @since 0.5
+ */
+@Mojo(name = "daemon", requiresProject = false)
+public final class DaemonMojo extends AbstractMojo {
+
+    /**
+     * Endpoint file of the daemon, where its port and token are saved.
+     *
+     * @since 0.5.0
+     */
+    @Parameter(
+        property = "opeo.daemon.file",
+        defaultValue = "${user.home}/.m2/opeo-daemon.properties"
+    )
+    private File file;
+
+    /**
+     * Idle timeout in minutes.
+     *
+     * @since 0.5.0
+     */
+    @Parameter(
+        property = "opeo.daemon.idle",
+        defaultValue = "60"
+    )
+    private int idle;
+
+    /**
+     * Plugin version.
+     * The daemon accepts jobs only from the same plugin version.
+     *
+     * @since 0.5.0
+     */
+    @Parameter(defaultValue = "${plugin.version}", readonly = true)
+    private String version;
+
+    @Override
+    public void execute() throws MojoExecutionException {
+        try {
+            new Daemon(
+                this.file.toPath(),
+                String.valueOf(this.version),
+                (int) TimeUnit.MINUTES.toMillis(this.idle)
+            ).serve();
+        } catch (final IOException exception) {
+            throw new MojoExecutionException("The daemon failed", exception);
+        }
+    }
+}
@@ -25,14 +25,15 @@ package org.eolang.opeo;
 
 import com.jcabi.log.Logger;
 import java.io.File;
+import java.util.Date;
 import java.util.Objects;
 import org.apache.maven.plugin.AbstractMojo;
 import org.apache.maven.plugins.annotations.LifecyclePhase;
 import org.apache.maven.plugins.annotations.Mojo;
 import org.apache.maven.plugins.annotations.Parameter;
-import org.eolang.opeo.decompilation.Decompiler;
+import org.eolang.opeo.daemon.Client;
+import org.eolang.opeo.daemon.Job;
 import org.eolang.opeo.decompilation.DummyDecompiler;
-import org.eolang.opeo.decompilation.NaiveDecompiler;
 
 /**
  * Decompiles bytecode in EO representation into high-level EO representation.
@@ -97,21 +98,235 @@ public final class DecompileMojo extends AbstractMojo {
     )
     private boolean disabled;
 
+    /**
+     * Glob patterns of XMIR files to process, relative to {@link #sourcesDir}.
+     * For example, {@code org/eolang/**}. If empty, all the files are processed.
+     *
+     * @since 0.5.0
+     */
+    @Parameter(property = "opeo.includes")
+    private String[] includes;
+
+    /**
+     * Glob patterns of XMIR files to skip, relative to {@link #sourcesDir}.
+     * For example, {@code **&#47;shaded/**}. Skipped files are never parsed,
+     * they are hard-linked or copied to {@link #outputDir} as is.
+     *
+     * @since 0.5.0
+     */
+    @Parameter(property = "opeo.excludes")
+    private String[] excludes;
+
+    /**
+     * Glob patterns of entry point XMIR files, like {@code org/example/Main.xmir}.
+     * If set, only classes reachable from these ones via method calls, static fields,
+     * object creation and inheritance are decompiled, the rest are copied as is.
+     * Classes created via reflection, like Spring beans, should be listed here too.
+     *
+     * @since 0.5.0
+     */
+    @Parameter(property = "opeo.decompile.roots")
+    private String[] roots;
+
+    /**
+     * Directory of the persistent cache of decompiled methods,
+     * used only if {@link #cacheEnabled} is set.
+     * The cache is shared between builds and between projects on the same machine.
+     * Methods that were already decompiled by the same plugin build are taken from
+     * the cache instead of being decompiled again. The build is identified by the plugin
+     * version together with a checksum of the plugin jar, so SNAPSHOT builds and local
+     * changes of the plugin never reuse each other's fragments.
+     *
+     * @since 0.5.0
+     * @checkstyle MemberNameCheck (6 lines)
+     */
+    @Parameter(
+        property = "opeo.decompile.cacheDir",
+        defaultValue = "${user.home}/.m2/opeo-cache"
+    )
+    private File cacheDir;
+
+    /**
+     * Maximum size of the persistent cache in megabytes.
+     * When the cache grows bigger, the least recently used methods are removed.
+     *
+     * @since 0.5.0
+     * @checkstyle MemberNameCheck (6 lines)
+     */
+    @Parameter(
+        property = "opeo.decompile.cacheSize",
+        defaultValue = "512"
+    )
+    private long cacheSize;
+
+    /**
+     * Whether the persistent cache is enabled.
+     * The cache is written to {@link #cacheDir}, outside the project, so it's off
+     * by default and decompiled methods are cached only in memory during one build.
+     *
+     * @since 0.5.0
+     * @checkstyle MemberNameCheck (6 lines)
+     */
+    @Parameter(
+        property = "opeo.decompile.cacheEnabled",
+        defaultValue = "false"
+    )
+    private boolean cacheEnabled;
+
+    /**
+     * Maximum number of decompilation steps per method.
+     * Methods that need more steps are kept as is.
+     * Zero or negative value means no limit.
+     *
+     * @since 0.5.0
+     * @checkstyle MemberNameCheck (6 lines)
+     */
+    @Parameter(
+        property = "opeo.decompile.budget.steps",
+        defaultValue = "1000000"
+    )
+    private long budgetSteps;
+
+    /**
+     * Maximum time in milliseconds spent on decompilation of one method.
+     * Methods that take longer are kept as is.
+     * Zero or negative value means no limit.
+     *
+     * @since 0.5.0
+     * @checkstyle MemberNameCheck (6 lines)
+     */
+    @Parameter(
+        property = "opeo.decompile.budget.millis",
+        defaultValue = "60000"
+    )
+    private long budgetMillis;
+
+    /**
+     * Plugin version.
+     * Cached methods decompiled by other builds of the plugin are not reused.
+     *
+     * @since 0.5.0
+     */
+    @Parameter(defaultValue = "${plugin.version}", readonly = true)
+    private String version;
+
+    /**
+     * Where to save the performance report of the run.
+     * Each goal of the build writes its own section of the JSON report.
+     *
+     * @since 0.5.0
+     */
+    @Parameter(
+        property = "opeo.report",
+        defaultValue = "${project.build.directory}/opeo-report.json"
+    )
+    private File report;
+
+    /**
+     * When the build started.
+     * Sections of the performance report written by earlier builds are dropped.
+     *
+     * @since 0.5.0
+     */
+    @Parameter(defaultValue = "${session.request.startTime}", readonly = true)
+    private Date started;
+
+    /**
+     * Whether to measure the time spent by each decompilation agent.
+     * Instructions handled by agents are always counted, but timing
+     * histograms cost two clock reads per instruction, so they are optional.
+     *
+     * @since 0.5.0
+     * @checkstyle MemberNameCheck (6 lines)
+     */
+    @Parameter(
+        property = "opeo.decompile.metrics.timing",
+        defaultValue = "false"
+    )
+    private boolean metricsTiming;
+
+    /**
+     * Endpoint file of the warm decompiler daemon.
+     * If the daemon is enabled by {@link #daemonEnabled} and it's running, see
+     * 'opeo:daemon' goal, the decompilation is done by the daemon, otherwise it's done
+     * in the current JVM.
+     *
+     * @since 0.5.0
+     */
+    @Parameter(
+        property = "opeo.daemon.file",
+        defaultValue = "${user.home}/.m2/opeo-daemon.properties"
+    )
+    private File daemon;
+
+    /**
+     * Whether to send the decompilation to the warm daemon, see 'opeo:daemon' goal.
+     * It's off by default, so the build never depends on a process started
+     * by somebody else.
+     *
+     * @since 0.5.0
+     * @checkstyle MemberNameCheck (6 lines)
+     */
+    @Parameter(
+        property = "opeo.daemon",
+        defaultValue = "false"
+    )
+    private boolean daemonEnabled;
+
+    /**
+     * How long to wait for the daemon to finish the decompilation, in milliseconds.
+     * When the time is over, the decompilation is done in the current JVM.
+     *
+     * @since 0.5.0
+     * @checkstyle MemberNameCheck (6 lines)
+     */
+    @Parameter(
+        property = "opeo.daemon.timeout",
+        defaultValue = "600000"
+    )
+    private int daemonTimeout;
+
     @Override
     public void execute() {
-        final Decompiler decompiler;
         if (this.disabled) {
             Logger.info(this, "Decompiler is disabled");
-            decompiler = new DummyDecompiler(this.sourcesDir.toPath(), this.outputDir.toPath());
-        } else if (Objects.nonNull(this.modifiedDir)) {
-            Logger.info(this, "Use selective decompiler");
-            decompiler = new SelectiveDecompiler(
-                this.sourcesDir.toPath(), this.outputDir.toPath(), this.modifiedDir.toPath()
-            );
+            new DummyDecompiler(this.sourcesDir.toPath(), this.outputDir.toPath()).decompile();
+        } else {
+            final Job job = this.job();
+            if (!this.daemonEnabled || Objects.isNull(this.daemon)
+                || !new Client(
+                    this.daemon.toPath(), String.valueOf(this.version), this.daemonTimeout
+                ).run(job)) {
+                job.run();
+            }
+        }
+    }
+
+    /**
+     * Decompilation job.
+     * @return Job with all the parameters of the goal.
+     */
+    private Job job() {
+        final File cache;
+        if (this.cacheEnabled) {
+            cache = this.cacheDir;
         } else {
-            Logger.info(this, "Use naive decompiler");
-            decompiler = new NaiveDecompiler(this.sourcesDir.toPath(), this.outputDir.toPath());
+            cache = null;
         }
-        decompiler.decompile();
+        return new Job("decompile")
+            .with("sources", this.sourcesDir)
+            .with("output", this.outputDir)
+            .with("modified", this.modifiedDir)
+            .with("cache.dir", cache)
+            .with("cache.size", this.cacheSize)
+            .with("version", this.version)
+            .with("budget.steps", this.budgetSteps)
+            .with("budget.millis", this.budgetMillis)
+            .with("metrics.timing", this.metricsTiming)
+            .with("includes", this.includes)
+            .with("excludes", this.excludes)
+            .with("roots", this.roots)
+            .with("report", this.report)
+            .with("build", this.started);
     }
 }
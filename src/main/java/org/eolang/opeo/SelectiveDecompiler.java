@@ -30,8 +30,11 @@ import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
 import org.eolang.opeo.decompilation.Decompiler;
+import org.eolang.opeo.decompilation.Progress;
+import org.eolang.opeo.decompilation.Settings;
 import org.eolang.opeo.decompilation.agents.AllAgents;
 import org.eolang.opeo.jeo.JeoDecompiler;
+import org.eolang.opeo.report.Meter;
 import org.eolang.opeo.storage.FileStorage;
 import org.eolang.opeo.storage.Storage;
 import org.eolang.opeo.storage.WithoutAliasesStorage;
@@ -62,6 +65,16 @@ public final class SelectiveDecompiler implements Decompiler {
      */
     private final String[] supported;
 
+    /**
+     * Progress of the decompilation run.
+     */
+    private final Progress progress;
+
+    /**
+     * Settings of the run: cache, budget, report and output of agents.
+     */
+    private final Settings settings;
+
     /**
      * Constructor.
      * @param input Input folder with XMIRs.
@@ -72,6 +85,32 @@ public final class SelectiveDecompiler implements Decompiler {
         this(input, output, modified, new AllAgents().supportedOpcodes());
     }
 
+    /**
+     * Constructor.
+     * @param input Input folder with XMIRs.
+     * @param output Output folder where to save the decompiled files.
+     * @param modified Folder where to save the modified XMIRs.
+     * @param settings Settings of the run.
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    public SelectiveDecompiler(
+        final Path input,
+        final Path output,
+        final Path modified,
+        final Settings settings
+    ) {
+        this(
+            new WithoutAliasesStorage(
+                new FileStorage(input, output, settings.report(), settings.filter()),
+                settings.report()
+            ),
+            new WithoutAliasesStorage(new FileStorage(modified, modified)),
+            settings,
+            new Progress.Journal(output),
+            new AllAgents().supportedOpcodes()
+        );
+    }
+
     /**
      * Constructor.
      * @param input Input folder with XMIRs.
@@ -110,37 +149,91 @@ public final class SelectiveDecompiler implements Decompiler {
      */
     public SelectiveDecompiler(
         final Storage storage, final Storage modified, final String... supported
+    ) {
+        this(storage, modified, new Settings(), new Progress.Memory(), supported);
+    }
+
+    /**
+     * Constructor.
+     * The filter of the settings isn't used here, the storage is expected to be filtered.
+     * @param storage Storage from which retrieve the XMIRs and where to save the modified ones.
+     * @param modified Storage where to save the modified of each decompiled file.
+     * @param settings Settings of the run.
+     * @param progress Progress of the decompilation run.
+     * @param supported Supported opcodes are used in selection.
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    public SelectiveDecompiler(
+        final Storage storage,
+        final Storage modified,
+        final Settings settings,
+        final Progress progress,
+        final String... supported
     ) {
         this.storage = storage;
         this.modified = modified;
+        this.progress = progress;
+        this.settings = settings;
         this.supported = supported.clone();
     }
 
     @Override
     public void decompile() {
-        this.storage.all().parallel().forEach(
-            entry -> {
-                final XmirEntry res;
-                final List<String> trycatches = entry.xpath(SelectiveDecompiler.trycatches());
-                final Set<String> opcodes = this.unsupported(entry);
-                if (opcodes.isEmpty() && trycatches.isEmpty()) {
-                    res = entry.transform(
-                        xml -> new JeoDecompiler(xml, entry.relative()).decompile()
-                    );
-                    this.modified.save(res);
-                } else {
-                    Logger.info(
-                        this,
-                        "Skipping %s, because of unsupported opcodes: %s, or try-catch blocks: %s",
-                        entry,
-                        opcodes,
-                        trycatches
-                    );
-                    res = entry;
-                }
-                this.storage.save(res);
+        this.storage.all()
+            .parallel()
+            .filter(entry -> !this.progress.done(entry))
+            .forEach(this::decompile);
+        Logger.info(this, "Decompilation %s", this.settings.cache().summary());
+        Logger.info(this, "Decompilation %s", this.settings.budget().summary());
+        Logger.info(this, "Decompilation finished: %s", this.progress.finish());
+    }
+
+    /**
+     * Decompile the entry if all its opcodes are supported.
+     * If the decompilation fails, the raw entry is saved as is, without parsing,
+     * and the failure is recorded, so one broken file doesn't stop the whole run.
+     * @param entry XMIR entry.
+     * @checkstyle IllegalCatch (50 lines)
+     */
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    private void decompile(final XmirEntry entry) {
+        final Meter meter = new Meter();
+        final XmirEntry res;
+        try {
+            final XmirEntry parsed = this.settings.report().stage(
+                "parse", () -> entry.transform(xml -> xml)
+            );
+            final List<String> trycatches = parsed.xpath(SelectiveDecompiler.trycatches());
+            final Set<String> opcodes = this.unsupported(parsed);
+            if (opcodes.isEmpty() && trycatches.isEmpty()) {
+                res = this.settings.report().stage(
+                    "decompile",
+                    () -> parsed.transform(
+                        xml -> new JeoDecompiler(
+                            xml, entry.relative(), this.settings
+                        ).decompile()
+                    )
+                );
+                this.modified.save(res);
+            } else {
+                Logger.info(
+                    this,
+                    "Skipping %s, because of unsupported opcodes: %s, or try-catch blocks: %s",
+                    entry,
+                    opcodes,
+                    trycatches
+                );
+                this.settings.report().skipped();
+                res = entry;
             }
-        );
+            this.storage.save(res);
+            this.progress.completed(entry);
+        } catch (final Exception exception) {
+            this.progress.failed(entry, exception);
+            this.settings.report().failed();
+            this.storage.save(entry.verbatim());
+        }
+        this.settings.report().file(entry.relative(), meter);
     }
 
     /**
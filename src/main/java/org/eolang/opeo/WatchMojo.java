@@ -0,0 +1,248 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2023 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.opeo;
+
+import java.io.File;
+import java.util.Objects;
+import org.apache.maven.plugin.AbstractMojo;
+import org.apache.maven.plugins.annotations.Mojo;
+import org.apache.maven.plugins.annotations.Parameter;
+import org.eolang.opeo.decompilation.Budget;
+import org.eolang.opeo.decompilation.Fingerprint;
+import org.eolang.opeo.decompilation.MethodsCache;
+import org.eolang.opeo.decompilation.PersistentMethodsCache;
+import org.eolang.opeo.decompilation.Settings;
+import org.eolang.opeo.storage.DummyStorage;
+import org.eolang.opeo.storage.FileStorage;
+import org.eolang.opeo.storage.Filter;
+import org.eolang.opeo.storage.Storage;
+import org.eolang.opeo.storage.WithoutAliasesStorage;
+
+/**
+ * Watches jeo XMIRs and decompiles changed files continuously.
+ * It's handy when only a few classes are regenerated at a time:
+ * <pre>
+ * mvn opeo:watch
+ * </pre>
+ * Stop it with Ctrl+C.
+ *
+ * @since 0.5
+ */
+@Mojo(name = "watch")
+public final class WatchMojo extends AbstractMojo {
+
+    /**
+     * Source directory.
+     * Where to take jeo xmir from.
+     *
+     * @since 0.5.0
+     * @checkstyle MemberNameCheck (6 lines)
+     */
+    @Parameter(
+        property = "opeo.decompile.sourcesDir",
+        defaultValue = "${project.build.directory}/generated-sources/jeo-xmir"
+    )
+    private File sourcesDir;
+
+    /**
+     * Target directory.
+     * Where to save opeo decompiler representations to.
+     *
+     * @since 0.5.0
+     * @checkstyle MemberNameCheck (6 lines)
+     */
+    @Parameter(
+        property = "opeo.decompile.outputDir",
+        defaultValue = "${project.build.directory}/generated-sources/opeo-xmir"
+    )
+    private File outputDir;
+
+    /**
+     * Directory where modified XMIRs are stored.
+     *
+     * @since 0.5.0
+     * @checkstyle MemberNameCheck (6 lines)
+     */
+    @Parameter(property = "opeo.decompile.modifiedDir")
+    private File modifiedDir;
+
+    /**
+     * Debounce period in milliseconds.
+     * Changed files are decompiled when no more changes come during this period.
+     *
+     * @since 0.5.0
+     */
+    @Parameter(
+        property = "opeo.watch.debounce",
+        defaultValue = "200"
+    )
+    private long debounce;
+
+    /**
+     * Maximum number of decompilation steps of a single method.
+     *
+     * @since 0.5.0
+     * @checkstyle MemberNameCheck (6 lines)
+     */
+    @Parameter(
+        property = "opeo.decompile.budget.steps",
+        defaultValue = "1000000"
+    )
+    private long budgetSteps;
+
+    /**
+     * Maximum time of decompilation of a single method in milliseconds.
+     *
+     * @since 0.5.0
+     * @checkstyle MemberNameCheck (6 lines)
+     */
+    @Parameter(
+        property = "opeo.decompile.budget.millis",
+        defaultValue = "60000"
+    )
+    private long budgetMillis;
+
+    /**
+     * Glob patterns of XMIR files to process, relative to {@link #sourcesDir}.
+     * If empty, all the files are processed.
+     *
+     * @since 0.5.0
+     */
+    @Parameter(property = "opeo.includes")
+    private String[] includes;
+
+    /**
+     * Glob patterns of XMIR files to skip, relative to {@link #sourcesDir}.
+     * Skipped files are copied to {@link #outputDir} as is.
+     *
+     * @since 0.5.0
+     */
+    @Parameter(property = "opeo.excludes")
+    private String[] excludes;
+
+    /**
+     * Directory of the persistent cache of decompiled methods,
+     * the same as the one of the 'decompile' goal.
+     *
+     * @since 0.5.0
+     * @checkstyle MemberNameCheck (6 lines)
+     */
+    @Parameter(
+        property = "opeo.decompile.cacheDir",
+        defaultValue = "${user.home}/.m2/opeo-cache"
+    )
+    private File cacheDir;
+
+    /**
+     * Maximum size of the persistent cache in megabytes.
+     *
+     * @since 0.5.0
+     * @checkstyle MemberNameCheck (6 lines)
+     */
+    @Parameter(
+        property = "opeo.decompile.cacheSize",
+        defaultValue = "512"
+    )
+    private long cacheSize;
+
+    /**
+     * Whether the persistent cache is enabled.
+     * The cache is written to {@link #cacheDir}, outside the project, so it's off
+     * by default and decompiled methods are cached only in memory while watching.
+     *
+     * @since 0.5.0
+     * @checkstyle MemberNameCheck (6 lines)
+     */
+    @Parameter(
+        property = "opeo.decompile.cacheEnabled",
+        defaultValue = "false"
+    )
+    private boolean cacheEnabled;
+
+    /**
+     * Plugin version.
+     * Cached methods decompiled by other builds of the plugin are not reused.
+     *
+     * @since 0.5.0
+     */
+    @Parameter(defaultValue = "${plugin.version}", readonly = true)
+    private String version;
+
+    @Override
+    public void execute() {
+        final Storage modified;
+        if (Objects.isNull(this.modifiedDir)) {
+            modified = new DummyStorage();
+        } else {
+            modified = new WithoutAliasesStorage(
+                new FileStorage(this.modifiedDir.toPath(), this.modifiedDir.toPath())
+            );
+        }
+        new WatchingDecompiler(
+            this.sourcesDir.toPath(),
+            this.outputDir.toPath(),
+            modified,
+            this.debounce,
+            new Settings()
+                .cache(this.cache())
+                .budget(new Budget(this.budgetSteps, this.budgetMillis))
+                .filter(
+                    new Filter(WatchMojo.globs(this.includes), WatchMojo.globs(this.excludes))
+                )
+        ).decompile();
+    }
+
+    /**
+     * Cache of decompiled methods.
+     * @return Persistent cache, unless it's disabled.
+     */
+    private MethodsCache cache() {
+        final MethodsCache result;
+        if (!this.cacheEnabled || Objects.isNull(this.cacheDir)) {
+            result = new MethodsCache.Memory();
+        } else {
+            result = new PersistentMethodsCache(
+                this.cacheDir.toPath(),
+                new Fingerprint(String.valueOf(this.version)).value(),
+                this.cacheSize * 1024L * 1024L
+            );
+        }
+        return result;
+    }
+
+    /**
+     * Comma-separated glob patterns.
+     * @param patterns Patterns, might be null.
+     * @return Patterns joined by commas, empty if there are none.
+     */
+    private static String globs(final String... patterns) {
+        final String result;
+        if (Objects.isNull(patterns)) {
+            result = "";
+        } else {
+            result = String.join(",", patterns);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,391 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2023 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.opeo;
+
+import com.jcabi.log.Logger;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.eolang.opeo.decompilation.Budget;
+import org.eolang.opeo.decompilation.Decompiler;
+import org.eolang.opeo.decompilation.PersistentMethodsCache;
+import org.eolang.opeo.decompilation.Progress;
+import org.eolang.opeo.decompilation.Settings;
+import org.eolang.opeo.decompilation.agents.AllAgents;
+import org.eolang.opeo.report.Report;
+import org.eolang.opeo.storage.FileStorage;
+import org.eolang.opeo.storage.SelectedStorage;
+import org.eolang.opeo.storage.Storage;
+import org.eolang.opeo.storage.WithoutAliasesStorage;
+
+/**
+ * Watching decompiler.
+ * <p>
+ *     Watches the input folder and decompiles only changed XMIR files, the same way
+ *     as {@link SelectiveDecompiler} does. Change events are debounced: files are
+ *     decompiled when no more events come during the debounce period, so a class
+ *     regenerated by several writes is decompiled once. The cache of decompiled methods
+ *     and the supported opcodes are shared between all the batches, so the JVM stays
+ *     warm while the developer works. Files rejected by the filter of the settings are
+ *     copied as is. Outputs of deleted files and folders are deleted too.
+ * </p>
+ * <p>
+ *     If the input folder itself is deleted, for example by 'mvn clean', the decompiler
+ *     waits until the folder comes back and decompiles all its files again.
+ * </p>
+ * <p>
+ *     The decompiler works until the current thread is interrupted.
+ * </p>
+ * @since 0.5
+ */
+public final class WatchingDecompiler implements Decompiler {
+
+    /**
+     * Input folder with XMIRs.
+     */
+    private final Path input;
+
+    /**
+     * Output folder where to save the decompiled files.
+     */
+    private final Path output;
+
+    /**
+     * Where to save the modified XMIRs.
+     */
+    private final Storage modified;
+
+    /**
+     * Debounce period in milliseconds.
+     */
+    private final long debounce;
+
+    /**
+     * Settings shared between batches: the cache of decompiled methods,
+     * the budget of a single method and the filter of files.
+     */
+    private final Settings settings;
+
+    /**
+     * Supported opcodes.
+     */
+    private final String[] supported;
+
+    /**
+     * Constructor.
+     * @param input Input folder with XMIRs.
+     * @param output Output folder where to save the decompiled files.
+     * @param modified Where to save the modified XMIRs.
+     * @param debounce Debounce period in milliseconds.
+     * @param budget Decompilation budget of a single method.
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    public WatchingDecompiler(
+        final Path input,
+        final Path output,
+        final Storage modified,
+        final long debounce,
+        final Budget budget
+    ) {
+        this(input, output, modified, debounce, new Settings().budget(budget));
+    }
+
+    /**
+     * Constructor.
+     * @param input Input folder with XMIRs.
+     * @param output Output folder where to save the decompiled files.
+     * @param modified Where to save the modified XMIRs.
+     * @param debounce Debounce period in milliseconds.
+     * @param settings Cache, budget and filter shared between batches,
+     *  the report is created for each batch.
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    public WatchingDecompiler(
+        final Path input,
+        final Path output,
+        final Storage modified,
+        final long debounce,
+        final Settings settings
+    ) {
+        this.input = input.toAbsolutePath().normalize();
+        this.output = output;
+        this.modified = modified;
+        this.debounce = debounce;
+        this.settings = settings;
+        this.supported = new AllAgents().supportedOpcodes();
+    }
+
+    @Override
+    public void decompile() {
+        try (WatchService watch = FileSystems.getDefault().newWatchService()) {
+            WatchingDecompiler.register(watch, this.input);
+            Logger.info(this, "Watching %[file]s for changes", this.input);
+            while (!Thread.currentThread().isInterrupted()) {
+                final Set<Path> changed = this.changes(watch);
+                if (!changed.isEmpty()) {
+                    this.batch(changed);
+                }
+            }
+        } catch (final InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            Logger.info(this, "Stopped watching %[file]s", this.input);
+        } catch (final IOException exception) {
+            throw new IllegalStateException(
+                String.format("Can't watch the '%s' folder", this.input),
+                exception
+            );
+        }
+    }
+
+    /**
+     * Wait for changes and collect them until the debounce period passes without events.
+     * @param watch Watch service.
+     * @return Changed files and deleted files and folders.
+     * @throws InterruptedException If interrupted.
+     */
+    private Set<Path> changes(final WatchService watch) throws InterruptedException {
+        final Set<Path> changed = new TreeSet<>();
+        WatchKey key = watch.take();
+        while (key != null) {
+            final Path dir = (Path) key.watchable();
+            for (final WatchEvent<?> event : key.pollEvents()) {
+                if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                    changed.addAll(WatchingDecompiler.added(watch, this.input));
+                } else {
+                    final Path path = dir.resolve((Path) event.context());
+                    if (Files.isDirectory(path)) {
+                        changed.addAll(WatchingDecompiler.added(watch, path));
+                    } else if (event.kind() == StandardWatchEventKinds.ENTRY_DELETE
+                        || WatchingDecompiler.isXmir(path)) {
+                        changed.add(path);
+                    }
+                }
+            }
+            if (!key.reset() && dir.equals(this.input)) {
+                changed.addAll(this.restore(watch));
+            }
+            key = watch.poll(this.debounce, TimeUnit.MILLISECONDS);
+        }
+        return changed;
+    }
+
+    /**
+     * Wait until the deleted input folder comes back and watch it again.
+     * @param watch Watch service.
+     * @return All XMIR files of the folder.
+     * @throws InterruptedException If interrupted.
+     */
+    private List<Path> restore(final WatchService watch) throws InterruptedException {
+        Logger.warn(
+            this,
+            "The folder %[file]s is not watched anymore, waiting until it comes back",
+            this.input
+        );
+        List<Path> result = Collections.emptyList();
+        boolean watched = false;
+        while (!watched) {
+            Thread.sleep(Math.max(this.debounce, 100L));
+            if (Files.isDirectory(this.input)) {
+                try {
+                    WatchingDecompiler.register(watch, this.input);
+                    result = WatchingDecompiler.files(this.input);
+                    watched = true;
+                } catch (final IOException | UncheckedIOException exception) {
+                    Logger.debug(this, "Can't watch %[file]s yet: %s", this.input, exception);
+                }
+            }
+        }
+        Logger.info(this, "Watching %[file]s again", this.input);
+        return result;
+    }
+
+    /**
+     * Decompile a batch of changed files.
+     * A failed batch doesn't stop watching, the next change will be decompiled anyway.
+     * @param changed Changed files.
+     * @checkstyle IllegalCatch (10 lines)
+     */
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    private void batch(final Set<Path> changed) {
+        try {
+            this.decompile(changed);
+        } catch (final Exception exception) {
+            Logger.warn(this, "Failed to decompile %s: %[exception]s", changed, exception);
+        }
+    }
+
+    /**
+     * Decompile changed files and remove outputs of the deleted ones.
+     * @param changed Changed files.
+     * @throws IOException If fails to delete an output.
+     */
+    private void decompile(final Set<Path> changed) throws IOException {
+        final long start = System.nanoTime();
+        final List<Path> existing = new ArrayList<>(changed.size());
+        int deleted = 0;
+        for (final Path path : changed) {
+            if (Files.isRegularFile(path)) {
+                existing.add(path);
+            } else if (!Files.exists(path)) {
+                this.remove(path);
+                ++deleted;
+            }
+        }
+        final Report report = new Report();
+        new SelectiveDecompiler(
+            new WithoutAliasesStorage(
+                new SelectedStorage(
+                    this.input,
+                    existing,
+                    new FileStorage(this.input, this.output, report),
+                    this.settings.filter()
+                ),
+                report
+            ),
+            this.modified,
+            this.settings.report(report),
+            new Progress.Memory(),
+            this.supported
+        ).decompile();
+        if (this.settings.cache() instanceof PersistentMethodsCache) {
+            ((PersistentMethodsCache) this.settings.cache()).prune();
+        }
+        Logger.info(
+            this,
+            "Decompiled %d changed files and removed outputs of %d deleted ones in %[nano]s",
+            existing.size(),
+            deleted,
+            System.nanoTime() - start
+        );
+    }
+
+    /**
+     * Remove the output of a deleted file or folder.
+     * @param path Deleted file or folder in the input folder.
+     * @throws IOException If fails to delete.
+     */
+    private void remove(final Path path) throws IOException {
+        final Path out = this.output.resolve(this.input.relativize(path).toString());
+        if (Files.isDirectory(out)) {
+            try (Stream<Path> all = Files.walk(out)) {
+                for (final Path sub : all.sorted(Comparator.reverseOrder())
+                    .collect(Collectors.toList())) {
+                    Files.deleteIfExists(sub);
+                }
+            }
+        } else if (WatchingDecompiler.isXmir(path)) {
+            Files.deleteIfExists(out);
+        }
+    }
+
+    /**
+     * Watch a new folder and find its XMIR files.
+     * The folder might be already deleted when the event comes, then it's skipped:
+     * its deletion comes as a separate event.
+     * @param watch Watch service.
+     * @param dir Folder.
+     * @return XMIR files of the folder.
+     */
+    private static List<Path> added(final WatchService watch, final Path dir) {
+        List<Path> result;
+        try {
+            WatchingDecompiler.register(watch, dir);
+            result = WatchingDecompiler.files(dir);
+        } catch (final IOException | UncheckedIOException exception) {
+            Logger.warn(
+                WatchingDecompiler.class,
+                "Can't watch %[file]s, it's skipped: %s",
+                dir,
+                exception.getMessage()
+            );
+            result = Collections.emptyList();
+        }
+        return result;
+    }
+
+    /**
+     * Register the folder and all its subfolders.
+     * Subfolders deleted in the meantime are skipped.
+     * @param watch Watch service.
+     * @param dir Folder.
+     * @throws IOException If fails.
+     */
+    private static void register(final WatchService watch, final Path dir) throws IOException {
+        try (Stream<Path> dirs = Files.walk(dir)) {
+            for (final Path sub : dirs.filter(Files::isDirectory).collect(Collectors.toList())) {
+                try {
+                    sub.register(
+                        watch,
+                        StandardWatchEventKinds.ENTRY_CREATE,
+                        StandardWatchEventKinds.ENTRY_MODIFY,
+                        StandardWatchEventKinds.ENTRY_DELETE
+                    );
+                } catch (final NoSuchFileException exception) {
+                    Logger.debug(
+                        WatchingDecompiler.class, "Folder %[file]s is already deleted", sub
+                    );
+                }
+            }
+        }
+    }
+
+    /**
+     * All XMIR files in the folder.
+     * @param dir Folder.
+     * @return XMIR files.
+     * @throws IOException If fails.
+     */
+    private static List<Path> files(final Path dir) throws IOException {
+        try (Stream<Path> files = Files.walk(dir)) {
+            return files.filter(Files::isRegularFile)
+                .filter(WatchingDecompiler::isXmir)
+                .collect(Collectors.toList());
+        }
+    }
+
+    /**
+     * Check if the file is XMIR.
+     * @param path Path to the file.
+     * @return True if the file is XMIR.
+     */
+    private static boolean isXmir(final Path path) {
+        return path.toString().endsWith(".xmir");
+    }
+}
@@ -36,9 +36,9 @@ import org.eolang.opeo.compilation.Parser;
 public final class Arguments {
 
     /**
-     * Root node.
+     * Children of the root node.
      */
-    private final XmlNode root;
+    private final Children children;
 
     /**
      * Parser that understands how to parse subnodes.
@@ -58,7 +58,17 @@ public final class Arguments {
      * @param begin Begin index.
      */
     public Arguments(final XmlNode root, final Parser parser, final int begin) {
-        this.root = root;
+        this(new Children(root), parser, begin);
+    }
+
+    /**
+     * Constructor.
+     * @param children Children of the root node.
+     * @param parser Parser that understands how to parse subnodes.
+     * @param begin Begin index.
+     */
+    public Arguments(final Children children, final Parser parser, final int begin) {
+        this.children = children;
         this.parser = parser;
         this.begin = begin;
     }
@@ -68,15 +78,12 @@ public final class Arguments {
      * @return List of arguments.
      */
     public List<AstNode> toList() {
-        final List<XmlNode> all = this.root.children().collect(Collectors.toList());
+        final List<XmlNode> rest = this.children.from(this.begin);
         final List<AstNode> arguments;
-        if (all.size() > this.begin) {
-            arguments = all.subList(this.begin, all.size())
-                .stream()
-                .map(this.parser::parse)
-                .collect(Collectors.toList());
-        } else {
+        if (rest.isEmpty()) {
             arguments = Collections.emptyList();
+        } else {
+            arguments = rest.stream().map(this.parser::parse).collect(Collectors.toList());
         }
         return arguments;
     }
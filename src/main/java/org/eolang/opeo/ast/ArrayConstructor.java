@@ -25,13 +25,12 @@ package org.eolang.opeo.ast;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
 import org.eolang.jeo.representation.directives.DirectivesData;
-import org.eolang.jeo.representation.xmir.HexString;
 import org.eolang.jeo.representation.xmir.XmlNode;
 import org.eolang.opeo.compilation.Parser;
+import org.eolang.opeo.jeo.Hex;
 import org.objectweb.asm.Opcodes;
 import org.objectweb.asm.Type;
 import org.xembly.Directive;
@@ -61,10 +60,7 @@ public final class ArrayConstructor implements AstNode, Typed {
      * @param parser Parser that will be used to parse the child nodes of the array constructor.
      */
     public ArrayConstructor(final XmlNode node, final Parser parser) {
-        this(
-            parser.parse(node.children().collect(Collectors.toList()).get(1)),
-            new HexString(node.firstChild().text()).decode()
-        );
+        this(new Children(node), parser);
     }
 
     /**
@@ -77,6 +73,15 @@ public final class ArrayConstructor implements AstNode, Typed {
         this.atype = type;
     }
 
+    /**
+     * Constructor.
+     * @param children Children of Xmir representation of an array constructor.
+     * @param parser Parser that will be used to parse the child nodes of the array constructor.
+     */
+    private ArrayConstructor(final Children children, final Parser parser) {
+        this(parser.parse(children.get(1)), new Hex(children.get(0).text()).string());
+    }
+
     @Override
     public Iterable<Directive> toXmir() {
         final Directives directives = new Directives();
@@ -90,11 +95,16 @@ public final class ArrayConstructor implements AstNode, Typed {
     @Override
     public List<AstNode> opcodes() {
         final List<AstNode> res = new ArrayList<>(0);
-        res.addAll(this.size.opcodes());
-        res.add(new Opcode(Opcodes.ANEWARRAY, this.atype));
+        this.emit(res);
         return res;
     }
 
+    @Override
+    public void emit(final List<AstNode> sink) {
+        this.size.emit(sink);
+        sink.add(new Opcode(Opcodes.ANEWARRAY, this.atype));
+    }
+
     @Override
     public Type type() {
         return Type.getType(String.format("[L%s;", this.atype));
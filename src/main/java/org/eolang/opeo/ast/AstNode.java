@@ -41,6 +41,17 @@ public interface AstNode extends Xmir {
      */
     List<AstNode> opcodes();
 
+    /**
+     * Append bytecode instructions to the sink.
+     * Composite nodes override this method to let their children append opcodes
+     * to the same sink, so the opcodes of a deep expression tree are not copied
+     * once per ancestor.
+     * @param sink Where to append opcodes.
+     */
+    default void emit(final List<AstNode> sink) {
+        sink.addAll(this.opcodes());
+    }
+
     /**
      * Empty node that does nothing.
      * @since 0.2
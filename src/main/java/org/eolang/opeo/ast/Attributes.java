@@ -28,18 +28,23 @@ import java.util.Arrays;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.TreeMap;
-import java.util.regex.Pattern;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 import lombok.EqualsAndHashCode;
 import org.cactoos.map.MapEntry;
 import org.eolang.jeo.representation.directives.DirectivesData;
-import org.eolang.jeo.representation.xmir.HexString;
 import org.eolang.jeo.representation.xmir.XmlNode;
+import org.eolang.opeo.jeo.Hex;
 import org.xembly.Directives;
 
 /**
  * Type attributes of AST nodes.
  * This class is useful when we need to preserve the information about types of AST nodes.
+ * <p>
+ *     Attributes are immutable: setters return a modified copy. So the attributes parsed
+ *     from XMIR are cached by their raw hex text and shared between all the nodes of the same
+ *     call site, see {@link #Attributes(XmlNode)}.
+ * </p>
  * @since 0.1
  */
 @SuppressWarnings("PMD.TooManyMethods")
@@ -47,12 +52,18 @@ import org.xembly.Directives;
 public final class Attributes implements Xmir {
 
     /**
-     * New line pattern for replacing redundant symbols from hex strings.
+     * Maximum number of cached attributes parsed from XMIR.
      */
-    private static final Pattern NEW_LINE = Pattern.compile("\n", Pattern.LITERAL);
+    private static final int LIMIT = 10_000;
+
+    /**
+     * Attributes parsed from XMIR, by raw hex text.
+     */
+    private static final Map<String, Attributes> PARSED = new ConcurrentHashMap<>(0);
 
     /**
      * All attributes.
+     * The map is never changed after construction.
      */
     private final Map<String, String> all;
 
@@ -74,10 +85,11 @@ public final class Attributes implements Xmir {
 
     /**
      * Constructor.
+     * Repeated attributes are parsed only once, see {@link #parsed(XmlNode)}.
      * @param node Xmir representation of attributes.
      */
     public Attributes(final XmlNode node) {
-        this(Attributes.fromXmir(node));
+        this(Attributes.parsed(node));
     }
 
     /**
@@ -88,6 +100,14 @@ public final class Attributes implements Xmir {
         this.all = new TreeMap<>(all);
     }
 
+    /**
+     * Constructor.
+     * @param origin Attributes to share, they are immutable.
+     */
+    private Attributes(final Attributes origin) {
+        this.all = origin.all;
+    }
+
     @Override
     public Directives toXmir() {
         return new Directives(new DirectivesData(this.toString()));
@@ -111,11 +131,10 @@ public final class Attributes implements Xmir {
     /**
      * Set descriptor attribute.
      * @param descriptor Descriptor
-     * @return This object
+     * @return New attributes
      */
     public Attributes descriptor(final String descriptor) {
-        this.all.put("descriptor", descriptor);
-        return this;
+        return this.with("descriptor", descriptor);
     }
 
     /**
@@ -129,11 +148,10 @@ public final class Attributes implements Xmir {
     /**
      * Set type attribute.
      * @param type Type
-     * @return This object
+     * @return New attributes
      */
     public Attributes type(final String type) {
-        this.all.put("type", type);
-        return this;
+        return this.with("type", type);
     }
 
     /**
@@ -147,11 +165,10 @@ public final class Attributes implements Xmir {
     /**
      * Set owner attribute.
      * @param owner Owner
-     * @return This object
+     * @return New attributes
      */
     public Attributes owner(final String owner) {
-        this.all.put("owner", owner);
-        return this;
+        return this.with("owner", owner);
     }
 
     /**
@@ -165,11 +182,10 @@ public final class Attributes implements Xmir {
     /**
      * Set name attribute.
      * @param name Name
-     * @return This object
+     * @return New attributes
      */
     public Attributes name(final String name) {
-        this.all.put("name", name);
-        return this;
+        return this.with("name", name);
     }
 
     /**
@@ -190,11 +206,22 @@ public final class Attributes implements Xmir {
     /**
      * Set interfaced attribute.
      * @param interfaced Interfaced method or not
-     * @return This object
+     * @return New attributes
      */
     public Attributes interfaced(final boolean interfaced) {
-        this.all.put("interfaced", Boolean.toString(interfaced));
-        return this;
+        return this.with("interfaced", Boolean.toString(interfaced));
+    }
+
+    /**
+     * Copy with one more attribute.
+     * @param key Attribute key
+     * @param value Attribute value
+     * @return New attributes
+     */
+    private Attributes with(final String key, final String value) {
+        final Attributes result = new Attributes(this.all);
+        result.all.put(key, value);
+        return result;
     }
 
     /**
@@ -235,6 +262,29 @@ public final class Attributes implements Xmir {
         return result;
     }
 
+    /**
+     * Attributes parsed from XMIR.
+     * The same attributes, like 'type=static|owner=java/lang/String|...', repeat in
+     * many call sites, so parsed attributes are cached by their raw hex text. The cache
+     * is bounded: when it's full, new attributes are parsed but not cached.
+     * @param node Xmir node attribute.
+     * @return Attributes.
+     */
+    private static Attributes parsed(final XmlNode node) {
+        final String raw = node.text();
+        final Attributes cached = Attributes.PARSED.get(raw);
+        final Attributes result;
+        if (cached == null) {
+            result = new Attributes(Attributes.fromXmir(node));
+            if (Attributes.PARSED.size() < Attributes.LIMIT) {
+                Attributes.PARSED.putIfAbsent(raw, result);
+            }
+        } else {
+            result = cached;
+        }
+        return result;
+    }
+
     /**
      * Parse attributes from XMIR.
      * In the new method attributes are placed as a first data element.
@@ -244,9 +294,7 @@ public final class Attributes implements Xmir {
     private static String fromXmir(final XmlNode node) {
         final String original = node.text();
         try {
-            return Attributes.NEW_LINE.matcher(
-                new HexString(original.trim()).decode()
-            ).replaceAll("");
+            return new Hex(original).oneline();
         } catch (final NumberFormatException exception) {
             throw new IllegalArgumentException(
                 String.format(
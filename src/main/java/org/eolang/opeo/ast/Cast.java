@@ -24,15 +24,13 @@
 package org.eolang.opeo.ast;
 
 import java.util.ArrayList;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.function.Function;
-import java.util.stream.Collectors;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
 import org.eolang.jeo.representation.directives.DirectivesData;
-import org.eolang.jeo.representation.xmir.HexString;
 import org.eolang.jeo.representation.xmir.XmlNode;
+import org.eolang.opeo.jeo.Hex;
 import org.objectweb.asm.Opcodes;
 import org.objectweb.asm.Type;
 import org.xembly.Directive;
@@ -64,7 +62,7 @@ public final class Cast implements AstNode, Typed {
      * @param target Function to determine the origin node.
      */
     public Cast(final XmlNode node, final Function<XmlNode, AstNode> target) {
-        this(Cast.xtarget(node), Cast.xorigin(node, target));
+        this(new Children(node), target);
     }
 
     /**
@@ -78,6 +76,16 @@ public final class Cast implements AstNode, Typed {
         this.target = target;
     }
 
+    /**
+     * Constructor.
+     *
+     * @param children Children of XML node
+     * @param target Function to determine the origin node.
+     */
+    private Cast(final Children children, final Function<XmlNode, AstNode> target) {
+        this(Cast.xtarget(children), target.apply(children.get(0)));
+    }
+
     @Override
     public Iterable<Directive> toXmir() {
         return new Directives()
@@ -89,10 +97,15 @@ public final class Cast implements AstNode, Typed {
 
     @Override
     public List<AstNode> opcodes() {
-        final List<AstNode> opcodes = new ArrayList<>(3);
-        opcodes.addAll(this.origin.opcodes());
-        opcodes.add(this.opcode());
-        return opcodes;
+        final List<AstNode> res = new ArrayList<>(0);
+        this.emit(res);
+        return res;
+    }
+
+    @Override
+    public void emit(final List<AstNode> sink) {
+        this.origin.emit(sink);
+        sink.add(this.opcode());
     }
 
     @Override
@@ -159,37 +172,10 @@ public final class Cast implements AstNode, Typed {
     /**
      * Prestructor for Cast#target.
      *
-     * @param node XML node
+     * @param children Children of XML node
      * @return Target type.
      */
-    private static Type xtarget(final XmlNode node) {
-        return Type.getType(
-            new HexString(
-                node.children()
-                    .collect(Collectors.toCollection(LinkedList::new))
-                    .getLast()
-                    .text()
-            ).decode()
-        );
-    }
-
-    /**
-     * Prestructor for Cast#origin.
-     *
-     * @param node XML node
-     * @param target Function to determine the origin node.
-     * @return Origin node.
-     */
-    private static AstNode xorigin(
-        final XmlNode node,
-        final Function<? super XmlNode, ? extends AstNode> target
-    ) {
-        return target.apply(
-            node.children().findFirst().orElseThrow(
-                () -> new IllegalArgumentException(
-                    String.format("Can't retrieve first child node from the node %s", node)
-                )
-            )
-        );
+    private static Type xtarget(final Children children) {
+        return Type.getType(new Hex(children.last().text()).string());
     }
 }
@@ -25,11 +25,10 @@ package org.eolang.opeo.ast;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
 import org.eolang.jeo.representation.directives.DirectivesData;
-import org.eolang.jeo.representation.xmir.HexString;
 import org.eolang.jeo.representation.xmir.XmlNode;
 import org.eolang.opeo.compilation.Parser;
+import org.eolang.opeo.jeo.Hex;
 import org.objectweb.asm.Opcodes;
 import org.objectweb.asm.Type;
 import org.xembly.Directive;
@@ -57,7 +56,7 @@ public final class CheckCast implements AstNode, Typed {
      * @param parser Parser to use.
      */
     public CheckCast(final XmlNode node, final Parser parser) {
-        this(CheckCast.xtype(node), CheckCast.xvalue(node, parser));
+        this(new Children(node), parser);
     }
 
     /**
@@ -70,6 +69,15 @@ public final class CheckCast implements AstNode, Typed {
         this.value = value;
     }
 
+    /**
+     * Constructor.
+     * @param children Children of XMIR node to parse.
+     * @param parser Parser to use.
+     */
+    private CheckCast(final Children children, final Parser parser) {
+        this(CheckCast.xtype(children), parser.parse(children.get(1)));
+    }
+
     @Override
     public Iterable<Directive> toXmir() {
         return new Directives().add("o").attr("base", "checkcast")
@@ -80,41 +88,28 @@ public final class CheckCast implements AstNode, Typed {
 
     @Override
     public List<AstNode> opcodes() {
-        final List<AstNode> res = new ArrayList<>(1);
-        res.addAll(this.value.opcodes());
-        res.add(new Opcode(Opcodes.CHECKCAST, this.ctype.getInternalName()));
+        final List<AstNode> res = new ArrayList<>(0);
+        this.emit(res);
         return res;
     }
 
     @Override
-    public Type type() {
-        return this.ctype;
+    public void emit(final List<AstNode> sink) {
+        this.value.emit(sink);
+        sink.add(new Opcode(Opcodes.CHECKCAST, this.ctype.getInternalName()));
     }
 
-    /**
-     * Parse value from XMIR node.
-     * @param node XMIR node to parse.
-     * @param parser Parser to use.
-     * @return Parsed value.
-     */
-    private static AstNode xvalue(final XmlNode node, final Parser parser) {
-        return parser.parse(node.children().collect(Collectors.toList()).get(1));
+    @Override
+    public Type type() {
+        return this.ctype;
     }
 
     /**
      * Parse checkcast type from XMIR node.
-     * @param node XMIR node to parse.
+     * @param children Children of XMIR node to parse.
      * @return Parsed type.
      */
-    private static Type xtype(final XmlNode node) {
-        return Type.getType(
-            new HexString(
-                node.children().findFirst().orElseThrow(
-                    () -> new IllegalArgumentException(
-                        "CheckCast should have a first child for the type."
-                    )
-                ).text()
-            ).decode()
-        );
+    private static Type xtype(final Children children) {
+        return Type.getType(new Hex(children.get(0).text()).string());
     }
 }
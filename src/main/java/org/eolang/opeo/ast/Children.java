@@ -0,0 +1,120 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2023 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.opeo.ast;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import org.eolang.jeo.representation.xmir.XmlNode;
+
+/**
+ * Children of XMIR node.
+ * {@link XmlNode#children()} creates a new stream every time it's called, so AST nodes that
+ * read several children by index used to walk the same node many times. This view
+ * materializes element children of the node once, whitespace text nodes are skipped,
+ * and gives indexed access to them.
+ * @since 0.5
+ */
+public final class Children {
+
+    /**
+     * Parent node.
+     */
+    private final XmlNode parent;
+
+    /**
+     * Element children of the parent node.
+     */
+    private final XmlNode[] all;
+
+    /**
+     * Constructor.
+     * @param parent Parent node.
+     */
+    public Children(final XmlNode parent) {
+        this(parent, parent.children().toArray(XmlNode[]::new));
+    }
+
+    /**
+     * Constructor.
+     * @param parent Parent node.
+     * @param all Element children of the parent node.
+     */
+    private Children(final XmlNode parent, final XmlNode... all) {
+        this.parent = parent;
+        this.all = all;
+    }
+
+    /**
+     * Child by index.
+     * @param index Index of the child.
+     * @return Child node.
+     */
+    public XmlNode get(final int index) {
+        if (index < 0 || index >= this.all.length) {
+            throw new IllegalArgumentException(
+                String.format(
+                    "Node %s doesn't have a child with index %d, it has %d children",
+                    this.parent,
+                    index,
+                    this.all.length
+                )
+            );
+        }
+        return this.all[index];
+    }
+
+    /**
+     * The last child.
+     * @return Child node.
+     */
+    public XmlNode last() {
+        return this.get(this.all.length - 1);
+    }
+
+    /**
+     * Number of children.
+     * @return Number of children.
+     */
+    public int size() {
+        return this.all.length;
+    }
+
+    /**
+     * Children starting from the index.
+     * @param begin Index of the first child, inclusive.
+     * @return Unmodifiable list of children, empty if there are not enough children.
+     */
+    public List<XmlNode> from(final int begin) {
+        final List<XmlNode> result;
+        if (begin < this.all.length) {
+            result = Collections.unmodifiableList(
+                Arrays.asList(this.all).subList(begin, this.all.length)
+            );
+        } else {
+            result = Collections.emptyList();
+        }
+        return result;
+    }
+}
@@ -27,8 +27,8 @@ import java.util.Collections;
 import java.util.List;
 import lombok.ToString;
 import org.eolang.jeo.representation.directives.DirectivesData;
-import org.eolang.jeo.representation.xmir.HexString;
 import org.eolang.jeo.representation.xmir.XmlNode;
+import org.eolang.opeo.jeo.Hex;
 import org.objectweb.asm.Opcodes;
 import org.objectweb.asm.Type;
 import org.xembly.Directive;
@@ -92,6 +92,6 @@ public final class ClassName implements AstNode, Typed {
      * @return Class name
      */
     private static String xname(final XmlNode node) {
-        return new HexString(node.text()).decode();
+        return new Hex(node.text()).string();
     }
 }
@@ -23,7 +23,6 @@
  */
 package org.eolang.opeo.ast;
 
-import java.nio.ByteBuffer;
 import java.util.Collections;
 import java.util.List;
 import lombok.EqualsAndHashCode;
@@ -31,6 +30,7 @@ import lombok.ToString;
 import org.eolang.jeo.representation.directives.DirectivesData;
 import org.eolang.jeo.representation.xmir.HexString;
 import org.eolang.jeo.representation.xmir.XmlNode;
+import org.eolang.opeo.jeo.Hex;
 import org.objectweb.asm.Opcodes;
 import org.objectweb.asm.Type;
 import org.xembly.Directive;
@@ -313,7 +313,7 @@ public final class Const implements AstNode, Typed {
         if (type.equals(Type.INT_TYPE)) {
             result = Const.parseInt(node.text());
         } else if (type.equals(Type.BOOLEAN_TYPE)) {
-            result = new HexString(node.text()).decodeAsBoolean();
+            result = new Hex(node.text()).bool();
         } else if (type.equals(Type.LONG_TYPE)) {
             result = Const.parseLong(node.text());
         } else if (type.equals(Type.DOUBLE_TYPE)) {
@@ -321,7 +321,7 @@ public final class Const implements AstNode, Typed {
         } else if (type.equals(Type.FLOAT_TYPE)) {
             result = new HexString(node.text()).decodeAsFloat();
         } else {
-            result = new HexString(node.text()).decode();
+            result = new Hex(node.text()).string();
         }
         return result;
     }
@@ -332,7 +332,7 @@ public final class Const implements AstNode, Typed {
      * @return Integer.
      */
     private static int parseInt(final String hex) {
-        return ByteBuffer.wrap(Const.parseBytes(hex), 4, 4).getInt();
+        return (int) new Hex(hex).number();
     }
 
     /**
@@ -341,22 +341,7 @@ public final class Const implements AstNode, Typed {
      * @return Long.
      */
     private static long parseLong(final String hex) {
-        return ByteBuffer.wrap(Const.parseBytes(hex)).getLong();
-    }
-
-    /**
-     * Parse hex string into bytes.
-     * @param hex Hex string
-     * @return Bytes.
-     */
-    private static byte[] parseBytes(final String hex) {
-        final String[] split = hex.split(" ");
-        final int length = split.length;
-        final byte[] res = new byte[length];
-        for (int index = 0; index < length; ++index) {
-            res[index] = (byte) Integer.parseInt(split[index], 16);
-        }
-        return res;
+        return new Hex(hex).number();
     }
 
     /**
@@ -26,7 +26,6 @@ package org.eolang.opeo.ast;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
-import java.util.stream.Collectors;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
 import org.eolang.jeo.representation.xmir.XmlNode;
@@ -114,11 +113,7 @@ public final class Constructor implements AstNode, Typed {
      * @param parser Parser that understands how to parse subnodes.
      */
     public Constructor(final XmlNode node, final Parser parser) {
-        this(
-            Constructor.xtarget(node, parser),
-            Constructor.xattrs(node, parser),
-            new Arguments(node, parser, 2).toList()
-        );
+        this(new Children(node), parser);
     }
 
     /**
@@ -137,6 +132,33 @@ public final class Constructor implements AstNode, Typed {
         this.arguments = arguments;
     }
 
+    /**
+     * Constructor.
+     * @param children Children of Xmir representation of constructor.
+     * @param parser Parser that understands how to parse subnodes.
+     */
+    private Constructor(final Children children, final Parser parser) {
+        this(
+            parser.parse(children.get(0)),
+            children,
+            new Arguments(children, parser, 2).toList()
+        );
+    }
+
+    /**
+     * Constructor.
+     * @param ctype Constructor type
+     * @param children Children of Xmir representation of constructor.
+     * @param arguments Constructor arguments
+     */
+    private Constructor(
+        final AstNode ctype,
+        final Children children,
+        final List<AstNode> arguments
+    ) {
+        this(ctype, Constructor.xattrs(children, arguments), arguments);
+    }
+
     @Override
     public Iterable<Directive> toXmir() {
         final Directives directives = new Directives();
@@ -151,9 +173,15 @@ public final class Constructor implements AstNode, Typed {
     @Override
     public List<AstNode> opcodes() {
         final List<AstNode> res = new ArrayList<>(0);
-        res.addAll(this.ctype.opcodes());
-        this.arguments.stream().map(AstNode::opcodes).forEach(res::addAll);
-        res.add(
+        this.emit(res);
+        return res;
+    }
+
+    @Override
+    public void emit(final List<AstNode> sink) {
+        this.ctype.emit(sink);
+        this.arguments.forEach(arg -> arg.emit(sink));
+        sink.add(
             new Opcode(
                 Opcodes.INVOKESPECIAL,
                 this.type(this.ctype),
@@ -162,7 +190,6 @@ public final class Constructor implements AstNode, Typed {
                 this.attributes.interfaced()
             )
         );
-        return res;
     }
 
     @Override
@@ -196,34 +223,18 @@ public final class Constructor implements AstNode, Typed {
 
     /**
      * Get attributes from XML node.
-     * @param node XML node.
-     * @param parser Parser.
+     * @param children Children of XML node.
+     * @param arguments Constructor arguments.
      * @return Attributes.
-     * @todo #316:90min Refactor {@link Constructor#xattrs(XmlNode, Parser)} method.
+     * @todo #316:90min Refactor {@link Constructor#xattrs(Children, List)} method.
      *  It is too complex and hard to understand.
      *  We need to refactor it to make it more readable and maintainable.
      *  As you can see here we create several Attributes classes which looks strange.
      */
-    private static Attributes xattrs(final XmlNode node, final Parser parser) {
-        final Attributes attrs = new Attributes(
-            node.children().collect(Collectors.toList()).get(1)
-        );
-        attrs.descriptor(
-            new ConstructorDescriptor(
-                attrs.descriptor(),
-                new Arguments(node, parser, 2).toList()
-            ).toString()
+    private static Attributes xattrs(final Children children, final List<AstNode> arguments) {
+        final Attributes attrs = new Attributes(children.get(1));
+        return attrs.descriptor(
+            new ConstructorDescriptor(attrs.descriptor(), arguments).toString()
         );
-        return attrs;
-    }
-
-    /**
-     * Get target node.
-     * @param node Constructor node.
-     * @param parser Parser, which can extract AstNode from XmlNode.
-     * @return Target node.
-     */
-    private static AstNode xtarget(final XmlNode node, final Parser parser) {
-        return parser.parse(node.children().collect(Collectors.toList()).get(0));
     }
 }
@@ -0,0 +1,160 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2023 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.opeo.ast;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+import org.objectweb.asm.Type;
+
+/**
+ * Parsed method descriptor.
+ * The same descriptors, like '(Ljava/lang/String;)V', repeat in many call sites,
+ * both during decompilation and compilation. So parsed descriptors are cached
+ * by their raw text and shared between all the call sites.
+ * <p>
+ *     The parsed descriptor is immutable: argument types are exposed as
+ *     an unmodifiable list, so the cached value can't be changed by a caller.
+ * </p>
+ * @since 0.5
+ */
+@ToString
+@EqualsAndHashCode
+public final class Descriptor {
+
+    /**
+     * Maximum number of cached descriptors.
+     */
+    private static final int LIMIT = 10_000;
+
+    /**
+     * Parsed descriptors, by raw text.
+     */
+    private static final Map<String, Descriptor> PARSED = new ConcurrentHashMap<>(0);
+
+    /**
+     * Argument types.
+     */
+    private final List<Type> args;
+
+    /**
+     * Return type.
+     */
+    private final Type ret;
+
+    /**
+     * Number of local variable slots occupied by the arguments.
+     */
+    private final int size;
+
+    /**
+     * Constructor.
+     * @param descriptor Method descriptor, like '(IJ)Ljava/lang/String;'.
+     */
+    public Descriptor(final String descriptor) {
+        this(Descriptor.parsed(descriptor));
+    }
+
+    /**
+     * Constructor.
+     * @param origin Parsed descriptor to share.
+     */
+    private Descriptor(final Descriptor origin) {
+        this(origin.args, origin.ret, origin.size);
+    }
+
+    /**
+     * Constructor.
+     * @param args Argument types.
+     * @param ret Return type.
+     * @param size Number of local variable slots occupied by the arguments.
+     */
+    private Descriptor(final List<Type> args, final Type ret, final int size) {
+        this.args = args;
+        this.ret = ret;
+        this.size = size;
+    }
+
+    /**
+     * Argument types.
+     * @return Unmodifiable list of argument types.
+     */
+    public List<Type> arguments() {
+        return this.args;
+    }
+
+    /**
+     * Number of arguments.
+     * @return Number of arguments.
+     */
+    public int count() {
+        return this.args.size();
+    }
+
+    /**
+     * Return type.
+     * @return Return type.
+     */
+    public Type returned() {
+        return this.ret;
+    }
+
+    /**
+     * Number of local variable slots occupied by the arguments.
+     * 'long' and 'double' arguments occupy two slots each.
+     * @return Number of slots.
+     */
+    public int slots() {
+        return this.size;
+    }
+
+    /**
+     * Parsed descriptor.
+     * The cache is bounded: when it's full, new descriptors are parsed but not cached.
+     * @param descriptor Method descriptor.
+     * @return Parsed descriptor.
+     */
+    private static Descriptor parsed(final String descriptor) {
+        final Descriptor cached = Descriptor.PARSED.get(descriptor);
+        final Descriptor result;
+        if (cached == null) {
+            final Type[] types = Type.getArgumentTypes(descriptor);
+            result = new Descriptor(
+                Collections.unmodifiableList(Arrays.asList(types)),
+                Type.getReturnType(descriptor),
+                Arrays.stream(types).mapToInt(Type::getSize).sum()
+            );
+            if (Descriptor.PARSED.size() < Descriptor.LIMIT) {
+                Descriptor.PARSED.putIfAbsent(descriptor, result);
+            }
+        } else {
+            result = cached;
+        }
+        return result;
+    }
+}
@@ -23,12 +23,10 @@
  */
 package org.eolang.opeo.ast;
 
-import java.security.SecureRandom;
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
-import java.util.Random;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 import org.objectweb.asm.Opcodes;
 import org.objectweb.asm.Type;
@@ -42,6 +40,11 @@ import org.xembly.Directives;
  */
 public final class Duplicate implements AstNode, Typed {
 
+    /**
+     * Sequence of reference names for nodes created without an explicit alias.
+     */
+    private static final AtomicLong SEQUENCE = new AtomicLong(0L);
+
     /**
      * Alias.
      * Used as a reference.
@@ -65,11 +68,14 @@ public final class Duplicate implements AstNode, Typed {
 
     /**
      * Constructor.
+     * The reference name is taken from a process-wide sequence.
+     * Decompilation uses {@link #Duplicate(String, AstNode)} with per-method names instead,
+     * to get the same output for the same input.
      * @param original The original node to duplicate.
      */
     public Duplicate(final AstNode original) {
         this(
-            Duplicate.randomName(),
+            String.format("ref-s%d", Duplicate.SEQUENCE.incrementAndGet()),
             new AtomicBoolean(false),
             new AtomicBoolean(false),
             new AtomicReference<>(original)
@@ -81,7 +87,7 @@ public final class Duplicate implements AstNode, Typed {
      * @param alias Reference name that will be used to refer to this node.
      * @param original The original node to duplicate.
      */
-    Duplicate(final String alias, final AstNode original) {
+    public Duplicate(final String alias, final AstNode original) {
         this(
             alias,
             new AtomicBoolean(false),
@@ -112,20 +118,22 @@ public final class Duplicate implements AstNode, Typed {
 
     @Override
     public List<AstNode> opcodes() {
-        final List<AstNode> result;
-        if (this.compiled.getAndSet(true)) {
-            result = Collections.emptyList();
-        } else {
-            result = new ArrayList<>(3);
-            result.addAll(this.original.get().opcodes());
-            result.add(new Opcode(Opcodes.DUP));
+        final List<AstNode> res = new ArrayList<>(0);
+        this.emit(res);
+        return res;
+    }
+
+    @Override
+    public void emit(final List<AstNode> sink) {
+        if (!this.compiled.getAndSet(true)) {
+            this.original.get().emit(sink);
+            sink.add(new Opcode(Opcodes.DUP));
         }
-        return result;
     }
 
     @Override
     public Iterable<Directive> toXmir() {
-        final int line = new Random().nextInt(Integer.MAX_VALUE);
+        final int line = this.alias.hashCode() & Integer.MAX_VALUE;
         final Iterable<Directive> result;
         if (this.decompiled.getAndSet(true)) {
             result = new Directives().add("o")
@@ -168,18 +176,4 @@ public final class Duplicate implements AstNode, Typed {
     public AstNode current() {
         return this.original.get();
     }
-
-    /**
-     * Generates random string alias.
-     * @return Random string.
-     */
-    private static String randomName() {
-        final char[] alphabet = "abcdefghijklmnopqrstuvwxyz".toCharArray();
-        final StringBuilder name = new StringBuilder(14);
-        final SecureRandom random = new SecureRandom();
-        for (int index = 0; index < 10; ++index) {
-            name.append(alphabet[random.nextInt(alphabet.length)]);
-        }
-        return String.format("ref-%s", name);
-    }
 }
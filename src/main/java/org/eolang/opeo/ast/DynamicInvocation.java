@@ -29,9 +29,9 @@ import java.util.List;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import org.eolang.jeo.representation.directives.DirectivesData;
-import org.eolang.jeo.representation.xmir.HexString;
 import org.eolang.jeo.representation.xmir.XmlNode;
 import org.eolang.opeo.compilation.Parser;
+import org.eolang.opeo.jeo.Hex;
 import org.objectweb.asm.Opcodes;
 import org.objectweb.asm.Type;
 import org.xembly.Directive;
@@ -186,8 +186,14 @@ public final class DynamicInvocation implements AstNode, Typed {
     @Override
     public List<AstNode> opcodes() {
         final List<AstNode> res = new ArrayList<>(0);
-        this.arguments.stream().map(AstNode::opcodes).forEach(res::addAll);
-        res.add(
+        this.emit(res);
+        return res;
+    }
+
+    @Override
+    public void emit(final List<AstNode> sink) {
+        this.arguments.forEach(arg -> arg.emit(sink));
+        sink.add(
             new Opcode(
                 Opcodes.INVOKEDYNAMIC,
                 Stream.concat(
@@ -200,12 +206,11 @@ public final class DynamicInvocation implements AstNode, Typed {
                 ).toArray()
             )
         );
-        return res;
     }
 
     @Override
     public Type type() {
-        return Type.getReturnType(this.attributes.descriptor());
+        return new Descriptor(this.attributes.descriptor()).returned();
     }
 
     /**
@@ -244,9 +249,9 @@ public final class DynamicInvocation implements AstNode, Typed {
      */
     private static List<Object> xfarguments(final List<XmlNode> children) {
         final List<Object> res = new ArrayList<>(3);
-        res.add(Type.getType(new HexString(children.get(2).text()).decode()));
+        res.add(Type.getType(new Hex(children.get(2).text()).string()));
         res.add(new Handle(children.get(3)).toAsm());
-        res.add(Type.getType(new HexString(children.get(4).text()).decode()));
+        res.add(Type.getType(new Hex(children.get(4).text()).string()));
         return res;
     }
 
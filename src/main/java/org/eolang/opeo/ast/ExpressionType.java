@@ -25,8 +25,6 @@ package org.eolang.opeo.ast;
 
 import java.util.Arrays;
 import java.util.List;
-import java.util.Set;
-import java.util.stream.Collectors;
 import lombok.ToString;
 import org.objectweb.asm.Type;
 
@@ -64,18 +62,32 @@ public final class ExpressionType {
      * @return Expression type.
      */
     public Type type() {
-        final Set<Type> types = this.values.stream()
-            .map(this::cast)
-            .map(Typed::type).collect(Collectors.toSet());
-        final Type result;
-        if (types.contains(Type.DOUBLE_TYPE)) {
-            result = Type.DOUBLE_TYPE;
-        } else if (types.contains(Type.FLOAT_TYPE)) {
-            result = Type.FLOAT_TYPE;
-        } else if (types.contains(Type.LONG_TYPE)) {
-            result = Type.LONG_TYPE;
+        Type result = Type.INT_TYPE;
+        for (final AstNode value : this.values) {
+            final Type type = this.cast(value).type();
+            if (ExpressionType.rank(type) > ExpressionType.rank(result)) {
+                result = type;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Rank of the type in numeric promotion.
+     * The widest type of the operands is the type of the expression.
+     * @param type Operand type.
+     * @return Rank, types that aren't promoted have the lowest rank.
+     */
+    private static int rank(final Type type) {
+        final int result;
+        if (type.equals(Type.DOUBLE_TYPE)) {
+            result = 3;
+        } else if (type.equals(Type.FLOAT_TYPE)) {
+            result = 2;
+        } else if (type.equals(Type.LONG_TYPE)) {
+            result = 1;
         } else {
-            result = Type.INT_TYPE;
+            result = 0;
         }
         return result;
     }
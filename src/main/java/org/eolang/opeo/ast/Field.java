@@ -23,9 +23,7 @@
  */
 package org.eolang.opeo.ast;
 
-import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
 import org.eolang.jeo.representation.xmir.XmlNode;
@@ -59,10 +57,7 @@ public final class Field implements Xmir, Typed {
      * @param parser Parser that will be used to parse the child nodes of the field.
      */
     public Field(final XmlNode node, final Parser parser) {
-        this(
-            parser.parse(node.firstChild()),
-            new Attributes(node.children().collect(Collectors.toList()).get(1))
-        );
+        this(new Children(node), parser);
     }
 
     /**
@@ -75,6 +70,15 @@ public final class Field implements Xmir, Typed {
         this.attributes = attributes;
     }
 
+    /**
+     * Constructor.
+     * @param children Children of XMIR root node of the field.
+     * @param parser Parser that will be used to parse the child nodes of the field.
+     */
+    private Field(final Children children, final Parser parser) {
+        this(parser.parse(children.get(0)), new Attributes(children.get(1)));
+    }
+
     @Override
     public Iterable<Directive> toXmir() {
         return new Directives()
@@ -93,13 +97,12 @@ public final class Field implements Xmir, Typed {
     /**
      * Store the field opcode. See {@link Opcodes#PUTFIELD}.
      * @param value The value to store.
-     * @return Opcode node to store the field. See {@link Opcode}
+     * @param sink Where to append opcodes that store the field. See {@link Opcode}
      */
-    List<AstNode> store(final AstNode value) {
-        final List<AstNode> res = new ArrayList<>(3);
-        res.addAll(this.inst.opcodes());
-        res.addAll(value.opcodes());
-        res.add(
+    void store(final AstNode value, final List<AstNode> sink) {
+        this.inst.emit(sink);
+        value.emit(sink);
+        sink.add(
             new Opcode(
                 Opcodes.PUTFIELD,
                 this.attributes.owner(),
@@ -107,17 +110,15 @@ public final class Field implements Xmir, Typed {
                 this.attributes.descriptor()
             )
         );
-        return res;
     }
 
     /**
      * Load the field opcode. See {@link Opcodes#GETFIELD}.
-     * @return Opcode node to load the field. See {@link Opcode}
+     * @param sink Where to append opcodes that load the field. See {@link Opcode}
      */
-    List<AstNode> load() {
-        final List<AstNode> res = new ArrayList<>(2);
-        res.addAll(this.inst.opcodes());
-        res.add(
+    void load(final List<AstNode> sink) {
+        this.inst.emit(sink);
+        sink.add(
             new Opcode(
                 Opcodes.GETFIELD,
                 this.attributes.owner(),
@@ -125,6 +126,5 @@ public final class Field implements Xmir, Typed {
                 this.attributes.descriptor()
             )
         );
-        return res;
     }
 }
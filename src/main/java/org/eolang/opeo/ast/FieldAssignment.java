@@ -23,8 +23,8 @@
  */
 package org.eolang.opeo.ast;
 
+import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
 import org.eolang.jeo.representation.xmir.XmlNode;
@@ -59,10 +59,7 @@ public final class FieldAssignment implements AstNode {
      * @param parser Parser that will be used to parse the child nodes of the field assignment.
      */
     public FieldAssignment(final XmlNode node, final Parser parser) {
-        this(
-            new Field(node.firstChild(), parser),
-            parser.parse(node.children().collect(Collectors.toList()).get(1))
-        );
+        this(new Children(node), parser);
     }
 
     /**
@@ -75,6 +72,15 @@ public final class FieldAssignment implements AstNode {
         this.value = right;
     }
 
+    /**
+     * Constructor.
+     * @param children Children of XMIR representation of a field assignment.
+     * @param parser Parser that will be used to parse the child nodes of the field assignment.
+     */
+    private FieldAssignment(final Children children, final Parser parser) {
+        this(new Field(children.get(0), parser), parser.parse(children.get(1)));
+    }
+
     @Override
     public Iterable<Directive> toXmir() {
         return new Directives().add("o")
@@ -86,6 +92,13 @@ public final class FieldAssignment implements AstNode {
 
     @Override
     public List<AstNode> opcodes() {
-        return this.field.store(this.value);
+        final List<AstNode> res = new ArrayList<>(0);
+        this.emit(res);
+        return res;
+    }
+
+    @Override
+    public void emit(final List<AstNode> sink) {
+        this.field.store(this.value, sink);
     }
 }
@@ -23,6 +23,7 @@
  */
 package org.eolang.opeo.ast;
 
+import java.util.ArrayList;
 import java.util.List;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
@@ -100,7 +101,14 @@ public final class FieldRetrieval implements AstNode, Typed {
 
     @Override
     public List<AstNode> opcodes() {
-        return this.field.load();
+        final List<AstNode> res = new ArrayList<>(0);
+        this.emit(res);
+        return res;
+    }
+
+    @Override
+    public void emit(final List<AstNode> sink) {
+        this.field.load(sink);
     }
 
     @Override
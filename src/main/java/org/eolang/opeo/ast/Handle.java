@@ -28,8 +28,8 @@ import java.util.stream.Collectors;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
 import org.eolang.jeo.representation.directives.DirectivesData;
-import org.eolang.jeo.representation.xmir.HexString;
 import org.eolang.jeo.representation.xmir.XmlNode;
+import org.eolang.opeo.jeo.Hex;
 import org.xembly.Directive;
 import org.xembly.Directives;
 
@@ -188,7 +188,7 @@ public final class Handle implements Xmir {
      * @return Tag.
      */
     private static int xtag(final List<XmlNode> children) {
-        return new HexString(children.get(0).text()).decodeAsInt();
+        return (int) new Hex(children.get(0).text()).number();
     }
 
     /**
@@ -197,7 +197,7 @@ public final class Handle implements Xmir {
      * @return Descriptor.
      */
     private static String xdesc(final List<XmlNode> children) {
-        return new HexString(children.get(1).text()).decode();
+        return new Hex(children.get(1).text()).string();
     }
 
     /**
@@ -206,6 +206,6 @@ public final class Handle implements Xmir {
      * @return True if it is an interface method.
      */
     private static boolean xitf(final List<XmlNode> children) {
-        return new HexString(children.get(2).text()).decodeAsBoolean();
+        return new Hex(children.get(2).text()).bool();
     }
 }
@@ -23,10 +23,10 @@
  */
 package org.eolang.opeo.ast;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.function.Function;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
 import org.eolang.jeo.representation.HexData;
@@ -97,13 +97,16 @@ public final class If implements AstNode {
 
     @Override
     public List<AstNode> opcodes() {
-        return Stream.concat(
-            Stream.concat(
-                this.first.opcodes().stream(),
-                this.second.opcodes().stream()
-            ),
-            Stream.of(new Opcode(Opcodes.IF_ICMPGT, this.target.toAsmLabel()))
-        ).collect(Collectors.toList());
+        final List<AstNode> res = new ArrayList<>(0);
+        this.emit(res);
+        return res;
+    }
+
+    @Override
+    public void emit(final List<AstNode> sink) {
+        this.first.emit(sink);
+        this.second.emit(sink);
+        sink.add(new Opcode(Opcodes.IF_ICMPGT, this.target.toAsmLabel()));
     }
 
     @Override
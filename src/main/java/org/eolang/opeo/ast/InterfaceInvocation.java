@@ -27,7 +27,6 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
-import java.util.stream.Collectors;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
 import org.eolang.jeo.representation.xmir.XmlNode;
@@ -88,11 +87,7 @@ public final class InterfaceInvocation implements AstNode, Typed {
      * @param parser Parser, which can extract AstNode from XmlNode.
      */
     public InterfaceInvocation(final XmlNode node, final Parser parser) {
-        this(
-            InterfaceInvocation.xsource(node, parser),
-            new Attributes(node.children().collect(Collectors.toList()).get(1)),
-            new Arguments(node, parser, 2).toList()
-        );
+        this(new Children(node), parser);
     }
 
     /**
@@ -125,6 +120,19 @@ public final class InterfaceInvocation implements AstNode, Typed {
         this.arguments = args;
     }
 
+    /**
+     * Constructor.
+     * @param children Children of XML node.
+     * @param parser Parser, which can extract AstNode from XmlNode.
+     */
+    private InterfaceInvocation(final Children children, final Parser parser) {
+        this(
+            parser.parse(children.get(0)),
+            new Attributes(children.get(1)),
+            new Arguments(children, parser, 2).toList()
+        );
+    }
+
     @Override
     public Iterable<Directive> toXmir() {
         if (Objects.isNull(this.source)) {
@@ -149,8 +157,14 @@ public final class InterfaceInvocation implements AstNode, Typed {
     @Override
     public List<AstNode> opcodes() {
         final List<AstNode> res = new ArrayList<>(0);
-        res.addAll(this.source.opcodes());
-        this.arguments.stream().map(AstNode::opcodes).forEach(res::addAll);
+        this.emit(res);
+        return res;
+    }
+
+    @Override
+    public void emit(final List<AstNode> sink) {
+        this.source.emit(sink);
+        this.arguments.forEach(arg -> arg.emit(sink));
         if (!(this.source instanceof Typed)) {
             throw new IllegalArgumentException(
                 String.format(
@@ -159,7 +173,7 @@ public final class InterfaceInvocation implements AstNode, Typed {
                 )
             );
         }
-        res.add(
+        sink.add(
             new Opcode(
                 Opcodes.INVOKEINTERFACE,
                 this.attrs.owner(),
@@ -168,21 +182,10 @@ public final class InterfaceInvocation implements AstNode, Typed {
                 this.attrs.interfaced()
             )
         );
-        return res;
     }
 
     @Override
     public Type type() {
-        return Type.getReturnType(this.attrs.descriptor());
-    }
-
-    /**
-     * Extracts source from the node.
-     * @param node XML node.
-     * @param parser Parser.
-     * @return Source.
-     */
-    private static AstNode xsource(final XmlNode node, final Parser parser) {
-        return parser.parse(node.children().collect(Collectors.toList()).get(0));
+        return new Descriptor(this.attrs.descriptor()).returned();
     }
 }
@@ -27,7 +27,6 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
-import java.util.stream.Collectors;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
 import org.eolang.jeo.representation.xmir.XmlNode;
@@ -66,11 +65,7 @@ public final class Invocation implements AstNode, Typed {
      * @param parser Parser for child nodes.
      */
     public Invocation(final XmlNode node, final Parser parser) {
-        this(
-            parser.parse(node.children().collect(Collectors.toList()).get(0)),
-            new Attributes(node.children().collect(Collectors.toList()).get(1)),
-            new Arguments(node, parser, 2).toList()
-        );
+        this(new Children(node), parser);
     }
 
     /**
@@ -148,6 +143,19 @@ public final class Invocation implements AstNode, Typed {
         this.arguments = arguments;
     }
 
+    /**
+     * Constructor.
+     * @param children Children of XML node.
+     * @param parser Parser for child nodes.
+     */
+    private Invocation(final Children children, final Parser parser) {
+        this(
+            parser.parse(children.get(0)),
+            new Attributes(children.get(1)),
+            new Arguments(children, parser, 2).toList()
+        );
+    }
+
     @Override
     public Iterable<Directive> toXmir() {
         if (Objects.isNull(this.source)) {
@@ -176,8 +184,14 @@ public final class Invocation implements AstNode, Typed {
     @Override
     public List<AstNode> opcodes() {
         final List<AstNode> res = new ArrayList<>(0);
-        res.addAll(this.source.opcodes());
-        this.arguments.stream().map(AstNode::opcodes).forEach(res::addAll);
+        this.emit(res);
+        return res;
+    }
+
+    @Override
+    public void emit(final List<AstNode> sink) {
+        this.source.emit(sink);
+        this.arguments.forEach(arg -> arg.emit(sink));
         if (!(this.source instanceof Typed)) {
             throw new IllegalArgumentException(
                 String.format(
@@ -197,7 +211,7 @@ public final class Invocation implements AstNode, Typed {
         } else {
             owner = ((Typed) this.source).type().getClassName();
         }
-        res.add(
+        sink.add(
             new Opcode(
                 Opcodes.INVOKEVIRTUAL,
                 owner.replace('.', '/'),
@@ -206,11 +220,10 @@ public final class Invocation implements AstNode, Typed {
                 this.attributes.interfaced()
             )
         );
-        return res;
     }
 
     @Override
     public Type type() {
-        return Type.getReturnType(this.attributes.descriptor());
+        return new Descriptor(this.attributes.descriptor()).returned();
     }
 }
@@ -29,8 +29,8 @@ import lombok.EqualsAndHashCode;
 import lombok.ToString;
 import org.eolang.jeo.representation.directives.DirectivesData;
 import org.eolang.jeo.representation.xmir.AllLabels;
-import org.eolang.jeo.representation.xmir.HexString;
 import org.eolang.jeo.representation.xmir.XmlNode;
+import org.eolang.opeo.jeo.Hex;
 import org.xembly.Directive;
 
 /**
@@ -59,7 +59,7 @@ public final class Label implements AstNode {
      * @param identifier Label identifier.
      */
     public Label(final String identifier) {
-        this.identifier = new HexString(identifier.trim()).decode();
+        this.identifier = new Hex(identifier).string();
     }
 
     @Override
@@ -23,10 +23,9 @@
  */
 package org.eolang.opeo.ast;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.function.Function;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
 import org.eolang.jeo.representation.xmir.XmlNode;
@@ -64,7 +63,7 @@ public final class Labeled implements AstNode, Typed {
      * @param search Search function to parse child nodes.
      */
     public Labeled(final XmlNode node, final Function<XmlNode, AstNode> search) {
-        this(Labeled.xnode(node, search), Labeled.xlabel(node));
+        this(new Children(node), search);
     }
 
     /**
@@ -77,6 +76,15 @@ public final class Labeled implements AstNode, Typed {
         this.label = label;
     }
 
+    /**
+     * Constructor.
+     * @param children Children of the original node to parse.
+     * @param search Search function to parse child nodes.
+     */
+    private Labeled(final Children children, final Function<XmlNode, AstNode> search) {
+        this(Labeled.xnode(children, search), new Label(children.last()));
+    }
+
     /**
      * Original node.
      * @return Node
@@ -87,10 +95,15 @@ public final class Labeled implements AstNode, Typed {
 
     @Override
     public List<AstNode> opcodes() {
-        return Stream.concat(
-            this.node.opcodes().stream(),
-            this.label.opcodes().stream()
-        ).collect(Collectors.toList());
+        final List<AstNode> res = new ArrayList<>(0);
+        this.emit(res);
+        return res;
+    }
+
+    @Override
+    public void emit(final List<AstNode> sink) {
+        this.node.emit(sink);
+        this.label.emit(sink);
     }
 
     @Override
@@ -113,28 +126,19 @@ public final class Labeled implements AstNode, Typed {
 
     /**
      * Parse original node from XMIR.
-     * @param root Root node where the original node is placed.
+     * @param children Children of the root node where the original node is placed.
      * @param search Search function to parse child nodes.
      * @return Original node.
      */
-    private static AstNode xnode(final XmlNode root, final Function<XmlNode, AstNode> search) {
+    private static AstNode xnode(
+        final Children children, final Function<XmlNode, AstNode> search
+    ) {
         final AstNode result;
-        if (root.children().count() > 1) {
-            result = search.apply(root.firstChild());
+        if (children.size() > 1) {
+            result = search.apply(children.get(0));
         } else {
             result = new Empty();
         }
         return result;
     }
-
-    /**
-     * Parse label from XMIR.
-     * @param root Root node where the label is placed.
-     * @return Label.
-     */
-    private static Label xlabel(final XmlNode root) {
-        final List<XmlNode> all = root.children().collect(Collectors.toList());
-        final XmlNode last = all.get(all.size() - 1);
-        return new Label(last);
-    }
 }
@@ -25,8 +25,8 @@ package org.eolang.opeo.ast;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
-import java.util.stream.Collectors;
 import org.eolang.jeo.representation.xmir.XmlNode;
 import org.objectweb.asm.Opcodes;
 import org.objectweb.asm.Type;
@@ -49,13 +49,21 @@ public final class Multiplication implements AstNode, Typed {
      */
     private final AstNode right;
 
+    /**
+     * Result type.
+     * It's computed once, because nested expressions ask for types of their operands
+     * many times. A plain reference keeps the call stack of deeply nested expressions
+     * short, two racing threads just compute the same type twice.
+     */
+    private final AtomicReference<Type> rtype;
+
     /**
      * Constructor.
      * @param node XMIR node where to extract the value.
      * @param search Search function.
      */
     public Multiplication(final XmlNode node, final Function<XmlNode, AstNode> search) {
-        this(Multiplication.xleft(node, search), xright(node, search));
+        this(new Children(node), search);
     }
 
     /**
@@ -66,6 +74,16 @@ public final class Multiplication implements AstNode, Typed {
     public Multiplication(final AstNode left, final AstNode right) {
         this.left = left;
         this.right = right;
+        this.rtype = new AtomicReference<>();
+    }
+
+    /**
+     * Constructor.
+     * @param children Children of XMIR node where to extract the values.
+     * @param search Search function.
+     */
+    private Multiplication(final Children children, final Function<XmlNode, AstNode> search) {
+        this(search.apply(children.get(0)), search.apply(children.last()));
     }
 
     @Override
@@ -80,15 +98,25 @@ public final class Multiplication implements AstNode, Typed {
     @Override
     public List<AstNode> opcodes() {
         final List<AstNode> res = new ArrayList<>(0);
-        res.addAll(this.left.opcodes());
-        res.addAll(this.right.opcodes());
-        res.add(new Opcode(this.opcode()));
+        this.emit(res);
         return res;
     }
 
+    @Override
+    public void emit(final List<AstNode> sink) {
+        this.left.emit(sink);
+        this.right.emit(sink);
+        sink.add(new Opcode(this.opcode()));
+    }
+
     @Override
     public Type type() {
-        return new ExpressionType(this.left, this.right).type();
+        Type result = this.rtype.get();
+        if (result == null) {
+            result = new ExpressionType(this.left, this.right).type();
+            this.rtype.set(result);
+        }
+        return result;
     }
 
     /**
@@ -111,25 +139,4 @@ public final class Multiplication implements AstNode, Typed {
         }
         return result;
     }
-
-    /**
-     * Extracts the first value.
-     * @param node XMIR node where to extract the value.
-     * @param search Search function
-     * @return Value.
-     */
-    private static AstNode xright(final XmlNode node, final Function<XmlNode, AstNode> search) {
-        final List<XmlNode> all = node.children().collect(Collectors.toList());
-        return search.apply(all.get(all.size() - 1));
-    }
-
-    /**
-     * Extracts the left value.
-     * @param node XMIR node where to extract the value.
-     * @param search Search function
-     * @return Value.
-     */
-    private static AstNode xleft(final XmlNode node, final Function<XmlNode, AstNode> search) {
-        return search.apply(node.firstChild());
-    }
 }
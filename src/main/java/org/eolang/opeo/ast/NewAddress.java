@@ -28,8 +28,8 @@ import java.util.List;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
 import org.eolang.jeo.representation.directives.DirectivesData;
-import org.eolang.jeo.representation.xmir.HexString;
 import org.eolang.jeo.representation.xmir.XmlNode;
+import org.eolang.opeo.jeo.Hex;
 import org.objectweb.asm.Opcodes;
 import org.objectweb.asm.Type;
 import org.xembly.Directive;
@@ -97,6 +97,6 @@ public final class NewAddress implements AstNode, Typed {
      * @return Type as string.
      */
     private static String parse(final XmlNode node) {
-        return new HexString(node.firstChild().text()).decode();
+        return new Hex(node.firstChild().text()).string();
     }
 }
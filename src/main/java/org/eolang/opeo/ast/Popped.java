@@ -23,9 +23,8 @@
  */
 package org.eolang.opeo.ast;
 
+import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
 import org.objectweb.asm.Opcodes;
 import org.objectweb.asm.Type;
 import org.xembly.Directive;
@@ -58,10 +57,15 @@ public final class Popped implements AstNode, Typed {
 
     @Override
     public List<AstNode> opcodes() {
-        return Stream.concat(
-            this.node.opcodes().stream(),
-            Stream.of(new Opcode(Opcodes.POP))
-        ).collect(Collectors.toList());
+        final List<AstNode> res = new ArrayList<>(0);
+        this.emit(res);
+        return res;
+    }
+
+    @Override
+    public void emit(final List<AstNode> sink) {
+        this.node.emit(sink);
+        sink.add(new Opcode(Opcodes.POP));
     }
 
     @Override
@@ -25,7 +25,6 @@ package org.eolang.opeo.ast;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
 import lombok.ToString;
 import org.eolang.jeo.representation.xmir.XmlNode;
 import org.eolang.opeo.compilation.Parser;
@@ -82,12 +81,17 @@ public final class Return implements AstNode {
 
     @Override
     public List<AstNode> opcodes() {
-        final List<AstNode> res = new ArrayList<>(1);
-        res.addAll(this.value.opcodes());
-        res.add(this.opcode());
+        final List<AstNode> res = new ArrayList<>(0);
+        this.emit(res);
         return res;
     }
 
+    @Override
+    public void emit(final List<AstNode> sink) {
+        this.value.emit(sink);
+        sink.add(this.opcode());
+    }
+
     /**
      * Get opcode.
      * @return Opcode.
@@ -130,8 +134,8 @@ public final class Return implements AstNode {
      */
     private static AstNode xtype(final XmlNode node, final Parser parser) {
         final AstNode result;
-        final List<XmlNode> children = node.children().collect(Collectors.toList());
-        if (children.isEmpty()) {
+        final Children children = new Children(node);
+        if (children.size() == 0) {
             result = new Empty();
         } else {
             result = parser.parse(children.get(0));
@@ -28,7 +28,6 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
-import java.util.stream.Collectors;
 import org.xembly.Directive;
 import org.xembly.Directives;
 
@@ -83,9 +82,14 @@ public final class Root implements AstNode {
 
     @Override
     public List<AstNode> opcodes() {
-        return this.children.stream()
-            .flatMap(node -> node.opcodes().stream())
-            .collect(Collectors.toList());
+        final List<AstNode> res = new ArrayList<>(0);
+        this.emit(res);
+        return res;
+    }
+
+    @Override
+    public void emit(final List<AstNode> sink) {
+        this.children.forEach(child -> child.emit(sink));
     }
 
     /**
@@ -26,7 +26,6 @@ package org.eolang.opeo.ast;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
-import java.util.stream.Collectors;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
 import org.eolang.jeo.representation.xmir.XmlNode;
@@ -103,7 +102,7 @@ public final class StaticInvocation implements AstNode, Typed {
      * @param parser Parser that will be used to parse the child nodes of the invocation.
      */
     public StaticInvocation(final XmlNode node, final Parser parser) {
-        this(node, new Arguments(node, parser, 2).toList());
+        this(new Children(node), parser);
     }
 
     /**
@@ -112,11 +111,7 @@ public final class StaticInvocation implements AstNode, Typed {
      * @param arguments Arguments
      */
     public StaticInvocation(final XmlNode node, final List<AstNode> arguments) {
-        this(
-            new Attributes(node.children().collect(Collectors.toList()).get(1)),
-            StaticInvocation.xowner(node),
-            arguments
-        );
+        this(new Children(node), arguments);
     }
 
     /**
@@ -158,6 +153,24 @@ public final class StaticInvocation implements AstNode, Typed {
         this.args = arguments;
     }
 
+    /**
+     * Constructor.
+     * @param children Children of XML node
+     * @param parser Parser that will be used to parse the child nodes of the invocation.
+     */
+    private StaticInvocation(final Children children, final Parser parser) {
+        this(children, new Arguments(children, parser, 2).toList());
+    }
+
+    /**
+     * Constructor.
+     * @param children Children of XML node
+     * @param arguments Arguments
+     */
+    private StaticInvocation(final Children children, final List<AstNode> arguments) {
+        this(new Attributes(children.get(1)), StaticInvocation.xowner(children), arguments);
+    }
+
     @Override
     public Iterable<Directive> toXmir() {
         final Directives directives = new Directives();
@@ -177,8 +190,14 @@ public final class StaticInvocation implements AstNode, Typed {
     @Override
     public List<AstNode> opcodes() {
         final List<AstNode> res = new ArrayList<>(0);
-        this.args.stream().map(AstNode::opcodes).forEach(res::addAll);
-        res.add(
+        this.emit(res);
+        return res;
+    }
+
+    @Override
+    public void emit(final List<AstNode> sink) {
+        this.args.forEach(arg -> arg.emit(sink));
+        sink.add(
             new Opcode(
                 Opcodes.INVOKESTATIC,
                 this.owner.toString().replace('.', '/'),
@@ -187,26 +206,26 @@ public final class StaticInvocation implements AstNode, Typed {
                 this.attributes.interfaced()
             )
         );
-        return res;
     }
 
     @Override
     public Type type() {
-        return Type.getReturnType(this.attributes.descriptor());
+        return new Descriptor(this.attributes.descriptor()).returned();
     }
 
     /**
      * Extracts owner from the node.
-     * @param node XML node
+     * @param children Children of XML node
      * @return Owner
      */
-    private static Owner xowner(final XmlNode node) {
-        return node.children().collect(Collectors.toList())
-            .get(0)
-            .attribute("base").map(Owner::new)
+    private static Owner xowner(final Children children) {
+        final XmlNode owner = children.get(0);
+        return owner.attribute("base").map(Owner::new)
             .orElseThrow(
                 () -> new IllegalArgumentException(
-                    String.format("Can't retrieve static invocation owner from the node %s", node)
+                    String.format(
+                        "Can't retrieve static invocation owner from the node %s", owner
+                    )
                 )
             );
     }
@@ -105,13 +105,18 @@ public final class StoreArray implements AstNode, Typed {
     @Override
     public List<AstNode> opcodes() {
         final List<AstNode> res = new ArrayList<>(0);
-        res.addAll(this.array.opcodes());
-        res.addAll(this.index.opcodes());
-        res.addAll(this.value.opcodes());
-        res.add(new Opcode(Opcodes.AASTORE));
+        this.emit(res);
         return res;
     }
 
+    @Override
+    public void emit(final List<AstNode> sink) {
+        this.array.emit(sink);
+        this.index.emit(sink);
+        this.value.emit(sink);
+        sink.add(new Opcode(Opcodes.AASTORE));
+    }
+
     @Override
     public Type type() {
         return Typed.class.cast(this.array).type();
@@ -25,8 +25,8 @@ package org.eolang.opeo.ast;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
-import java.util.stream.Collectors;
 import org.eolang.jeo.representation.xmir.XmlNode;
 import org.objectweb.asm.Opcodes;
 import org.objectweb.asm.Type;
@@ -49,16 +49,21 @@ public final class Substraction implements AstNode, Typed {
      */
     private final AstNode right;
 
+    /**
+     * Result type.
+     * It's computed once, because nested expressions ask for types of their operands
+     * many times. A plain reference keeps the call stack of deeply nested expressions
+     * short, two racing threads just compute the same type twice.
+     */
+    private final AtomicReference<Type> rtype;
+
     /**
      * Constructor.
      * @param node XML node
      * @param parser Parser
      */
     public Substraction(final XmlNode node, final Function<XmlNode, AstNode> parser) {
-        this(
-            parser.apply(node.children().collect(Collectors.toList()).get(0)),
-            parser.apply(node.children().collect(Collectors.toList()).get(1))
-        );
+        this(new Children(node), parser);
     }
 
     /**
@@ -69,6 +74,16 @@ public final class Substraction implements AstNode, Typed {
     public Substraction(final AstNode left, final AstNode right) {
         this.left = left;
         this.right = right;
+        this.rtype = new AtomicReference<>();
+    }
+
+    /**
+     * Constructor.
+     * @param children Children of XML node
+     * @param parser Parser
+     */
+    private Substraction(final Children children, final Function<XmlNode, AstNode> parser) {
+        this(parser.apply(children.get(0)), parser.apply(children.get(1)));
     }
 
     @Override
@@ -83,15 +98,25 @@ public final class Substraction implements AstNode, Typed {
     @Override
     public List<AstNode> opcodes() {
         final List<AstNode> res = new ArrayList<>(0);
-        res.addAll(this.left.opcodes());
-        res.addAll(this.right.opcodes());
-        res.add(this.opcode());
+        this.emit(res);
         return res;
     }
 
+    @Override
+    public void emit(final List<AstNode> sink) {
+        this.left.emit(sink);
+        this.right.emit(sink);
+        sink.add(this.opcode());
+    }
+
     @Override
     public Type type() {
-        return new ExpressionType(this.left, this.right).type();
+        Type result = this.rtype.get();
+        if (result == null) {
+            result = new ExpressionType(this.left, this.right).type();
+            this.rtype.set(result);
+        }
+        return result;
     }
 
     /**
@@ -26,7 +26,6 @@ package org.eolang.opeo.ast;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
-import java.util.stream.Collectors;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
 import org.eolang.jeo.representation.xmir.XmlNode;
@@ -142,10 +141,19 @@ public final class Super implements AstNode, Typed {
      * @param parser Parser that can parse child nodes.
      */
     public Super(final XmlNode xmir, final Parser parser) {
+        this(new Children(xmir), parser);
+    }
+
+    /**
+     * Constructor.
+     * @param children Children of XMIR root node.
+     * @param parser Parser that can parse child nodes.
+     */
+    private Super(final Children children, final Parser parser) {
         this(
-            parser.parse(xmir.children().collect(Collectors.toList()).get(0)),
-            new Arguments(xmir, parser, 2).toList(),
-            new Attributes(xmir.children().collect(Collectors.toList()).get(1))
+            parser.parse(children.get(0)),
+            new Arguments(children, parser, 2).toList(),
+            new Attributes(children.get(1))
         );
     }
 
@@ -162,10 +170,16 @@ public final class Super implements AstNode, Typed {
 
     @Override
     public List<AstNode> opcodes() {
-        final List<AstNode> res = new ArrayList<>(2);
-        res.addAll(this.instance.opcodes());
-        this.arguments.stream().map(AstNode::opcodes).forEach(res::addAll);
-        res.add(
+        final List<AstNode> res = new ArrayList<>(0);
+        this.emit(res);
+        return res;
+    }
+
+    @Override
+    public void emit(final List<AstNode> sink) {
+        this.instance.emit(sink);
+        this.arguments.forEach(arg -> arg.emit(sink));
+        sink.add(
             new Opcode(
                 Opcodes.INVOKESPECIAL,
                 this.attributes.owner(),
@@ -174,11 +188,10 @@ public final class Super implements AstNode, Typed {
                 false
             )
         );
-        return res;
     }
 
     @Override
     public Type type() {
-        return Type.getReturnType(this.attributes.descriptor());
+        return new Descriptor(this.attributes.descriptor()).returned();
     }
 }
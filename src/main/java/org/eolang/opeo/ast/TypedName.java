@@ -24,7 +24,6 @@
 package org.eolang.opeo.ast;
 
 import java.util.regex.Pattern;
-import org.objectweb.asm.Type;
 
 /**
  * Method name with a type.
@@ -85,7 +84,7 @@ public final class TypedName {
         return String.join(
             String.format("%s", TypedName.DELIMITER),
             TypedName.ARRAY.matcher(
-                Type.getReturnType(descriptor)
+                new Descriptor(descriptor).returned()
                     .getClassName()
                     .replace('.', '_')
             ).replaceAll("@"),
@@ -93,9 +93,14 @@ public final class VariableAssignment implements AstNode {
 
     @Override
     public List<AstNode> opcodes() {
-        final List<AstNode> res = new ArrayList<>(3);
-        res.addAll(this.right.opcodes());
-        res.add(this.left.store());
+        final List<AstNode> res = new ArrayList<>(0);
+        this.emit(res);
         return res;
     }
+
+    @Override
+    public void emit(final List<AstNode> sink) {
+        this.right.emit(sink);
+        sink.add(this.left.store());
+    }
 }
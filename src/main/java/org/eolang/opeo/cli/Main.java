@@ -0,0 +1,307 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2023 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.opeo.cli;
+
+import java.io.File;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import org.eolang.opeo.daemon.Job;
+import org.eolang.opeo.report.Summary;
+
+/**
+ * Command line entry point.
+ * <p>
+ *     Runs the same {@link Job}s as the 'decompile' and 'compile' goals, but without
+ *     Maven, for many input roots at once. All the roots are processed by one shared
+ *     thread pool in the same JVM, so the JIT stays warm between them. The JSON summary
+ *     is printed to stdout, logs go to stderr. The exit code is zero only if all the
+ *     roots are processed without failures:
+ *     <pre>
+ *     java -jar opeo-maven-plugin-cli.jar decompile --threads=8 in1=out1 in2=out2
+ *     </pre>
+ * </p>
+ * @since 0.5
+ */
+public final class Main {
+
+    /**
+     * Exit code of the failed run.
+     */
+    private static final int FAILED = 1;
+
+    /**
+     * Exit code of the wrong usage.
+     */
+    private static final int USAGE = 2;
+
+    /**
+     * Names of all the options, see {@link #HELP}.
+     */
+    private static final Set<String> OPTIONS = new HashSet<>(
+        Arrays.asList(
+            "threads", "cache-dir", "cache-size", "budget-steps", "budget-millis",
+            "metrics-timing", "includes", "excludes", "roots"
+        )
+    );
+
+    /**
+     * Usage.
+     */
+    private static final String HELP = String.join(
+        "\n",
+        "Usage: <decompile|compile> [options] <sources>=<output>[=<modified>]...",
+        "Options:",
+        "  --threads=<n>        size of the shared thread pool, all processors by default",
+        "  --cache-dir=<dir>    persistent cache of decompiled methods, none by default",
+        "  --cache-size=<mb>    maximum size of the persistent cache, 512 by default",
+        "  --budget-steps=<n>   maximum steps to decompile a method, 1000000 by default",
+        "  --budget-millis=<n>  maximum time to decompile a method, 60000 by default",
+        "  --metrics-timing     measure the time spent by each decompilation agent",
+        "  --includes=<globs>   comma-separated globs of XMIR files to process, all by default",
+        "  --excludes=<globs>   comma-separated globs of XMIR files to copy as is",
+        "  --roots=<globs>      decompile only classes reachable from these XMIR files",
+        "A <modified> folder turns on the selective decompiler, like in the Maven plugin."
+    );
+
+    /**
+     * Command line arguments.
+     */
+    private final List<String> args;
+
+    /**
+     * Constructor.
+     * @param args Command line arguments.
+     */
+    public Main(final String... args) {
+        this.args = Arrays.asList(args);
+    }
+
+    /**
+     * Entry point.
+     * @param args Command line arguments.
+     */
+    public static void main(final String... args) {
+        if (System.getProperty("logback.configurationFile") == null) {
+            System.setProperty("logback.configurationFile", "org/eolang/opeo/cli/logback.xml");
+        }
+        System.exit(new Main(args).exec(System.out, System.err));
+    }
+
+    /**
+     * Run.
+     * @param out Where to print the JSON summary.
+     * @param err Where to print errors.
+     * @return Exit code.
+     */
+    public int exec(final PrintStream out, final PrintStream err) {
+        int result;
+        try {
+            final Map<String, String> options = this.options();
+            final List<String[]> roots = this.roots();
+            final Summary summary = new Summary(this.goal());
+            final ForkJoinPool pool = new ForkJoinPool(
+                Integer.parseInt(
+                    options.getOrDefault(
+                        "threads", String.valueOf(Runtime.getRuntime().availableProcessors())
+                    )
+                )
+            );
+            try {
+                pool.submit(
+                    () -> roots.parallelStream().forEach(root -> this.run(root, options, summary))
+                ).get();
+            } finally {
+                pool.shutdown();
+            }
+            out.println(summary.json());
+            if (summary.successful()) {
+                result = 0;
+            } else {
+                result = Main.FAILED;
+            }
+        } catch (final IllegalArgumentException exception) {
+            err.println(exception.getMessage());
+            err.println(Main.HELP);
+            result = Main.USAGE;
+        } catch (final InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            err.println(exception.getMessage());
+            result = Main.FAILED;
+        } catch (final ExecutionException exception) {
+            err.println(exception.getCause().getMessage());
+            result = Main.FAILED;
+        }
+        return result;
+    }
+
+    /**
+     * Process a single root.
+     * @param root Sources, output and optional modified folders.
+     * @param options Options.
+     * @param summary Summary where to record the result.
+     * @checkstyle IllegalCatch (20 lines)
+     */
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    private void run(
+        final String[] root, final Map<String, String> options, final Summary summary
+    ) {
+        try {
+            summary.processed(root[0], root[1], this.job(root, options).run());
+        } catch (final Exception exception) {
+            summary.failed(root[0], root[1], exception);
+        }
+    }
+
+    /**
+     * Job of a root.
+     * @param root Sources, output and optional modified folders.
+     * @param options Options.
+     * @return Job.
+     */
+    private Job job(final String[] root, final Map<String, String> options) {
+        final Job job = new Job(this.goal())
+            .with("sources", root[0])
+            .with("output", root[1])
+            .with("includes", options.get("includes"))
+            .with("excludes", options.get("excludes"));
+        final Job result;
+        if ("decompile".equals(this.goal())) {
+            final String modified;
+            if (root.length > 2) {
+                modified = root[2];
+            } else {
+                modified = null;
+            }
+            result = job.with("modified", modified)
+                .with("cache.dir", options.get("cache-dir"))
+                .with("cache.size", options.getOrDefault("cache-size", "512"))
+                .with("version", Main.version())
+                .with("budget.steps", options.getOrDefault("budget-steps", "1000000"))
+                .with("budget.millis", options.getOrDefault("budget-millis", "60000"))
+                .with("metrics.timing", options.containsKey("metrics-timing"))
+                .with("roots", options.get("roots"));
+        } else {
+            result = job;
+        }
+        return result;
+    }
+
+    /**
+     * Arguments after the goal.
+     * @return Options and roots.
+     */
+    private List<String> rest() {
+        return this.args.subList(Math.min(1, this.args.size()), this.args.size());
+    }
+
+    /**
+     * Goal.
+     * @return Goal name.
+     */
+    private String goal() {
+        if (this.args.isEmpty()) {
+            throw new IllegalArgumentException("The goal is not specified");
+        }
+        final String goal = this.args.get(0);
+        if (!"decompile".equals(goal) && !"compile".equals(goal)) {
+            throw new IllegalArgumentException(String.format("Unknown goal '%s'", goal));
+        }
+        return goal;
+    }
+
+    /**
+     * Options.
+     * @return Options without leading dashes, flags have empty values.
+     * @throws IllegalArgumentException If an option is unknown, so a typo isn't ignored.
+     */
+    private Map<String, String> options() {
+        final Map<String, String> result = new HashMap<>(0);
+        for (final String arg : this.rest()) {
+            if (arg.startsWith("--")) {
+                final int eq = arg.indexOf('=');
+                final String name;
+                final String value;
+                if (eq < 0) {
+                    name = arg.substring(2);
+                    value = "";
+                } else {
+                    name = arg.substring(2, eq);
+                    value = arg.substring(eq + 1);
+                }
+                if (!Main.OPTIONS.contains(name)) {
+                    throw new IllegalArgumentException(
+                        String.format("Unknown option '%s'", arg)
+                    );
+                }
+                result.put(name, value);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Input roots.
+     * @return Sources, output and optional modified folders of each root.
+     */
+    private List<String[]> roots() {
+        final List<String[]> result = new ArrayList<>(0);
+        for (final String arg : this.rest()) {
+            if (!arg.startsWith("--")) {
+                final String[] root = arg.split("=");
+                if (root.length < 2 || root.length > 3) {
+                    throw new IllegalArgumentException(
+                        String.format("Wrong root '%s', <sources>=<output> is expected", arg)
+                    );
+                }
+                if (!new File(root[0]).isDirectory()) {
+                    throw new IllegalArgumentException(
+                        String.format("Sources folder '%s' doesn't exist", root[0])
+                    );
+                }
+                result.add(root);
+            }
+        }
+        if (result.isEmpty()) {
+            throw new IllegalArgumentException("No input roots are specified");
+        }
+        return result;
+    }
+
+    /**
+     * Version of the tool.
+     * @return Version from the jar manifest.
+     */
+    private static String version() {
+        return Objects.toString(Main.class.getPackage().getImplementationVersion(), "dev");
+    }
+}
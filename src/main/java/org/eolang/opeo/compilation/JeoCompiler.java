@@ -29,6 +29,8 @@ import org.eolang.jeo.representation.xmir.XmlClass;
 import org.eolang.jeo.representation.xmir.XmlMethod;
 import org.eolang.jeo.representation.xmir.XmlNode;
 import org.eolang.jeo.representation.xmir.XmlProgram;
+import org.eolang.opeo.report.Flight;
+import org.eolang.opeo.report.Phase;
 
 /**
  * Compiler of high-level EO programs to low-level EO suitable for jeo-maven-plugin.
@@ -42,13 +44,29 @@ public final class JeoCompiler {
      */
     private final XML opeo;
 
+    /**
+     * Registry of node parsers.
+     */
+    private final Parsers parsers;
+
     /**
      * Constructor.
      *
      * @param opeo The high-level EO program generated by opeo-maven-plugin.
      */
     public JeoCompiler(final XML opeo) {
+        this(opeo, new Parsers());
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param opeo The high-level EO program generated by opeo-maven-plugin.
+     * @param parsers Registry of node parsers, custom EO constructs can be registered there.
+     */
+    public JeoCompiler(final XML opeo, final Parsers parsers) {
         this.opeo = opeo;
+        this.parsers = parsers;
     }
 
     /**
@@ -63,7 +81,7 @@ public final class JeoCompiler {
             .orElse("");
         final XmlClass clazz = program.top();
         final XmlMethod[] methods = clazz.methods().stream()
-            .map(method -> JeoCompiler.compile(method, pckg))
+            .map(method -> JeoCompiler.compile(method, pckg, this.parsers))
             .toArray(XmlMethod[]::new);
         return program.replaceTopClass(
             clazz.replaceMethods(methods)
@@ -75,6 +93,7 @@ public final class JeoCompiler {
      *
      * @param method The method to compile.
      * @param pckg The package of the method.
+     * @param parsers Registry of node parsers.
      * @return The compiled method.
      * @todo #229:90min Refactor {@link #compile} method to handle exceptions appropriately.
      *  The method {@link #compile} is catching generic exceptions which is bad.
@@ -96,19 +115,24 @@ public final class JeoCompiler {
      * @checkstyle IllegalCatch (50 lines)
      */
     @SuppressWarnings({"PMD.AvoidCatchingGenericException", "PMD.IdenticalCatchBranches"})
-    private static XmlMethod compile(final XmlMethod method, final String pckg) {
+    private static XmlMethod compile(
+        final XmlMethod method, final String pckg, final Parsers parsers
+    ) {
         try {
             final XmlMethod result;
+            final Flight flight = new Flight(
+                Phase.COMPILE, pckg, String.format("%s%s", method.name(), method.descriptor())
+            );
             new AllLabels().clearCache();
+            final XmlNode[] instructions = new XmirParser(method.nodes(), parsers)
+                .toJeoNodes()
+                .toArray(new XmlNode[0]);
             if (pckg.contains("org.eolang")) {
-                result = method.withoutMaxs().withInstructions(
-                    new XmirParser(method.nodes()).toJeoNodes().toArray(new XmlNode[0])
-                );
+                result = method.withoutMaxs().withInstructions(instructions);
             } else {
-                result = method.withInstructions(
-                    new XmirParser(method.nodes()).toJeoNodes().toArray(new XmlNode[0])
-                );
+                result = method.withInstructions(instructions);
             }
+            flight.commit(instructions.length);
             return result;
         } catch (final ClassCastException exception) {
             throw new IllegalArgumentException(
@@ -0,0 +1,261 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2023 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.opeo.compilation;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import org.eolang.jeo.representation.xmir.XmlNode;
+import org.eolang.opeo.ast.Addition;
+import org.eolang.opeo.ast.ArrayConstructor;
+import org.eolang.opeo.ast.AstNode;
+import org.eolang.opeo.ast.Attributes;
+import org.eolang.opeo.ast.Cast;
+import org.eolang.opeo.ast.CheckCast;
+import org.eolang.opeo.ast.ClassField;
+import org.eolang.opeo.ast.ClassName;
+import org.eolang.opeo.ast.Const;
+import org.eolang.opeo.ast.Constructor;
+import org.eolang.opeo.ast.DynamicInvocation;
+import org.eolang.opeo.ast.FieldAssignment;
+import org.eolang.opeo.ast.FieldRetrieval;
+import org.eolang.opeo.ast.If;
+import org.eolang.opeo.ast.InterfaceInvocation;
+import org.eolang.opeo.ast.Invocation;
+import org.eolang.opeo.ast.Label;
+import org.eolang.opeo.ast.Labeled;
+import org.eolang.opeo.ast.LocalVariable;
+import org.eolang.opeo.ast.Multiplication;
+import org.eolang.opeo.ast.NewAddress;
+import org.eolang.opeo.ast.Opcode;
+import org.eolang.opeo.ast.Popped;
+import org.eolang.opeo.ast.RawXml;
+import org.eolang.opeo.ast.Return;
+import org.eolang.opeo.ast.StaticInvocation;
+import org.eolang.opeo.ast.StoreArray;
+import org.eolang.opeo.ast.Substraction;
+import org.eolang.opeo.ast.Super;
+import org.eolang.opeo.ast.This;
+import org.eolang.opeo.ast.VariableAssignment;
+
+/**
+ * Registry of node parsers.
+ * Maps the 'base' attribute of a high-level EO node to the factory of its AST node.
+ * Exact bases, like '.plus' or 'label', are found by a single hash lookup. If there is
+ * no exact match, prefix factories, like 'const-' or 'local-', are tried in the order
+ * they were registered.
+ * <p>
+ *     The registry is immutable: {@link #with(String, Factory)} and
+ *     {@link #withPrefix(String, Factory)} return a modified copy, so custom EO constructs
+ *     can be plugged in without changing the default registry.
+ * </p>
+ * @since 0.5
+ * @checkstyle ClassFanOutComplexityCheck (500 lines)
+ */
+public final class Parsers {
+
+    /**
+     * Default registry.
+     */
+    private static final Parsers DEFAULT = Parsers.defaults();
+
+    /**
+     * Factories by exact base.
+     */
+    private final Map<String, Factory> exact;
+
+    /**
+     * Factories by base prefix, in the order of registration.
+     */
+    private final Map<String, Factory> prefixed;
+
+    /**
+     * Constructor.
+     * Registry of all the nodes supported by opeo.
+     */
+    public Parsers() {
+        this(Parsers.DEFAULT.exact, Parsers.DEFAULT.prefixed);
+    }
+
+    /**
+     * Constructor.
+     * @param exact Factories by exact base.
+     * @param prefixed Factories by base prefix.
+     */
+    private Parsers(final Map<String, Factory> exact, final Map<String, Factory> prefixed) {
+        this.exact = exact;
+        this.prefixed = prefixed;
+    }
+
+    /**
+     * Register a factory for the exact base.
+     * Replaces the previously registered factory for the same base.
+     * @param base Base attribute of the node, like '.plus'.
+     * @param factory Factory of the AST node.
+     * @return New registry.
+     */
+    public Parsers with(final String base, final Factory factory) {
+        final Map<String, Factory> copy = new HashMap<>(this.exact);
+        copy.put(base, factory);
+        return new Parsers(Collections.unmodifiableMap(copy), this.prefixed);
+    }
+
+    /**
+     * Register a factory for all the bases starting with the prefix.
+     * A new prefix is tried before the already registered ones.
+     * @param prefix Prefix of the base attribute, like 'const-'.
+     * @param factory Factory of the AST node.
+     * @return New registry.
+     */
+    public Parsers withPrefix(final String prefix, final Factory factory) {
+        final Map<String, Factory> copy = new LinkedHashMap<>(this.prefixed.size() + 1);
+        copy.put(prefix, factory);
+        this.prefixed.forEach(copy::putIfAbsent);
+        return new Parsers(this.exact, Collections.unmodifiableMap(copy));
+    }
+
+    /**
+     * Parse the node.
+     * @param base Base attribute of the node.
+     * @param node The node.
+     * @param parser Parser of the child nodes.
+     * @return AST node.
+     */
+    public AstNode parse(final String base, final XmlNode node, final Parser parser) {
+        return this.factory(base).orElseThrow(
+            () -> new IllegalArgumentException(
+                String.format("Can't recognize node: %n%s%n", node)
+            )
+        ).node(node, parser);
+    }
+
+    /**
+     * Find the factory of the base.
+     * @param base Base attribute of the node.
+     * @return Factory, if any.
+     */
+    private Optional<Factory> factory(final String base) {
+        Optional<Factory> result = Optional.ofNullable(this.exact.get(base));
+        if (!result.isPresent()) {
+            result = this.prefixed.entrySet().stream()
+                .filter(entry -> base.startsWith(entry.getKey()))
+                .map(Map.Entry::getValue)
+                .findFirst();
+        }
+        return result;
+    }
+
+    /**
+     * Default registry.
+     * @return Registry of all the nodes supported by opeo.
+     * @checkstyle JavaNCSSCheck (100 lines)
+     * @checkstyle ExecutableStatementCountCheck (100 lines)
+     */
+    @SuppressWarnings("PMD.NcssCount")
+    private static Parsers defaults() {
+        final Map<String, Factory> exact = new HashMap<>(64);
+        exact.put(".ignore-result", (node, parser) -> new Popped(parser.parse(node.firstChild())));
+        exact.put("labeled", (node, parser) -> new Labeled(node, parser::parse));
+        exact.put("times", (node, parser) -> new Multiplication(node, parser::parse));
+        exact.put(".if", (node, parser) -> new If(node, parser::parse));
+        exact.put(".new-type", (node, parser) -> new NewAddress(node));
+        exact.put(".plus", (node, parser) -> new Addition(node, parser::parse));
+        exact.put(".minus", (node, parser) -> new Substraction(node, parser::parse));
+        exact.put("cast", (node, parser) -> new Cast(node, parser::parse));
+        exact.put("frame", (node, parser) -> new RawXml(node));
+        exact.put("opcode", (node, parser) -> new Opcode(node));
+        exact.put("label", (node, parser) -> new Label(node));
+        exact.put("float", (node, parser) -> new Const(node));
+        exact.put("int", (node, parser) -> new Const(node));
+        exact.put("string", (node, parser) -> new Const(node));
+        exact.put("double", (node, parser) -> new Const(node));
+        exact.put("long", (node, parser) -> new Const(node));
+        exact.put("type", (node, parser) -> new ClassName(node));
+        exact.put(".super", Super::new);
+        exact.put("$", (node, parser) -> new This(node));
+        exact.put("static-field", (node, parser) -> new ClassField(node));
+        exact.put(".write-array", StoreArray::new);
+        exact.put(".write-local-var", VariableAssignment::new);
+        exact.put(".get-field", FieldRetrieval::new);
+        exact.put(".write-field", FieldAssignment::new);
+        exact.put(".new", Constructor::new);
+        exact.put(".array-node", ArrayConstructor::new);
+        exact.put("return", Return::new);
+        exact.put("checkcast", CheckCast::new);
+        final Map<String, Factory> prefixed = new LinkedHashMap<>(4);
+        prefixed.put("const-", (node, parser) -> new Const(node));
+        prefixed.put("local-", (node, parser) -> new LocalVariable(node));
+        prefixed.put(".", Parsers::invocation);
+        return new Parsers(
+            Collections.unmodifiableMap(exact),
+            Collections.unmodifiableMap(prefixed)
+        );
+    }
+
+    /**
+     * Parse method invocation.
+     * The kind of invocation is defined by the attributes placed in the second child.
+     * @param node The node.
+     * @param parser Parser of the child nodes.
+     * @return AST node.
+     */
+    private static AstNode invocation(final XmlNode node, final Parser parser) {
+        final Attributes attributes = new Attributes(
+            node.children().skip(1).findFirst().orElseThrow(
+                () -> new IllegalArgumentException(
+                    String.format("Can't find attributes of invocation: %n%s%n", node)
+                )
+            )
+        );
+        final AstNode result;
+        if ("static".equals(attributes.type())) {
+            result = new StaticInvocation(node, parser);
+        } else if ("interface".equals(attributes.type())) {
+            result = new InterfaceInvocation(node, parser);
+        } else if ("dynamic".equals(attributes.type())) {
+            result = new DynamicInvocation(node, parser);
+        } else {
+            result = new Invocation(node, parser);
+        }
+        return result;
+    }
+
+    /**
+     * Factory of AST node.
+     * @since 0.5
+     */
+    @FunctionalInterface
+    public interface Factory {
+
+        /**
+         * Create AST node.
+         * @param node XML node.
+         * @param parser Parser of the child nodes.
+         * @return AST node.
+         */
+        AstNode node(XmlNode node, Parser parser);
+    }
+}
@@ -28,7 +28,10 @@ import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.stream.Collectors;
 import org.eolang.opeo.decompilation.agents.AllAgents;
+import org.eolang.opeo.report.Meter;
+import org.eolang.opeo.report.Report;
 import org.eolang.opeo.storage.CompilationStorage;
+import org.eolang.opeo.storage.Filter;
 import org.eolang.opeo.storage.Storage;
 import org.eolang.opeo.storage.XmirEntry;
 
@@ -50,13 +53,42 @@ public final class SelectiveCompiler implements Compiler {
      */
     private final String[] supported;
 
+    /**
+     * Performance report.
+     */
+    private final Report report;
+
     /**
      * Constructor.
      * @param xmirs XMIRs to compile directory.
      * @param output Output directory
      */
     public SelectiveCompiler(final Path xmirs, final Path output) {
-        this(new CompilationStorage(xmirs, output));
+        this(xmirs, output, new Report());
+    }
+
+    /**
+     * Constructor.
+     * @param xmirs XMIRs to compile directory.
+     * @param output Output directory
+     * @param report Performance report.
+     */
+    public SelectiveCompiler(final Path xmirs, final Path output, final Report report) {
+        this(xmirs, output, report, new Filter());
+    }
+
+    /**
+     * Constructor.
+     * @param xmirs XMIRs to compile directory.
+     * @param output Output directory
+     * @param report Performance report.
+     * @param filter Filter of XMIR files, rejected files are copied as is.
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    public SelectiveCompiler(
+        final Path xmirs, final Path output, final Report report, final Filter filter
+    ) {
+        this(new CompilationStorage(xmirs, output, report, filter), report);
     }
 
     /**
@@ -64,7 +96,17 @@ public final class SelectiveCompiler implements Compiler {
      * @param storage Storage.
      */
     public SelectiveCompiler(final Storage storage) {
+        this(storage, new Report());
+    }
+
+    /**
+     * Constructor.
+     * @param storage Storage.
+     * @param report Performance report.
+     */
+    public SelectiveCompiler(final Storage storage, final Report report) {
         this.storage = storage;
+        this.report = report;
         this.supported = new AllAgents().supportedOpcodes();
     }
 
@@ -86,20 +128,27 @@ public final class SelectiveCompiler implements Compiler {
      * @return One if compiled, zero otherwise.
      */
     private int compile(final XmirEntry entry) {
+        final Meter meter = new Meter();
+        final XmirEntry parsed = this.report.stage("parse", () -> entry.transform(xml -> xml));
         final XmirEntry res;
-        if (entry.xpath(this.unsupportedOpcodes()).isEmpty()
-            || entry.xpath(SelectiveCompiler.trycatches())
+        if (parsed.xpath(this.unsupportedOpcodes()).isEmpty()
+            || parsed.xpath(SelectiveCompiler.trycatches())
             .isEmpty()) {
-            res = entry.transform(xml -> new JeoCompiler(xml).compile());
+            res = this.report.stage(
+                "compile",
+                () -> parsed.transform(xml -> new JeoCompiler(xml).compile())
+            );
         } else {
             Logger.info(
                 this,
                 "Skipping %s, because it wasn't previously compiled",
                 entry
             );
-            res = entry;
+            this.report.skipped();
+            res = parsed;
         }
         this.storage.save(res);
+        this.report.file(entry.relative(), meter);
         return 1;
     }
 
@@ -23,51 +23,21 @@
  */
 package org.eolang.opeo.compilation;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 import org.eolang.jeo.representation.xmir.XmlNode;
-import org.eolang.opeo.ast.Addition;
-import org.eolang.opeo.ast.ArrayConstructor;
 import org.eolang.opeo.ast.AstNode;
-import org.eolang.opeo.ast.Attributes;
-import org.eolang.opeo.ast.Cast;
-import org.eolang.opeo.ast.CheckCast;
-import org.eolang.opeo.ast.ClassField;
-import org.eolang.opeo.ast.ClassName;
-import org.eolang.opeo.ast.Const;
-import org.eolang.opeo.ast.Constructor;
 import org.eolang.opeo.ast.Duplicate;
-import org.eolang.opeo.ast.DynamicInvocation;
-import org.eolang.opeo.ast.FieldAssignment;
-import org.eolang.opeo.ast.FieldRetrieval;
-import org.eolang.opeo.ast.If;
-import org.eolang.opeo.ast.InterfaceInvocation;
-import org.eolang.opeo.ast.Invocation;
-import org.eolang.opeo.ast.Label;
-import org.eolang.opeo.ast.Labeled;
-import org.eolang.opeo.ast.LocalVariable;
-import org.eolang.opeo.ast.Multiplication;
-import org.eolang.opeo.ast.NewAddress;
-import org.eolang.opeo.ast.Opcode;
-import org.eolang.opeo.ast.Popped;
-import org.eolang.opeo.ast.RawXml;
-import org.eolang.opeo.ast.Return;
-import org.eolang.opeo.ast.StaticInvocation;
-import org.eolang.opeo.ast.StoreArray;
-import org.eolang.opeo.ast.Substraction;
-import org.eolang.opeo.ast.Super;
-import org.eolang.opeo.ast.This;
-import org.eolang.opeo.ast.VariableAssignment;
 import org.xembly.Xembler;
 
 /**
  * High-level representation of Opeo nodes.
  *
  * @since 0.1
- * @checkstyle ClassFanOutComplexityCheck (500 lines)
  */
 final class XmirParser implements Parser {
 
@@ -81,6 +51,11 @@ final class XmirParser implements Parser {
      */
     private final Map<String, Duplicate> references;
 
+    /**
+     * Registry of node parsers.
+     */
+    private final Parsers parsers;
+
     /**
      * Constructor.
      *
@@ -103,24 +78,32 @@ final class XmirParser implements Parser {
      * @param nodes Opeo nodes.
      */
     XmirParser(final List<XmlNode> nodes) {
+        this(nodes, new Parsers());
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param nodes Opeo nodes.
+     * @param parsers Registry of node parsers.
+     */
+    XmirParser(final List<XmlNode> nodes, final Parsers parsers) {
         this.nodes = nodes;
         this.references = new HashMap<>(0);
+        this.parsers = parsers;
     }
 
     /**
      * Convert XmlNode to AstNode.
+     * Duplicated nodes and references to them depend on this parser, so they are
+     * recognized here, the rest is parsed by the shared registry.
      *
      * @param node XmlNode
      * @return Ast node
-     * @checkstyle CyclomaticComplexityCheck (500 lines)
-     * @checkstyle JavaNCSSCheck (500 lines)
-     * @checkstyle NoJavadocForOverriddenMethodsCheck (500 lines)
-     * @checkstyle ExecutableStatementCountCheck (500 lines)
+     * @checkstyle NoJavadocForOverriddenMethodsCheck (5 lines)
      */
     @Override
-    @SuppressWarnings({"PMD.NcssCount", "PMD.ExcessiveMethodLength"})
     public AstNode parse(final XmlNode node) {
-        final AstNode result;
         final String base = node.attribute("base").orElseThrow(
             () -> new IllegalArgumentException(
                 String.format(
@@ -129,128 +112,66 @@ final class XmirParser implements Parser {
                 )
             )
         );
-        if (".ignore-result".equals(base)) {
-            result = new Popped(this.parse(node.firstChild()));
-        } else if ("labeled".equals(base)) {
-            result = new Labeled(node, this::parse);
-        } else if ("times".equals(base)) {
-            result = new Multiplication(node, this::parse);
-        } else if (".if".equals(base)) {
-            result = new If(node, this::parse);
-        } else if (base.startsWith("const-")) {
-            result = new Const(node);
-        } else if (".new-type".equals(base)) {
-            result = new NewAddress(node);
+        final AstNode result;
+        if ("duplicated".equals(base)) {
+            result = this.duplicated(node);
         } else if (base.startsWith("ref-")) {
-            if (this.references.containsKey(base)) {
-                result = this.references.get(base);
-            } else {
-                throw new IllegalStateException(String.format("Reference not found '%s'", base));
-            }
-        } else if ("duplicated".equals(base)) {
-            final String name = node.attribute("name")
-                .orElseThrow(
-                    () -> new IllegalStateException(
-                        String.format("Name attribute is missing '%s'", node)
-                    )
-                );
-            final Duplicate duplicate = new Duplicate(this.parse(node.firstChild()));
-            this.references.put(name, duplicate);
-            result = duplicate;
-        } else if (".plus".equals(base)) {
-            result = new Addition(node, this::parse);
-        } else if (".minus".equals(base)) {
-            result = new Substraction(node, this::parse);
-        } else if ("cast".equals(base)) {
-            result = new Cast(node, this::parse);
-        } else if ("frame".equals(base)) {
-            result = new RawXml(node);
-        } else if ("opcode".equals(base)) {
-            result = new Opcode(node);
-        } else if ("label".equals(base)) {
-            result = new Label(node);
-        } else if ("float".equals(base)) {
-            result = new Const(node);
-        } else if ("int".equals(base)) {
-            result = new Const(node);
-        } else if ("string".equals(base)) {
-            result = new Const(node);
-        } else if ("double".equals(base)) {
-            result = new Const(node);
-        } else if ("long".equals(base)) {
-            result = new Const(node);
-        } else if ("type".equals(base)) {
-            result = new ClassName(node);
-        } else if (".super".equals(base)) {
-            result = new Super(node, this);
-        } else if ("$".equals(base)) {
-            result = new This(node);
-        } else if ("static-field".equals(base)) {
-            result = new ClassField(node);
-        } else if (".write-array".equals(base)) {
-            result = new StoreArray(node, this);
-        } else if (".write-local-var".equals(base)) {
-            result = new VariableAssignment(node, this);
-        } else if (".get-field".equals(base)) {
-            result = new FieldRetrieval(node, this);
-        } else if (".write-field".equals(base)) {
-            result = new FieldAssignment(node, this);
-        } else if (base.startsWith("local-")) {
-            result = new LocalVariable(node);
-        } else if (".new".equals(base)) {
-            result = new Constructor(node, this);
-        } else if (".array-node".equals(base)) {
-            result = new ArrayConstructor(node, this);
-        } else if ("return".equals(base)) {
-            result = new Return(node, this);
-        } else if ("checkcast".equals(base)) {
-            result = new CheckCast(node, this);
-        } else if (!base.isEmpty() && base.charAt(0) == '.') {
-            final Attributes attributes = new Attributes(
-                node.children().collect(Collectors.toList()).get(1)
-            );
-            if ("static".equals(attributes.type())) {
-                result = new StaticInvocation(node, this);
-            } else if ("interface".equals(attributes.type())) {
-                result = new InterfaceInvocation(node, this);
-            } else if ("dynamic".equals(attributes.type())) {
-                result = new DynamicInvocation(node, this);
-            } else {
-                result = new Invocation(node, this);
-            }
+            result = this.reference(node);
         } else {
-            throw new IllegalArgumentException(
-                String.format("Can't recognize node: %n%s%n", node)
-            );
+            result = this.parsers.parse(base, node, this);
         }
         return result;
     }
 
     /**
      * Convert to XML nodes.
+     * All the parsed nodes emit their opcodes into a single list, which is then
+     * converted into XML nodes.
      *
      * @return XML nodes.
      */
     List<XmlNode> toJeoNodes() {
-        return this.nodes.stream()
-            .map(this::opcodes)
-            .flatMap(List::stream)
+        final List<AstNode> opcodes = new ArrayList<>(this.nodes.size());
+        for (final XmlNode node : this.nodes) {
+            this.parse(node).emit(opcodes);
+        }
+        return opcodes.stream()
+            .map(AstNode::toXmir)
+            .map(Xembler::new)
+            .map(Xembler::xmlQuietly)
+            .map(XmlNode::new)
             .collect(Collectors.toList());
     }
 
     /**
-     * Convert XmlNode into a list of opcodes.
+     * Parse duplicated node and remember it, so references can find it later.
      *
      * @param node XmlNode
-     * @return List of opcodes
+     * @return Duplicate
      */
-    private List<XmlNode> opcodes(final XmlNode node) {
-        return this.parse(node).opcodes()
-            .stream()
-            .map(AstNode::toXmir)
-            .map(Xembler::new)
-            .map(Xembler::xmlQuietly)
-            .map(XmlNode::new)
-            .collect(Collectors.toList());
+    private AstNode duplicated(final XmlNode node) {
+        final String name = node.attribute("name")
+            .orElseThrow(
+                () -> new IllegalStateException(
+                    String.format("Name attribute is missing '%s'", node)
+                )
+            );
+        final Duplicate duplicate = new Duplicate(this.parse(node.firstChild()));
+        this.references.put(name, duplicate);
+        return duplicate;
+    }
+
+    /**
+     * Find the duplicated node the reference points to.
+     *
+     * @param node XmlNode
+     * @return Duplicate
+     */
+    private AstNode reference(final XmlNode node) {
+        final String base = node.attribute("base").orElse("");
+        if (!this.references.containsKey(base)) {
+            throw new IllegalStateException(String.format("Reference not found '%s'", base));
+        }
+        return this.references.get(base);
     }
 }
@@ -0,0 +1,229 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2023 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.opeo.daemon;
+
+import com.jcabi.log.Logger;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Properties;
+import org.eolang.opeo.decompilation.Fingerprint;
+
+/**
+ * Client of the warm {@link Daemon}.
+ * <p>
+ *     Sends a job to the daemon, if the daemon is running the same plugin build,
+ *     see {@link Fingerprint}.
+ *     Otherwise, it reports that the job wasn't run, so the caller can run it in-process.
+ * </p>
+ * <p>
+ *     The connection and the handshake have a short timeout, so a stale endpoint file,
+ *     which points to a port of another process, never blocks the build: the job is
+ *     reported as not run. Once the daemon has accepted the job, it writes the output,
+ *     so running the job in-process too would race with it. That's why a timeout or
+ *     a broken connection after that point fails the job instead.
+ * </p>
+ * @since 0.5
+ */
+public final class Client {
+
+    /**
+     * Timeout of the connection and the handshake in milliseconds.
+     */
+    private static final int TIMEOUT = 1000;
+
+    /**
+     * Default timeout of the job in milliseconds.
+     */
+    private static final int JOB = 600_000;
+
+    /**
+     * Endpoint file written by the daemon.
+     */
+    private final Path file;
+
+    /**
+     * Plugin version.
+     */
+    private final String version;
+
+    /**
+     * How long to wait for the job to be run, in milliseconds.
+     */
+    private final int millis;
+
+    /**
+     * Constructor.
+     * @param file Endpoint file written by the daemon.
+     * @param version Plugin version.
+     */
+    public Client(final Path file, final String version) {
+        this(file, version, Client.JOB);
+    }
+
+    /**
+     * Constructor.
+     * @param file Endpoint file written by the daemon.
+     * @param version Plugin version.
+     * @param millis How long to wait for the job to be run, in milliseconds.
+     */
+    public Client(final Path file, final String version, final int millis) {
+        this.file = file;
+        this.version = version;
+        this.millis = millis;
+    }
+
+    /**
+     * Run the job by the daemon.
+     * @param job Job.
+     * @return True if the daemon has run the job, false if there is no suitable daemon.
+     */
+    public boolean run(final Job job) {
+        boolean result = false;
+        if (Files.exists(this.file)) {
+            try {
+                result = this.send(job);
+            } catch (final SocketTimeoutException exception) {
+                Logger.warn(
+                    this,
+                    "Daemon from %[file]s didn't answer in time (%s), running %s in-process",
+                    this.file,
+                    exception.getMessage(),
+                    job
+                );
+            } catch (final IOException exception) {
+                Logger.info(
+                    this,
+                    "Daemon from %[file]s is not available (%s), running %s in-process",
+                    this.file,
+                    exception.getMessage(),
+                    job
+                );
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Send the job to the daemon.
+     * @param job Job.
+     * @return True if the daemon has run the job, false if it rejected the job.
+     * @throws IOException If the daemon is not reachable.
+     */
+    private boolean send(final Job job) throws IOException {
+        final Properties endpoint = new Properties();
+        try (InputStream input = Files.newInputStream(this.file)) {
+            endpoint.load(input);
+        }
+        final boolean result;
+        try (Socket socket = new Socket()) {
+            socket.connect(
+                new InetSocketAddress(
+                    InetAddress.getLoopbackAddress(),
+                    Integer.parseInt(endpoint.getProperty("port", "0"))
+                ),
+                Client.TIMEOUT
+            );
+            socket.setSoTimeout(Client.TIMEOUT);
+            try (
+                InputStream input = socket.getInputStream();
+                OutputStream output = socket.getOutputStream()
+            ) {
+                final DataInputStream in = new DataInputStream(input);
+                final DataOutputStream out = new DataOutputStream(output);
+                out.writeUTF(
+                    String.format(
+                        "%s %s %s",
+                        Daemon.PROTOCOL,
+                        new Fingerprint(this.version).value(),
+                        endpoint.getProperty("token", "")
+                    )
+                );
+                out.flush();
+                final String answer = in.readUTF();
+                if (Daemon.ACCEPTED.equals(answer)) {
+                    Logger.info(this, "Running %s by the daemon", job);
+                    this.await(job, socket, in, out);
+                    result = true;
+                } else {
+                    Logger.warn(
+                        this,
+                        "Daemon rejected %s: %s, running it in-process",
+                        job,
+                        answer
+                    );
+                    result = false;
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Send the accepted job to the daemon and wait until it's done.
+     * @param job Job.
+     * @param socket Socket connected to the daemon.
+     * @param in Input from the daemon.
+     * @param out Output to the daemon.
+     * @throws IllegalStateException If the daemon failed, didn't finish in time or
+     *  the connection broke, since the daemon may still be writing the output.
+     */
+    private void await(
+        final Job job,
+        final Socket socket,
+        final DataInputStream in,
+        final DataOutputStream out
+    ) {
+        final String status;
+        try {
+            socket.setSoTimeout(this.millis);
+            out.writeUTF(job.text());
+            out.flush();
+            status = in.readUTF();
+        } catch (final IOException exception) {
+            throw new IllegalStateException(
+                String.format(
+                    "Daemon accepted %s, but its result didn't come in %d ms: %s",
+                    job,
+                    this.millis,
+                    exception.getMessage()
+                ),
+                exception
+            );
+        }
+        if (!Daemon.DONE.equals(status)) {
+            throw new IllegalStateException(
+                String.format("Daemon failed to run %s: %s", job, status)
+            );
+        }
+    }
+}
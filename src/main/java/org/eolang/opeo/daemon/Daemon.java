@@ -0,0 +1,259 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2023 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.opeo.daemon;
+
+import com.jcabi.log.Logger;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.security.SecureRandom;
+import java.util.Properties;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.eolang.opeo.decompilation.Fingerprint;
+
+/**
+ * Warm decompiler daemon.
+ * <p>
+ *     Each plugin run pays for JVM warm-up: class loading, JIT compilation of the
+ *     decompilation loop and XPath compilation. The daemon is a long-lived process
+ *     that runs {@link Job}s sent by {@link Client}s from the plugin goals, so only
+ *     the first job pays for the warm-up.
+ * </p>
+ * <p>
+ *     The daemon listens on a random localhost TCP port. The port and a random token are
+ *     written to the endpoint file, readable only by the owner, so only the same user
+ *     can send jobs. A client starts with a handshake that contains the protocol,
+ *     the {@link Fingerprint} of the plugin build and the token. The daemon rejects clients
+ *     of other builds, even of the same version, which then run their jobs in-process.
+ *     The daemon stops if no client connects during the idle timeout.
+ * </p>
+ * @since 0.5
+ */
+public final class Daemon {
+
+    /**
+     * Protocol version.
+     */
+    static final String PROTOCOL = "opeo-daemon/1";
+
+    /**
+     * Handshake acceptance.
+     */
+    static final String ACCEPTED = "OK";
+
+    /**
+     * Successful job status.
+     */
+    static final String DONE = "DONE";
+
+    /**
+     * Maximum length of a status message.
+     * Messages are written with {@link DataOutputStream#writeUTF(String)},
+     * which is limited to 64K bytes.
+     */
+    private static final int MAX_MESSAGE = 8192;
+
+    /**
+     * Endpoint file.
+     */
+    private final Path file;
+
+    /**
+     * Plugin version.
+     */
+    private final String version;
+
+    /**
+     * Idle timeout in milliseconds.
+     */
+    private final int idle;
+
+    /**
+     * Number of running jobs.
+     */
+    private final AtomicInteger active;
+
+    /**
+     * Constructor.
+     * @param file Endpoint file where the port and the token are written.
+     * @param version Plugin version.
+     * @param idle Idle timeout in milliseconds.
+     */
+    public Daemon(final Path file, final String version, final int idle) {
+        this.file = file;
+        this.version = version;
+        this.idle = idle;
+        this.active = new AtomicInteger(0);
+    }
+
+    /**
+     * Serve jobs until the idle timeout expires.
+     * @throws IOException If the daemon can't listen or write its endpoint file.
+     */
+    public void serve() throws IOException {
+        final String token = Daemon.token();
+        try (ServerSocket server = new ServerSocket(0, 0, InetAddress.getLoopbackAddress())) {
+            server.setSoTimeout(this.idle);
+            this.publish(server.getLocalPort(), token);
+            Logger.info(
+                this,
+                "Daemon %s is listening on port %d, endpoint is saved to %[file]s",
+                this.version,
+                server.getLocalPort(),
+                this.file
+            );
+            while (true) {
+                try {
+                    final Socket socket = server.accept();
+                    this.active.incrementAndGet();
+                    final Thread thread = new Thread(() -> this.handle(socket, token));
+                    thread.setName(String.format("opeo-daemon-%d", server.getLocalPort()));
+                    thread.start();
+                } catch (final SocketTimeoutException timeout) {
+                    if (this.active.get() == 0) {
+                        Logger.info(
+                            this, "Daemon is idle for %[ms]s, stopping", (long) this.idle
+                        );
+                        break;
+                    }
+                }
+            }
+        } finally {
+            Files.deleteIfExists(this.file);
+        }
+    }
+
+    /**
+     * Handle a client connection.
+     * @param socket Client socket.
+     * @param token Expected token.
+     * @checkstyle IllegalCatch (40 lines)
+     */
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    private void handle(final Socket socket, final String token) {
+        try (
+            Socket client = socket;
+            InputStream input = client.getInputStream();
+            OutputStream output = client.getOutputStream()
+        ) {
+            final DataInputStream in = new DataInputStream(input);
+            final DataOutputStream out = new DataOutputStream(output);
+            final String build = new Fingerprint(this.version).value();
+            final String expected = String.format("%s %s %s", Daemon.PROTOCOL, build, token);
+            final String handshake = in.readUTF();
+            if (expected.equals(handshake)) {
+                out.writeUTF(Daemon.ACCEPTED);
+                final Job job = Job.parsed(in.readUTF());
+                Logger.info(this, "Running %s", job);
+                final long start = System.currentTimeMillis();
+                try {
+                    job.run();
+                    out.writeUTF(Daemon.DONE);
+                    Logger.info(
+                        this, "Finished %s in %[ms]s", job, System.currentTimeMillis() - start
+                    );
+                } catch (final Exception exception) {
+                    Logger.warn(this, "Failed %s: %[exception]s", job, exception);
+                    out.writeUTF(Daemon.truncated(String.format("FAILED %s", exception)));
+                }
+            } else {
+                out.writeUTF(
+                    String.format("REJECTED %s %s is expected", Daemon.PROTOCOL, build)
+                );
+            }
+            out.flush();
+        } catch (final IOException exception) {
+            Logger.warn(this, "Connection failed: %[exception]s", exception);
+        } finally {
+            this.active.decrementAndGet();
+        }
+    }
+
+    /**
+     * Write the endpoint file, readable only by the owner.
+     * @param port Port.
+     * @param token Token.
+     * @throws IOException If fails.
+     */
+    private void publish(final int port, final String token) throws IOException {
+        final Properties endpoint = new Properties();
+        endpoint.setProperty("port", String.valueOf(port));
+        endpoint.setProperty("token", token);
+        endpoint.setProperty("version", this.version);
+        if (this.file.getParent() != null) {
+            Files.createDirectories(this.file.getParent());
+        }
+        final Path tmp = this.file.resolveSibling(
+            String.format("%s.%d.tmp", this.file.getFileName(), port)
+        );
+        try (OutputStream out = Files.newOutputStream(tmp)) {
+            try {
+                Files.setPosixFilePermissions(tmp, PosixFilePermissions.fromString("rw-------"));
+            } catch (final UnsupportedOperationException ignored) {
+                Logger.debug(this, "POSIX permissions are not supported for %s", tmp);
+            }
+            endpoint.store(out, "opeo daemon endpoint");
+        }
+        Files.move(tmp, this.file, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    /**
+     * Random token.
+     * @return Token in hex.
+     */
+    private static String token() {
+        final byte[] bytes = new byte[16];
+        new SecureRandom().nextBytes(bytes);
+        final StringBuilder res = new StringBuilder(bytes.length * 2);
+        for (final byte part : bytes) {
+            res.append(String.format("%02x", part));
+        }
+        return res.toString();
+    }
+
+    /**
+     * Truncated message.
+     * @param message Message.
+     * @return Message not longer than {@link #MAX_MESSAGE}.
+     */
+    private static String truncated(final String message) {
+        final String result;
+        if (message.length() > Daemon.MAX_MESSAGE) {
+            result = message.substring(0, Daemon.MAX_MESSAGE);
+        } else {
+            result = message;
+        }
+        return result;
+    }
+}
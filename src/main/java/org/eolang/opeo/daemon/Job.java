@@ -0,0 +1,307 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2023 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.opeo.daemon;
+
+import com.jcabi.log.Logger;
+import java.io.File;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Date;
+import java.util.Objects;
+import java.util.Properties;
+import org.eolang.opeo.SelectiveDecompiler;
+import org.eolang.opeo.compilation.SelectiveCompiler;
+import org.eolang.opeo.decompilation.Budget;
+import org.eolang.opeo.decompilation.Decompiler;
+import org.eolang.opeo.decompilation.Fingerprint;
+import org.eolang.opeo.decompilation.MethodsCache;
+import org.eolang.opeo.decompilation.NaiveDecompiler;
+import org.eolang.opeo.decompilation.PersistentMethodsCache;
+import org.eolang.opeo.decompilation.Reachability;
+import org.eolang.opeo.decompilation.Settings;
+import org.eolang.opeo.decompilation.agents.TracedAgent;
+import org.eolang.opeo.report.Report;
+import org.eolang.opeo.storage.Filter;
+
+/**
+ * Job of a plugin goal.
+ * <p>
+ *     All the parameters of a goal run, like 'decompile' or 'compile'.
+ *     The job can be run in the current JVM, or sent as text to a warm {@link Daemon}
+ *     by {@link Client} and run there.
+ * </p>
+ * @since 0.5
+ */
+public final class Job {
+
+    /**
+     * Parameters of the job.
+     */
+    private final Properties params;
+
+    /**
+     * Constructor.
+     * @param goal Goal name, like 'decompile' or 'compile'.
+     */
+    public Job(final String goal) {
+        this(Job.properties("goal", goal));
+    }
+
+    /**
+     * Constructor.
+     * @param params Parameters of the job.
+     */
+    private Job(final Properties params) {
+        this.params = params;
+    }
+
+    /**
+     * Job with one more parameter.
+     * @param key Parameter name.
+     * @param value Parameter value, if it's null, the parameter is not set.
+     *  Arrays are joined with commas, dates are saved as milliseconds.
+     * @return New job.
+     */
+    public Job with(final String key, final Object value) {
+        final Properties copy = new Properties();
+        copy.putAll(this.params);
+        if (value instanceof File) {
+            copy.setProperty(key, ((File) value).getAbsolutePath());
+        } else if (value instanceof String[]) {
+            copy.setProperty(key, String.join(",", (String[]) value));
+        } else if (value instanceof Date) {
+            copy.setProperty(key, String.valueOf(((Date) value).getTime()));
+        } else if (Objects.nonNull(value)) {
+            copy.setProperty(key, String.valueOf(value));
+        }
+        return new Job(copy);
+    }
+
+    /**
+     * Job from its text form.
+     * @param text Text produced by {@link #text()}.
+     * @return Job.
+     */
+    public static Job parsed(final String text) {
+        final Properties params = new Properties();
+        try {
+            params.load(new StringReader(text));
+        } catch (final IOException exception) {
+            throw new UncheckedIOException(
+                String.format("Can't parse job from '%s'", text),
+                exception
+            );
+        }
+        return new Job(params);
+    }
+
+    /**
+     * Text form of the job.
+     * @return Text that can be parsed by {@link #parsed(String)}.
+     */
+    public String text() {
+        final StringWriter writer = new StringWriter();
+        try {
+            this.params.store(writer, null);
+        } catch (final IOException exception) {
+            throw new UncheckedIOException(
+                String.format("Can't write job %s", this.params),
+                exception
+            );
+        }
+        return writer.toString();
+    }
+
+    /**
+     * Run the job in the current JVM.
+     * @return Performance report of the run.
+     */
+    public Report run() {
+        final String goal = this.params.getProperty("goal");
+        final Report result;
+        if ("decompile".equals(goal)) {
+            result = this.decompile();
+        } else if ("compile".equals(goal)) {
+            result = this.compile();
+        } else {
+            throw new IllegalArgumentException(
+                String.format("Unknown goal '%s' of the job %s", goal, this.params)
+            );
+        }
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+            "%s of %s",
+            this.params.getProperty("goal"),
+            this.params.getProperty("sources")
+        );
+    }
+
+    /**
+     * Decompile.
+     * @return Performance report.
+     */
+    private Report decompile() {
+        final MethodsCache cache = this.cache();
+        final Report report = new Report();
+        final TracedAgent.Metrics metrics = new TracedAgent.Metrics(
+            new TracedAgent.Log(), Boolean.parseBoolean(this.params.getProperty("metrics.timing"))
+        );
+        final Budget budget = new Budget(this.number("budget.steps"), this.number("budget.millis"));
+        final Filter filter;
+        if (this.params.containsKey("roots")) {
+            filter = new Reachability(
+                this.path("sources"), this.params.getProperty("roots"), report
+            ).filter(this.filter());
+        } else {
+            filter = this.filter();
+        }
+        final Settings settings = new Settings()
+            .cache(cache)
+            .budget(budget)
+            .report(report)
+            .agents(metrics)
+            .filter(filter);
+        final Decompiler decompiler;
+        if (this.params.containsKey("modified")) {
+            Logger.info(this, "Use selective decompiler");
+            decompiler = new SelectiveDecompiler(
+                this.path("sources"), this.path("output"), this.path("modified"), settings
+            );
+        } else {
+            Logger.info(this, "Use naive decompiler");
+            decompiler = new NaiveDecompiler(this.path("sources"), this.path("output"), settings);
+        }
+        decompiler.decompile();
+        Logger.info(this, "Decompilation agents:%n%s", metrics.summary());
+        if (cache instanceof PersistentMethodsCache) {
+            ((PersistentMethodsCache) cache).prune();
+        }
+        this.save(report);
+        return report;
+    }
+
+    /**
+     * Compile.
+     * @return Performance report.
+     */
+    private Report compile() {
+        final Report report = new Report();
+        new SelectiveCompiler(
+            this.path("sources"), this.path("output"), report, this.filter()
+        ).compile();
+        this.save(report);
+        return report;
+    }
+
+    /**
+     * Save the performance report, if it's requested.
+     * @param report Report.
+     */
+    private void save(final Report report) {
+        if (this.params.containsKey("report")) {
+            final Path path = this.path("report");
+            report.save(
+                path,
+                this.params.getProperty("goal"),
+                this.params.getProperty("build", String.valueOf(System.currentTimeMillis()))
+            );
+            Logger.info(this, "Performance report saved to %[file]s", path);
+        }
+    }
+
+    /**
+     * Cache of decompiled methods.
+     * Persistent fragments are keyed by the {@link Fingerprint} of the running plugin,
+     * so fragments of other builds with the same version are not reused.
+     * @return Persistent cache if its folder is set, in-memory cache otherwise.
+     */
+    private MethodsCache cache() {
+        final MethodsCache result;
+        if (this.params.containsKey("cache.dir")) {
+            Logger.info(this, "Use persistent methods cache %[file]s", this.path("cache.dir"));
+            result = new PersistentMethodsCache(
+                this.path("cache.dir"),
+                new Fingerprint(this.params.getProperty("version", "")).value(),
+                this.number("cache.size") * 1024L * 1024L
+            );
+        } else {
+            result = new MethodsCache.Memory();
+        }
+        return result;
+    }
+
+    /**
+     * Filter of XMIR files.
+     * @return Filter built from comma-separated 'includes' and 'excludes' globs.
+     */
+    private Filter filter() {
+        return new Filter(
+            this.params.getProperty("includes"), this.params.getProperty("excludes")
+        );
+    }
+
+    /**
+     * Path parameter.
+     * @param key Parameter name.
+     * @return Path.
+     */
+    private Path path(final String key) {
+        final String value = this.params.getProperty(key);
+        if (Objects.isNull(value)) {
+            throw new IllegalArgumentException(
+                String.format("Parameter '%s' is not set in the job %s", key, this.params)
+            );
+        }
+        return Paths.get(value);
+    }
+
+    /**
+     * Number parameter.
+     * @param key Parameter name.
+     * @return Number or zero if the parameter is not set.
+     */
+    private long number(final String key) {
+        return Long.parseLong(this.params.getProperty(key, "0"));
+    }
+
+    /**
+     * Properties with a single value.
+     * @param key Key.
+     * @param value Value.
+     * @return Properties.
+     */
+    private static Properties properties(final String key, final String value) {
+        final Properties result = new Properties();
+        result.setProperty(key, value);
+        return result;
+    }
+}
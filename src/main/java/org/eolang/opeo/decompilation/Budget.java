@@ -0,0 +1,226 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2023 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.opeo.decompilation;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Decompilation budget of a single method.
+ * <p>
+ *     Some methods, like huge static initializers or generated state machines,
+ *     might take too long to decompile. The budget limits the number of decompilation
+ *     steps and the time spent on one method. When a method exceeds the budget,
+ *     its decompilation is abandoned and the original instructions are kept.
+ * </p>
+ * <p>
+ *     The budget is shared between all the decompiled methods, it also collects
+ *     the names of the methods that exceeded it.
+ * </p>
+ * @since 0.5
+ */
+public final class Budget {
+
+    /**
+     * How often we check the clock (in steps).
+     * The clock is checked only every N steps to keep the overhead low.
+     */
+    private static final long CLOCK = 64L;
+
+    /**
+     * Maximum number of decompilation steps per method.
+     */
+    private final long steps;
+
+    /**
+     * Maximum time per method in nanoseconds.
+     */
+    private final long nanos;
+
+    /**
+     * Methods that exceeded the budget.
+     */
+    private final Queue<String> exceeded;
+
+    /**
+     * Constructor.
+     * Unlimited budget.
+     */
+    public Budget() {
+        this(Long.MAX_VALUE, Long.MAX_VALUE);
+    }
+
+    /**
+     * Constructor.
+     * @param steps Maximum number of decompilation steps per method.
+     * @param millis Maximum time per method in milliseconds.
+     */
+    public Budget(final long steps, final long millis) {
+        this.steps = Budget.positive(steps);
+        this.nanos = Budget.nanos(Budget.positive(millis));
+        this.exceeded = new ConcurrentLinkedQueue<>();
+    }
+
+    /**
+     * Start spending the budget for a new method.
+     * @return Meter of the spent budget.
+     */
+    public Meter meter() {
+        return new Meter(this.steps, this.nanos);
+    }
+
+    /**
+     * Record the method that exceeded the budget.
+     * @param method Method description.
+     */
+    public void exceeded(final String method) {
+        this.exceeded.add(method);
+    }
+
+    /**
+     * Summary of the methods that exceeded the budget.
+     * @return Summary.
+     */
+    public String summary() {
+        return String.format(
+            "budget: %d methods exceeded the budget and were kept as is %s",
+            this.exceeded.size(),
+            this.exceeded
+        );
+    }
+
+    /**
+     * Convert non-positive limits to unlimited.
+     * @param limit Limit.
+     * @return Positive limit.
+     */
+    private static long positive(final long limit) {
+        final long result;
+        if (limit > 0L) {
+            result = limit;
+        } else {
+            result = Long.MAX_VALUE;
+        }
+        return result;
+    }
+
+    /**
+     * Convert milliseconds to nanoseconds without overflow.
+     * @param millis Milliseconds.
+     * @return Nanoseconds.
+     */
+    private static long nanos(final long millis) {
+        final long result;
+        if (millis >= TimeUnit.NANOSECONDS.toMillis(Long.MAX_VALUE)) {
+            result = Long.MAX_VALUE;
+        } else {
+            result = TimeUnit.MILLISECONDS.toNanos(millis);
+        }
+        return result;
+    }
+
+    /**
+     * Meter of the budget spent on one method.
+     * It isn't thread-safe, since each method is decompiled in a single thread.
+     * @since 0.5
+     */
+    public static final class Meter {
+
+        /**
+         * Maximum number of steps.
+         */
+        private final long steps;
+
+        /**
+         * Maximum time in nanoseconds.
+         */
+        private final long nanos;
+
+        /**
+         * When the decompilation started.
+         */
+        private final long start;
+
+        /**
+         * Number of spent steps.
+         */
+        private long spent;
+
+        /**
+         * Constructor.
+         * @param steps Maximum number of steps.
+         * @param nanos Maximum time in nanoseconds.
+         */
+        Meter(final long steps, final long nanos) {
+            this.steps = steps;
+            this.nanos = nanos;
+            this.start = System.nanoTime();
+            this.spent = 0L;
+        }
+
+        /**
+         * Spend one decompilation step.
+         * @throws Exceeded If the budget is exceeded.
+         */
+        public void spend() {
+            this.spent += 1L;
+            if (this.spent > this.steps) {
+                throw new Exceeded(
+                    String.format("Decompilation exceeded the limit of %d steps", this.steps)
+                );
+            }
+            if (this.spent % Budget.CLOCK == 0L
+                && System.nanoTime() - this.start > this.nanos) {
+                throw new Exceeded(
+                    String.format(
+                        "Decompilation exceeded the limit of %d ms after %d steps",
+                        TimeUnit.NANOSECONDS.toMillis(this.nanos),
+                        this.spent
+                    )
+                );
+            }
+        }
+    }
+
+    /**
+     * Budget is exceeded.
+     * @since 0.5
+     */
+    public static final class Exceeded extends RuntimeException {
+
+        /**
+         * Serial version UID.
+         */
+        private static final long serialVersionUID = -2187309547093153840L;
+
+        /**
+         * Constructor.
+         * @param message Exception message.
+         */
+        Exceeded(final String message) {
+            super(message);
+        }
+    }
+}
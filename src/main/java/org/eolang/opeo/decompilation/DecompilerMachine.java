@@ -23,17 +23,15 @@
  */
 package org.eolang.opeo.decompilation;
 
-import java.util.Arrays;
 import java.util.HashMap;
-import java.util.LinkedList;
 import java.util.Map;
-import java.util.stream.Collectors;
 import org.cactoos.list.ListOf;
 import org.eolang.opeo.Instruction;
-import org.eolang.opeo.ast.Opcode;
 import org.eolang.opeo.ast.Root;
 import org.eolang.opeo.decompilation.agents.AllAgents;
 import org.eolang.opeo.decompilation.agents.TracedAgent;
+import org.eolang.opeo.report.Flight;
+import org.eolang.opeo.report.Phase;
 import org.xembly.Directive;
 
 /**
@@ -53,6 +51,16 @@ public final class DecompilerMachine {
      */
     private final AllAgents agents;
 
+    /**
+     * Name of the decompiled class.
+     */
+    private final String clazz;
+
+    /**
+     * Name of the decompiled method.
+     */
+    private final String method;
+
     /**
      * Constructor.
      */
@@ -79,8 +87,11 @@ public final class DecompilerMachine {
         this.locals = locals;
         this.agents = new AllAgents(
             "true".equals(arguments.getOrDefault("counting", "true")),
-            TracedAgent.Output.class.cast(arguments.getOrDefault("output", new TracedAgent.Log()))
+            TracedAgent.Output.class.cast(arguments.getOrDefault("output", new TracedAgent.Log())),
+            Budget.class.cast(arguments.getOrDefault("budget", new Budget()))
         );
+        this.clazz = String.valueOf(arguments.getOrDefault("class", ""));
+        this.method = String.valueOf(arguments.getOrDefault("method", ""));
     }
 
     /**
@@ -91,13 +102,13 @@ public final class DecompilerMachine {
      */
     public Iterable<Directive> decompile(final Instruction... instructions) {
         final DecompilerState initial = new DecompilerState(
-            Arrays.stream(instructions)
-                .map(Opcode::new)
-                .collect(Collectors.toCollection(LinkedList::new)),
+            new InstructionBuffer(instructions),
             new OperandStack(),
             this.locals
         );
+        final Flight flight = new Flight(Phase.AGENTS, this.clazz, this.method);
         this.agents.handle(initial);
+        flight.commit(instructions.length);
         return new Root(new ListOf<>(initial.stack().descendingIterator())).toXmir();
     }
 }
@@ -23,9 +23,10 @@
  */
 package org.eolang.opeo.decompilation;
 
+import java.util.ArrayDeque;
 import java.util.Deque;
-import java.util.LinkedList;
-import java.util.stream.Collectors;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
 import org.eolang.opeo.ast.AstNode;
@@ -38,15 +39,15 @@ import org.objectweb.asm.Type;
  * @since 0.2
  */
 @ToString
-@EqualsAndHashCode
+@EqualsAndHashCode(exclude = "refs")
 public final class DecompilerState {
 
     /**
      * Remaining opcodes.
      * Each method has an original list of opcodes which we decompile.
-     * When some agent decompiles an instruction, it removes it from this list.
+     * When some agent decompiles an instruction, the buffer moves to the next one.
      */
-    private final Deque<Opcode> opcodes;
+    private final InstructionBuffer opcodes;
 
     /**
      * Current operand stack.
@@ -59,6 +60,13 @@ public final class DecompilerState {
      */
     private final LocalVariables vars;
 
+    /**
+     * Counter of reference names.
+     * Each method gets its own counter, so the same method is always decompiled
+     * into the same reference names.
+     */
+    private final AtomicInteger refs;
+
     /**
      * Constructor.
      */
@@ -88,7 +96,7 @@ public final class DecompilerState {
      * @param vars Method local variables.
      */
     public DecompilerState(final OperandStack operands, final LocalVariables vars) {
-        this(new LinkedList<>(), operands, vars);
+        this(new ArrayDeque<>(0), operands, vars);
     }
 
     /**
@@ -101,21 +109,51 @@ public final class DecompilerState {
         final Deque<Opcode> opcodes,
         final OperandStack stack,
         final LocalVariables vars
+    ) {
+        this(new InstructionBuffer(opcodes), stack, vars);
+    }
+
+    /**
+     * Constructor.
+     * @param opcodes Remaining opcodes.
+     * @param stack Operand stack.
+     * @param vars Method local variables.
+     */
+    DecompilerState(
+        final InstructionBuffer opcodes,
+        final OperandStack stack,
+        final LocalVariables vars
     ) {
         this.opcodes = opcodes;
         this.ostack = stack;
         this.vars = vars;
+        this.refs = new AtomicInteger(0);
     }
 
     /**
      * Retrieve current bytecode instruction.
+     * The instruction is created on each call, prefer {@link #opcode()} and
+     * {@link #operand(int)} if the node itself is not needed.
      * @return Current bytecode instruction.
      */
     public Opcode current() {
-        if (this.opcodes.isEmpty()) {
-            throw new IllegalStateException("No instructions left");
-        }
-        return this.opcodes.peek();
+        return this.opcodes.current();
+    }
+
+    /**
+     * Opcode number of the current instruction.
+     * @return Opcode number.
+     */
+    public int opcode() {
+        return this.opcodes.opcode();
+    }
+
+    /**
+     * Operands of the current instruction.
+     * @return Read-only operands.
+     */
+    public List<Object> operands() {
+        return this.opcodes.operands();
     }
 
     /**
@@ -123,7 +161,7 @@ public final class DecompilerState {
      * @return True if there are instructions left.
      */
     public boolean hasInstructions() {
-        return !this.opcodes.isEmpty();
+        return this.opcodes.hasNext();
     }
 
     /**
@@ -131,9 +169,7 @@ public final class DecompilerState {
      * This is used when we decompile an instruction.
      */
     public void popInstruction() {
-        if (!this.opcodes.isEmpty()) {
-            this.opcodes.pop();
-        }
+        this.opcodes.next();
     }
 
     /**
@@ -142,7 +178,7 @@ public final class DecompilerState {
      * @return Instruction operand.
      */
     public Object operand(final int index) {
-        return this.current().operand(index);
+        return this.opcodes.operand(index);
     }
 
     /**
@@ -163,11 +199,20 @@ public final class DecompilerState {
         return this.ostack;
     }
 
+    /**
+     * Generate the next reference name.
+     * Reference names are unique within one method.
+     * @return Reference name like 'ref-1'.
+     */
+    public String reference() {
+        return String.format("ref-%d", this.refs.incrementAndGet());
+    }
+
     /**
      * Print opcodes in a pretty way.
      * @return Pretty opcodes string
      */
     public String prettyOpcodes() {
-        return this.opcodes.stream().map(Opcode::pretty).collect(Collectors.joining(" "));
+        return this.opcodes.pretty();
     }
 }
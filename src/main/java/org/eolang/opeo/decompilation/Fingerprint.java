@@ -0,0 +1,150 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2023 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.opeo.decompilation;
+
+import com.jcabi.log.Logger;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.CodeSource;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Fingerprint of the running plugin build.
+ * <p>
+ *     The plugin version alone doesn't identify the decompiler: all the SNAPSHOT builds
+ *     and all the local changes share the same version. So the fingerprint is the version
+ *     together with a checksum of the plugin jar, or of the classes folder if the plugin
+ *     isn't packaged yet. The checksum is computed once per JVM.
+ *     If the plugin code can't be read, the fingerprint is unique for the JVM,
+ *     so nothing is shared with other runs.
+ * </p>
+ * @since 0.5
+ */
+public final class Fingerprint {
+
+    /**
+     * Checksums of plugin locations.
+     */
+    private static final Map<Path, String> CHECKSUMS = new ConcurrentHashMap<>(0);
+
+    /**
+     * Checksum of the JVM-unique fingerprint.
+     */
+    private static final String UNIQUE = UUID.randomUUID().toString();
+
+    /**
+     * Plugin version.
+     */
+    private final String version;
+
+    /**
+     * Constructor.
+     * @param version Plugin version.
+     */
+    public Fingerprint(final String version) {
+        this.version = version;
+    }
+
+    /**
+     * Fingerprint value.
+     * @return Version and checksum of the plugin code, like '0.5.0-1a2b3c4d5e6f'.
+     */
+    public String value() {
+        return String.format("%s-%s", this.version, Fingerprint.checksum());
+    }
+
+    @Override
+    public String toString() {
+        return this.value();
+    }
+
+    /**
+     * Checksum of the plugin code.
+     * @return Hex checksum.
+     */
+    private static String checksum() {
+        final CodeSource source = Fingerprint.class.getProtectionDomain().getCodeSource();
+        String result;
+        if (source == null || source.getLocation() == null) {
+            result = Fingerprint.UNIQUE;
+        } else {
+            try {
+                result = Fingerprint.CHECKSUMS.computeIfAbsent(
+                    Paths.get(source.getLocation().toURI()), Fingerprint::digest
+                );
+            } catch (final URISyntaxException | UncheckedIOException exception) {
+                Logger.warn(
+                    Fingerprint.class,
+                    "Can't read plugin code at %s, nothing is shared between runs: %[exception]s",
+                    source.getLocation(),
+                    exception
+                );
+                result = Fingerprint.UNIQUE;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Digest of a jar or of all the files in a folder.
+     * @param location Jar file or classes folder.
+     * @return Hex digest, first 12 characters.
+     */
+    private static String digest(final Path location) {
+        try {
+            final List<byte[]> parts = new ArrayList<>(0);
+            if (Files.isDirectory(location)) {
+                final List<Path> files;
+                try (Stream<Path> all = Files.walk(location)) {
+                    files = all.filter(Files::isRegularFile).sorted().collect(Collectors.toList());
+                }
+                for (final Path file : files) {
+                    parts.add(
+                        location.relativize(file).toString().getBytes(StandardCharsets.UTF_8)
+                    );
+                    parts.add(Files.readAllBytes(file));
+                }
+            } else {
+                parts.add(Files.readAllBytes(location));
+            }
+            return new Sha256(parts).value().substring(0, 12);
+        } catch (final IOException exception) {
+            throw new UncheckedIOException(
+                String.format("Can't compute checksum of '%s'", location),
+                exception
+            );
+        }
+    }
+}
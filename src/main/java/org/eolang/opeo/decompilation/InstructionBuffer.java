@@ -0,0 +1,215 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2023 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.opeo.decompilation;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import lombok.EqualsAndHashCode;
+import org.eolang.opeo.Instruction;
+import org.eolang.opeo.ast.Opcode;
+import org.eolang.opeo.ast.OpcodeName;
+
+/**
+ * Compact buffer of instructions to decompile.
+ * <p>
+ *     Instructions are kept in parallel arrays: opcodes in one {@code int[]} and operands
+ *     of all the instructions in one shared pool, so a method of thousands of instructions
+ *     costs a few arrays instead of thousands of small objects. Operands are decoded from
+ *     XMIR only once, when the buffer is built, and equal strings, like owners, names and
+ *     descriptors, share one instance. The buffer is read through a cursor that
+ *     moves forward when an agent consumes the current instruction.
+ * </p>
+ * @since 0.5
+ */
+@EqualsAndHashCode(exclude = "cursor")
+public final class InstructionBuffer {
+
+    /**
+     * Opcodes of all the instructions.
+     */
+    private final int[] codes;
+
+    /**
+     * Start of operands of each instruction in the pool.
+     * The last element is the size of the pool.
+     */
+    private final int[] starts;
+
+    /**
+     * Operands of all the instructions.
+     */
+    private final Object[] pool;
+
+    /**
+     * Index of the current instruction.
+     * It isn't a part of equality, so the hash code doesn't change while agents read
+     * the buffer.
+     */
+    private int cursor;
+
+    /**
+     * Constructor.
+     * @param instructions Instructions.
+     */
+    public InstructionBuffer(final Instruction... instructions) {
+        this(
+            Arrays.stream(instructions).mapToInt(Instruction::opcode).toArray(),
+            Arrays.stream(instructions).map(Instruction::operands).collect(Collectors.toList())
+        );
+    }
+
+    /**
+     * Constructor.
+     * @param opcodes Opcodes.
+     */
+    public InstructionBuffer(final Collection<Opcode> opcodes) {
+        this(
+            opcodes.stream().mapToInt(Opcode::opcode).toArray(),
+            opcodes.stream().map(Opcode::params).collect(Collectors.toList())
+        );
+    }
+
+    /**
+     * Constructor.
+     * @param codes Opcodes.
+     * @param operands Operands of each instruction.
+     */
+    private InstructionBuffer(final int[] codes, final List<List<Object>> operands) {
+        this.codes = codes;
+        this.starts = new int[codes.length + 1];
+        for (int idx = 0; idx < codes.length; ++idx) {
+            this.starts[idx + 1] = this.starts[idx] + operands.get(idx).size();
+        }
+        this.pool = new Object[this.starts[codes.length]];
+        final Map<String, String> strings = new HashMap<>(0);
+        for (int idx = 0; idx < codes.length; ++idx) {
+            int pos = this.starts[idx];
+            for (final Object operand : operands.get(idx)) {
+                if (operand instanceof String) {
+                    this.pool[pos] = strings.computeIfAbsent((String) operand, str -> str);
+                } else {
+                    this.pool[pos] = operand;
+                }
+                ++pos;
+            }
+        }
+        this.cursor = 0;
+    }
+
+    /**
+     * Whether there are instructions left.
+     * @return True if there are instructions left.
+     */
+    public boolean hasNext() {
+        return this.cursor < this.codes.length;
+    }
+
+    /**
+     * Move to the next instruction.
+     * Does nothing if there are no instructions left.
+     */
+    public void next() {
+        if (this.hasNext()) {
+            ++this.cursor;
+        }
+    }
+
+    /**
+     * Opcode of the current instruction.
+     * @return Opcode.
+     */
+    public int opcode() {
+        this.check();
+        return this.codes[this.cursor];
+    }
+
+    /**
+     * Operand of the current instruction.
+     * @param index Operand index.
+     * @return Operand.
+     */
+    public Object operand(final int index) {
+        this.check();
+        if (index < 0 || this.starts[this.cursor] + index >= this.starts[this.cursor + 1]) {
+            throw new IllegalStateException(
+                String.format(
+                    "Instruction '%s' doesn't have operand at index '%d'",
+                    new OpcodeName(this.codes[this.cursor]).simplified(),
+                    index
+                )
+            );
+        }
+        return this.pool[this.starts[this.cursor] + index];
+    }
+
+    /**
+     * Operands of the current instruction.
+     * @return Read-only view of the operands, nothing is copied.
+     */
+    public List<Object> operands() {
+        this.check();
+        return Collections.unmodifiableList(
+            Arrays.asList(this.pool).subList(this.starts[this.cursor], this.starts[this.cursor + 1])
+        );
+    }
+
+    /**
+     * Current instruction as an AST node.
+     * Creates a new object, so it's used only when the node is really needed.
+     * @return Opcode.
+     */
+    public Opcode current() {
+        return new Opcode(this.opcode(), this.operands());
+    }
+
+    /**
+     * Names of the remaining instructions.
+     * @return Names separated by spaces, like "lconst_1 lreturn".
+     */
+    public String pretty() {
+        return IntStream.range(this.cursor, this.codes.length)
+            .mapToObj(idx -> new OpcodeName(this.codes[idx]).simplified())
+            .collect(Collectors.joining(" "));
+    }
+
+    @Override
+    public String toString() {
+        return String.format("[%s]", this.pretty());
+    }
+
+    /**
+     * Check that there is a current instruction.
+     */
+    private void check() {
+        if (!this.hasNext()) {
+            throw new IllegalStateException("No instructions left");
+        }
+    }
+}
@@ -25,11 +25,13 @@ package org.eolang.opeo.decompilation;
 
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
 import org.eolang.opeo.ast.AstNode;
+import org.eolang.opeo.ast.Descriptor;
 import org.eolang.opeo.ast.LocalVariable;
 import org.eolang.opeo.ast.This;
 import org.objectweb.asm.Opcodes;
@@ -219,14 +221,15 @@ public final class LocalVariables {
          * @return Array of types.
          */
         Type[] array() {
-            final Type[] types = Type.getArgumentTypes(this.descriptor);
-            final Type[] result = new Type[this.size()];
+            final Descriptor parsed = new Descriptor(this.descriptor);
+            final List<Type> types = parsed.arguments();
+            final Type[] result = new Type[this.size(parsed)];
             int offset = 0;
             if (this.isInstanceMethod()) {
                 offset = offset + 1;
             }
-            for (int index = 0; index < types.length; ++index) {
-                final Type current = types[index];
+            for (int index = 0; index < types.size(); ++index) {
+                final Type current = types.get(index);
                 result[index + offset] = current;
                 if (current.getSize() > 1) {
                     offset = offset + 1;
@@ -238,13 +241,12 @@ public final class LocalVariables {
 
         /**
          * Calculate the size of the array with types.
+         * @param parsed Parsed method descriptor.
          * @return Size.
          */
-        private int size() {
+        private int size(final Descriptor parsed) {
             final int result;
-            final int res = Arrays.stream(Type.getArgumentTypes(this.descriptor))
-                .mapToInt(Type::getSize)
-                .sum();
+            final int res = parsed.slots();
             if (this.isInstanceMethod()) {
                 result = res + 1;
             } else {
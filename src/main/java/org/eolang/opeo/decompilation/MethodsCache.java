@@ -0,0 +1,166 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2023 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.opeo.decompilation;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Cache of decompiled methods.
+ * Fat jars and generated code contain lots of structurally identical methods.
+ * The cache allows decompiling each of them only once.
+ * Keys are content hashes of normalized method bodies,
+ * values are owner-independent decompiled fragments.
+ * @since 0.5
+ */
+public interface MethodsCache {
+
+    /**
+     * Retrieve decompiled fragment.
+     * @param key Content-addressed key of the method.
+     * @param origin Decompilation that is used if the fragment isn't cached yet.
+     * @return Decompiled fragment.
+     */
+    String fragment(String key, Supplier<String> origin);
+
+    /**
+     * Human-readable summary of the cache usage.
+     * @return Summary.
+     */
+    String summary();
+
+    /**
+     * Disabled cache.
+     * Always decompiles methods.
+     * @since 0.5
+     */
+    final class Disabled implements MethodsCache {
+
+        @Override
+        public String fragment(final String key, final Supplier<String> origin) {
+            return origin.get();
+        }
+
+        @Override
+        public String summary() {
+            return "methods cache is disabled";
+        }
+    }
+
+    /**
+     * In-memory cache.
+     * It is safe to share this cache between parallel decompilations.
+     * @since 0.5
+     */
+    final class Memory implements MethodsCache {
+
+        /**
+         * Default maximum number of cached fragments.
+         */
+        private static final int LIMIT = 10_000;
+
+        /**
+         * Cached fragments.
+         */
+        private final Map<String, String> fragments;
+
+        /**
+         * Maximum number of cached fragments.
+         */
+        private final int limit;
+
+        /**
+         * Number of cache hits.
+         */
+        private final LongAdder hits;
+
+        /**
+         * Number of cache misses.
+         */
+        private final LongAdder misses;
+
+        /**
+         * Constructor.
+         */
+        public Memory() {
+            this(Memory.LIMIT);
+        }
+
+        /**
+         * Constructor.
+         * @param limit Maximum number of cached fragments.
+         */
+        public Memory(final int limit) {
+            this.fragments = new ConcurrentHashMap<>(0);
+            this.limit = limit;
+            this.hits = new LongAdder();
+            this.misses = new LongAdder();
+        }
+
+        @Override
+        public String fragment(final String key, final Supplier<String> origin) {
+            final String cached = this.fragments.get(key);
+            final String result;
+            if (cached == null) {
+                this.misses.increment();
+                result = origin.get();
+                if (this.fragments.size() < this.limit) {
+                    this.fragments.putIfAbsent(key, result);
+                }
+            } else {
+                this.hits.increment();
+                result = cached;
+            }
+            return result;
+        }
+
+        @Override
+        public String summary() {
+            return String.format(
+                "methods cache: %d hits, %d misses, %d cached fragments",
+                this.hits(),
+                this.misses(),
+                this.fragments.size()
+            );
+        }
+
+        /**
+         * Number of cache hits.
+         * @return Hits.
+         */
+        public long hits() {
+            return this.hits.sum();
+        }
+
+        /**
+         * Number of cache misses.
+         * @return Misses.
+         */
+        public long misses() {
+            return this.misses.sum();
+        }
+    }
+}
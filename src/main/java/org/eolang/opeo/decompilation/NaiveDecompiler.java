@@ -26,6 +26,7 @@ package org.eolang.opeo.decompilation;
 import com.jcabi.log.Logger;
 import java.nio.file.Path;
 import org.eolang.opeo.jeo.JeoDecompiler;
+import org.eolang.opeo.report.Meter;
 import org.eolang.opeo.storage.DecompilationStorage;
 import org.eolang.opeo.storage.Storage;
 import org.eolang.opeo.storage.WithoutAliasesStorage;
@@ -48,6 +49,16 @@ public final class NaiveDecompiler implements Decompiler {
      */
     private final Storage storage;
 
+    /**
+     * Progress of the decompilation run.
+     */
+    private final Progress progress;
+
+    /**
+     * Settings of the run: cache, budget, report and output of agents.
+     */
+    private final Settings settings;
+
     /**
      * Constructor.
      * @param xmirs Path to the generated XMIRs by jeo-maven-plugin.
@@ -57,7 +68,28 @@ public final class NaiveDecompiler implements Decompiler {
         final Path xmirs,
         final Path output
     ) {
-        this(new DecompilationStorage(xmirs, output));
+        this(xmirs, output, new Settings());
+    }
+
+    /**
+     * Constructor.
+     * @param xmirs Path to the generated XMIRs by jeo-maven-plugin.
+     * @param output Path to the output directory.
+     * @param settings Settings of the run.
+     */
+    public NaiveDecompiler(
+        final Path xmirs,
+        final Path output,
+        final Settings settings
+    ) {
+        this(
+            new WithoutAliasesStorage(
+                new DecompilationStorage(xmirs, output, settings.report(), settings.filter()),
+                settings.report()
+            ),
+            settings,
+            new Progress.Journal(output)
+        );
     }
 
     /**
@@ -71,9 +103,17 @@ public final class NaiveDecompiler implements Decompiler {
     /**
      * Constructor.
      * @param storage The storage where the XMIRs are stored.
+     * @param settings Settings of the run.
+     * @param progress Progress of the decompilation run.
      */
-    private NaiveDecompiler(final Storage storage) {
-        this.storage = new WithoutAliasesStorage(storage);
+    private NaiveDecompiler(
+        final Storage storage,
+        final Settings settings,
+        final Progress progress
+    ) {
+        this.storage = storage;
+        this.progress = progress;
+        this.settings = settings;
     }
 
     @Override
@@ -83,20 +123,50 @@ public final class NaiveDecompiler implements Decompiler {
             "Decompiled %d EO sources",
             this.storage.all()
                 .parallel()
+                .filter(entry -> !this.progress.done(entry))
                 .mapToInt(this::decompile).sum()
         );
+        Logger.info(this, "Decompilation %s", this.settings.cache().summary());
+        Logger.info(this, "Decompilation %s", this.settings.budget().summary());
+        Logger.info(this, "Decompilation finished: %s", this.progress.finish());
     }
 
     /**
      * Decompile the entry.
+     * If the decompilation fails, the raw entry is saved as is, without parsing,
+     * and the failure is recorded, so one broken file doesn't stop the whole run.
      * @param entry The entry to decompile.
      * @return Number of decompiled EO sources.
+     * @checkstyle IllegalCatch (30 lines)
      */
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
     private int decompile(final XmirEntry entry) {
-        this.storage.save(
-            entry.transform(xml -> new JeoDecompiler(xml, entry.relative()).decompile())
-        );
-        return 1;
+        final Meter meter = new Meter();
+        int result;
+        try {
+            final XmirEntry parsed = this.settings.report().stage(
+                "parse", () -> entry.transform(xml -> xml)
+            );
+            this.storage.save(
+                this.settings.report().stage(
+                    "decompile",
+                    () -> parsed.transform(
+                        xml -> new JeoDecompiler(
+                            xml, entry.relative(), this.settings
+                        ).decompile()
+                    )
+                )
+            );
+            this.progress.completed(entry);
+            result = 1;
+        } catch (final Exception exception) {
+            this.progress.failed(entry, exception);
+            this.settings.report().failed();
+            this.storage.save(entry.verbatim());
+            result = 0;
+        }
+        this.settings.report().file(entry.relative(), meter);
+        return result;
     }
 
 }
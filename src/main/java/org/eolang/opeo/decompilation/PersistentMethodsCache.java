@@ -0,0 +1,340 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2023 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.opeo.decompilation;
+
+import com.jcabi.log.Logger;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * Disk-backed cache of decompiled methods.
+ * <p>
+ *     The cache survives between builds, so unchanged methods are not decompiled again.
+ *     Each fragment is kept in a separate file, the file name is a hash of the method
+ *     key together with the plugin build {@link Fingerprint}. Files are written to a temporary file first
+ *     and then atomically renamed, so several Maven processes on the same machine
+ *     can share the same cache directory.
+ * </p>
+ * <p>
+ *     The cache is bounded by size: {@link #prune()} removes the least recently used
+ *     fragments when the total size exceeds the limit.
+ * </p>
+ * @since 0.5
+ */
+public final class PersistentMethodsCache implements MethodsCache {
+
+    /**
+     * Extension of cached fragments.
+     */
+    private static final String EXTENSION = ".xmir";
+
+    /**
+     * Cache directory.
+     */
+    private final Path dir;
+
+    /**
+     * Plugin build fingerprint, see {@link Fingerprint}.
+     * Fragments decompiled by other builds are not reused.
+     */
+    private final String version;
+
+    /**
+     * Maximum size of the cache in bytes.
+     */
+    private final long limit;
+
+    /**
+     * In-memory cache that is checked first.
+     */
+    private final MethodsCache memory;
+
+    /**
+     * Number of fragments found on disk.
+     */
+    private final LongAdder hits;
+
+    /**
+     * Number of fragments that were not found on disk.
+     */
+    private final LongAdder misses;
+
+    /**
+     * Constructor.
+     * @param dir Cache directory.
+     * @param version Plugin build fingerprint.
+     * @param limit Maximum size of the cache in bytes.
+     */
+    public PersistentMethodsCache(final Path dir, final String version, final long limit) {
+        this(dir, version, limit, new MethodsCache.Memory());
+    }
+
+    /**
+     * Constructor.
+     * @param dir Cache directory.
+     * @param version Plugin build fingerprint.
+     * @param limit Maximum size of the cache in bytes.
+     * @param memory In-memory cache that is checked first.
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    public PersistentMethodsCache(
+        final Path dir,
+        final String version,
+        final long limit,
+        final MethodsCache memory
+    ) {
+        this.dir = dir;
+        this.version = version;
+        this.limit = limit;
+        this.memory = memory;
+        this.hits = new LongAdder();
+        this.misses = new LongAdder();
+    }
+
+    @Override
+    public String fragment(final String key, final Supplier<String> origin) {
+        return this.memory.fragment(key, () -> this.disk(key, origin));
+    }
+
+    @Override
+    public String summary() {
+        return String.format(
+            "%s; persistent cache '%s': %d hits, %d misses",
+            this.memory.summary(),
+            this.dir,
+            this.hits.sum(),
+            this.misses.sum()
+        );
+    }
+
+    /**
+     * Remove the least recently used fragments if the cache is too big.
+     * Other builds might use the same cache concurrently, so the modification times and
+     * sizes are read once before sorting, and a fragment that can't be listed or removed
+     * is just skipped with a warning. Only fragments are removed, never the temporary
+     * files that other builds are still writing.
+     */
+    public void prune() {
+        if (Files.exists(this.dir)) {
+            final List<Entry> entries = new ArrayList<>(0);
+            try (Stream<Path> all = Files.walk(this.dir)) {
+                all.filter(Files::isRegularFile)
+                    .filter(
+                        path -> path.getFileName().toString()
+                            .endsWith(PersistentMethodsCache.EXTENSION)
+                    )
+                    .map(Entry::new)
+                    .forEach(entries::add);
+            } catch (final IOException | UncheckedIOException exception) {
+                Logger.warn(
+                    this, "Can't list the whole cache '%s': %[exception]s", this.dir, exception
+                );
+            }
+            entries.sort(Comparator.comparingLong(Entry::modified).reversed());
+            long total = 0L;
+            int removed = 0;
+            for (final Entry entry : entries) {
+                total += entry.size();
+                if (total > this.limit && entry.delete()) {
+                    removed += 1;
+                }
+            }
+            if (removed > 0) {
+                Logger.info(
+                    this,
+                    "Removed %d least recently used fragments from the cache '%s'",
+                    removed,
+                    this.dir
+                );
+            }
+        }
+    }
+
+    /**
+     * Find fragment on disk or decompile and save it.
+     * @param key Method key.
+     * @param origin Decompilation.
+     * @return Decompiled fragment.
+     */
+    private String disk(final String key, final Supplier<String> origin) {
+        final Path file = this.file(key);
+        String result;
+        try {
+            result = new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
+            Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis()));
+            this.hits.increment();
+        } catch (final NoSuchFileException exception) {
+            this.misses.increment();
+            result = origin.get();
+            this.save(file, result);
+        } catch (final IOException exception) {
+            Logger.warn(
+                this, "Can't read cached fragment '%s': %[exception]s", file, exception
+            );
+            this.misses.increment();
+            result = origin.get();
+        }
+        return result;
+    }
+
+    /**
+     * Save fragment to the cache atomically.
+     * @param file Target file.
+     * @param fragment Decompiled fragment.
+     */
+    private void save(final Path file, final String fragment) {
+        try {
+            Files.createDirectories(file.getParent());
+            final Path tmp = Files.createTempFile(
+                file.getParent(), file.getFileName().toString(), ".tmp"
+            );
+            try {
+                Files.write(tmp, fragment.getBytes(StandardCharsets.UTF_8));
+                Files.move(tmp, file, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(tmp);
+            }
+        } catch (final IOException exception) {
+            Logger.warn(
+                this, "Can't save fragment to the cache '%s': %[exception]s", file, exception
+            );
+        }
+    }
+
+    /**
+     * File where the fragment is stored.
+     * @param key Method key.
+     * @return Path to the file.
+     */
+    private Path file(final String key) {
+        final String hash = new Sha256(String.format("%s|%s", this.version, key)).value();
+        return this.dir.resolve(hash.substring(0, 2))
+            .resolve(String.format("%s%s", hash, PersistentMethodsCache.EXTENSION));
+    }
+
+    /**
+     * Cached fragment with its modification time and size read once.
+     * @since 0.5
+     */
+    private static final class Entry {
+
+        /**
+         * Fragment file.
+         */
+        private final Path file;
+
+        /**
+         * Modification time, zero if the file is gone.
+         */
+        private final long time;
+
+        /**
+         * Size, zero if the file is gone.
+         */
+        private final long bytes;
+
+        /**
+         * Constructor.
+         * @param file Fragment file.
+         */
+        Entry(final Path file) {
+            this(file, Entry.attributes(file));
+        }
+
+        /**
+         * Constructor.
+         * @param file Fragment file.
+         * @param attrs Modification time and size.
+         */
+        private Entry(final Path file, final long[] attrs) {
+            this.file = file;
+            this.time = attrs[0];
+            this.bytes = attrs[1];
+        }
+
+        /**
+         * Modification time.
+         * @return Milliseconds.
+         */
+        long modified() {
+            return this.time;
+        }
+
+        /**
+         * Size.
+         * @return Bytes.
+         */
+        long size() {
+            return this.bytes;
+        }
+
+        /**
+         * Remove the fragment.
+         * @return True if the fragment was removed.
+         */
+        boolean delete() {
+            boolean result;
+            try {
+                result = Files.deleteIfExists(this.file);
+            } catch (final IOException exception) {
+                Logger.warn(
+                    this, "Can't remove cached fragment '%s': %[exception]s", this.file, exception
+                );
+                result = false;
+            }
+            return result;
+        }
+
+        /**
+         * Modification time and size of a file.
+         * @param file File.
+         * @return Modification time and size, zeros if the file is gone.
+         */
+        private static long[] attributes(final Path file) {
+            long[] result;
+            try {
+                final BasicFileAttributes attrs = Files.readAttributes(
+                    file, BasicFileAttributes.class
+                );
+                result = new long[] {attrs.lastModifiedTime().toMillis(), attrs.size()};
+            } catch (final IOException exception) {
+                result = new long[] {0L, 0L};
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,314 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2023 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.opeo.decompilation;
+
+import com.jcabi.log.Logger;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
+import org.cactoos.scalar.Sticky;
+import org.cactoos.scalar.Synced;
+import org.cactoos.scalar.Unchecked;
+import org.eolang.opeo.storage.XmirEntry;
+
+/**
+ * Progress of a decompilation run.
+ * <p>
+ *     Keeps track of the decompiled and failed files.
+ *     A failure of one file doesn't stop the whole run, it's just recorded
+ *     and reported when the run is finished.
+ * </p>
+ * @since 0.5
+ */
+public interface Progress {
+
+    /**
+     * Was the entry already decompiled by a previous, interrupted run?
+     * @param entry XMIR entry.
+     * @return True if the entry can be skipped.
+     */
+    boolean done(XmirEntry entry);
+
+    /**
+     * Record successfully decompiled entry.
+     * @param entry XMIR entry.
+     */
+    void completed(XmirEntry entry);
+
+    /**
+     * Record failed entry.
+     * @param entry XMIR entry.
+     * @param error The reason of the failure.
+     */
+    void failed(XmirEntry entry, Exception error);
+
+    /**
+     * Finish the run.
+     * @return Summary of the run.
+     */
+    String finish();
+
+    /**
+     * In-memory progress.
+     * Nothing survives between runs, failures are only logged.
+     * @since 0.5
+     */
+    final class Memory implements Progress {
+
+        /**
+         * Number of completed entries.
+         */
+        private final LongAdder decompiled;
+
+        /**
+         * Failures, one line per failed entry.
+         */
+        private final Queue<String> failures;
+
+        /**
+         * Constructor.
+         */
+        public Memory() {
+            this.decompiled = new LongAdder();
+            this.failures = new ConcurrentLinkedQueue<>();
+        }
+
+        @Override
+        public boolean done(final XmirEntry entry) {
+            return false;
+        }
+
+        @Override
+        public void completed(final XmirEntry entry) {
+            this.decompiled.increment();
+        }
+
+        @Override
+        public void failed(final XmirEntry entry, final Exception error) {
+            Logger.error(
+                this,
+                "Failed to decompile %s, the file is kept as is: %[exception]s",
+                entry.relative(),
+                error
+            );
+            this.failures.add(String.format("%s: %s", entry.relative(), error.getMessage()));
+        }
+
+        @Override
+        public String finish() {
+            return String.format(
+                "%d files decompiled, %d files failed",
+                this.decompiled.sum(),
+                this.failures.size()
+            );
+        }
+
+        /**
+         * All failures.
+         * @return Failures, one line per failed entry.
+         */
+        public List<String> failures() {
+            return Collections.unmodifiableList(new ArrayList<>(this.failures));
+        }
+    }
+
+    /**
+     * Progress with a checkpoint journal.
+     * <p>
+     *     Each decompiled entry is appended to the journal in the output directory
+     *     together with the checksum of its content.
+     *     If the run crashes (or the JVM runs out of memory), the next run skips all
+     *     the entries from the journal and decompiles only the remaining ones.
+     *     Entries that were changed after the interrupted run are decompiled again.
+     *     Failed entries are not journaled, so they are retried by the next run.
+     *     When the run finishes, the journal is removed and failures are saved
+     *     to the report in the same directory.
+     * </p>
+     * @since 0.5
+     */
+    final class Journal implements Progress {
+
+        /**
+         * Journal file name.
+         */
+        private static final String JOURNAL = ".opeo-decompile-journal";
+
+        /**
+         * Separator of the name and the checksum in the journal.
+         */
+        private static final char SEP = '\t';
+
+        /**
+         * Failures report file name.
+         */
+        private static final String REPORT = "opeo-decompile-failures.txt";
+
+        /**
+         * Output directory.
+         */
+        private final Path dir;
+
+        /**
+         * In-memory progress of the current run.
+         */
+        private final Memory current;
+
+        /**
+         * Entries completed by the previous, interrupted run, with their checksums.
+         */
+        private final Unchecked<Map<String, String>> previous;
+
+        /**
+         * Number of entries skipped because they are in the journal.
+         */
+        private final LongAdder resumed;
+
+        /**
+         * Constructor.
+         * @param dir Output directory.
+         */
+        public Journal(final Path dir) {
+            this.dir = dir;
+            this.current = new Memory();
+            this.previous = new Unchecked<>(
+                new Synced<>(new Sticky<>(() -> Journal.read(dir.resolve(Journal.JOURNAL))))
+            );
+            this.resumed = new LongAdder();
+        }
+
+        @Override
+        public boolean done(final XmirEntry entry) {
+            final Map<String, String> done = this.previous.value();
+            final boolean result = done.containsKey(entry.relative())
+                && done.get(entry.relative()).equals(entry.checksum());
+            if (result) {
+                this.resumed.increment();
+            }
+            return result;
+        }
+
+        @Override
+        public void completed(final XmirEntry entry) {
+            this.current.completed(entry);
+            this.append(
+                String.format("%s%s%s", entry.relative(), Journal.SEP, entry.checksum())
+            );
+        }
+
+        @Override
+        public void failed(final XmirEntry entry, final Exception error) {
+            this.current.failed(entry, error);
+        }
+
+        @Override
+        public String finish() {
+            final Path report = this.dir.resolve(Journal.REPORT);
+            final List<String> failures = this.current.failures();
+            try {
+                if (failures.isEmpty()) {
+                    Files.deleteIfExists(report);
+                } else {
+                    Files.createDirectories(this.dir);
+                    Files.write(report, failures, StandardCharsets.UTF_8);
+                    Logger.warn(
+                        this,
+                        "%d files failed to decompile, see the report %[file]s",
+                        failures.size(),
+                        report
+                    );
+                }
+                Files.deleteIfExists(this.dir.resolve(Journal.JOURNAL));
+            } catch (final IOException exception) {
+                throw new IllegalStateException(
+                    String.format("Can't finish the decompilation journal in '%s'", this.dir),
+                    exception
+                );
+            }
+            return String.format(
+                "%s, %d files resumed from the journal",
+                this.current.finish(),
+                this.resumed.sum()
+            );
+        }
+
+        /**
+         * Append entry to the journal.
+         * @param line Relative name of the entry with its checksum.
+         */
+        private synchronized void append(final String line) {
+            try {
+                Files.createDirectories(this.dir);
+                Files.write(
+                    this.dir.resolve(Journal.JOURNAL),
+                    Collections.singletonList(line),
+                    StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE,
+                    StandardOpenOption.APPEND
+                );
+            } catch (final IOException exception) {
+                throw new IllegalStateException(
+                    String.format("Can't append '%s' to the decompilation journal", line),
+                    exception
+                );
+            }
+        }
+
+        /**
+         * Read the journal.
+         * @param journal Journal file.
+         * @return Entries completed by the previous run with their checksums.
+         * @throws IOException If the journal can't be read.
+         */
+        private static Map<String, String> read(final Path journal) throws IOException {
+            final Map<String, String> result;
+            if (Files.exists(journal)) {
+                result = new HashMap<>(0);
+                for (final String line : Files.readAllLines(journal, StandardCharsets.UTF_8)) {
+                    final int sep = line.lastIndexOf(Journal.SEP);
+                    if (sep > 0) {
+                        result.put(line.substring(0, sep), line.substring(sep + 1));
+                    }
+                }
+                Logger.info(
+                    Journal.class,
+                    "Resuming interrupted decompilation, %d files were already decompiled",
+                    result.size()
+                );
+            } else {
+                result = Collections.emptyMap();
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,287 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2023 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.opeo.decompilation;
+
+import com.jcabi.log.Logger;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import org.eolang.opeo.jeo.Hex;
+import org.eolang.opeo.report.Report;
+import org.eolang.opeo.storage.Filter;
+
+/**
+ * Classes reachable from the entry points.
+ * <p>
+ *     Before decompilation, all the XMIR files are scanned by a streaming parser, without
+ *     building DOM. For each class we collect the classes it refers to: owners of
+ *     'invoke*', 'getstatic', 'putstatic' and 'new' instructions, the superclass and
+ *     the interfaces. Then the graph is traversed from the root classes, and only the
+ *     reachable classes are decompiled. The rest are copied as is, see {@link #filter(Filter)}.
+ * </p>
+ * <p>
+ *     Classes that are used only via reflection or method handles, like Spring beans,
+ *     are not reachable from anywhere, so they have to be listed as roots too.
+ * </p>
+ * @since 0.5
+ */
+public final class Reachability {
+
+    /**
+     * Instructions whose first string operand is a referenced class.
+     */
+    private static final Set<String> OWNERS = new HashSet<>(
+        Arrays.asList(
+            "invokevirtual",
+            "invokespecial",
+            "invokestatic",
+            "invokeinterface",
+            "getstatic",
+            "putstatic",
+            "new"
+        )
+    );
+
+    /**
+     * Factory of streaming XML parsers.
+     */
+    private static final XMLInputFactory FACTORY = XMLInputFactory.newInstance();
+
+    /**
+     * Folder with XMIR files.
+     */
+    private final Path xmirs;
+
+    /**
+     * Root classes, globs of relative paths of XMIR files.
+     */
+    private final Filter roots;
+
+    /**
+     * Performance report.
+     */
+    private final Report report;
+
+    /**
+     * Constructor.
+     * @param xmirs Folder with XMIR files.
+     * @param roots Comma-separated globs of root XMIR files, like 'org/example/Main.xmir'.
+     * @param report Performance report.
+     */
+    public Reachability(final Path xmirs, final String roots, final Report report) {
+        this(xmirs, new Filter(roots, ""), report);
+    }
+
+    /**
+     * Constructor.
+     * @param xmirs Folder with XMIR files.
+     * @param roots Root classes.
+     * @param report Performance report.
+     */
+    public Reachability(final Path xmirs, final Filter roots, final Report report) {
+        this.xmirs = xmirs;
+        this.roots = roots;
+        this.report = report;
+    }
+
+    /**
+     * Filter that additionally rejects all the unreachable classes.
+     * @param origin Original filter.
+     * @return Filter.
+     */
+    public Filter filter(final Filter origin) {
+        final Set<String> reachable = this.report.stage("reachability", this::classes);
+        return origin.excluding(path -> !reachable.contains(Reachability.name(path)));
+    }
+
+    /**
+     * Names of reachable classes.
+     * @return Internal names of classes, like 'org/example/Main'.
+     */
+    Set<String> classes() {
+        if (this.roots.all()) {
+            throw new IllegalArgumentException(
+                String.format("Roots of reachability in '%s' are not specified", this.xmirs)
+            );
+        }
+        final Map<String, Set<String>> graph = this.graph();
+        final Deque<String> queue = graph.keySet().stream()
+            .filter(clazz -> this.roots.accepts(Paths.get(String.format("%s.xmir", clazz))))
+            .collect(Collectors.toCollection(ArrayDeque::new));
+        final int sources = queue.size();
+        final Set<String> result = new HashSet<>(queue);
+        while (!queue.isEmpty()) {
+            for (final String next : graph.getOrDefault(queue.poll(), Collections.emptySet())) {
+                if (graph.containsKey(next) && result.add(next)) {
+                    queue.add(next);
+                }
+            }
+        }
+        this.report.reachability(graph.size(), sources, result.size());
+        Logger.info(
+            this,
+            "%d classes out of %d are reachable from %d roots in %[file]s",
+            result.size(),
+            graph.size(),
+            sources,
+            this.xmirs
+        );
+        return result;
+    }
+
+    /**
+     * Graph of references between classes, built in parallel.
+     * @return Referenced classes of each class.
+     */
+    private Map<String, Set<String>> graph() {
+        final List<Path> files;
+        try (Stream<Path> all = Files.walk(this.xmirs)) {
+            files = all.filter(Files::isRegularFile)
+                .filter(path -> path.toString().endsWith(".xmir"))
+                .collect(Collectors.toList());
+        } catch (final IOException exception) {
+            throw new IllegalStateException(
+                String.format("Can't retrieve XMIR files from the '%s' folder", this.xmirs),
+                exception
+            );
+        }
+        final Map<String, Set<String>> result = new ConcurrentHashMap<>(files.size());
+        files.parallelStream().forEach(
+            file -> result.put(
+                Reachability.name(this.xmirs.relativize(file)), Reachability.references(file)
+            )
+        );
+        return result;
+    }
+
+    /**
+     * Classes referenced by the XMIR file.
+     * @param file XMIR file.
+     * @return Internal names of referenced classes.
+     */
+    private static Set<String> references(final Path file) {
+        try (InputStream input = Files.newInputStream(file)) {
+            final XMLStreamReader reader = Reachability.FACTORY.createXMLStreamReader(input);
+            try {
+                return Reachability.references(reader);
+            } finally {
+                reader.close();
+            }
+        } catch (final IOException | XMLStreamException exception) {
+            throw new IllegalStateException(
+                String.format("Can't scan references of '%s'", file),
+                exception
+            );
+        }
+    }
+
+    /**
+     * Classes referenced by the XMIR.
+     * Each open element is marked in the stack: "owner" is an instruction with a class
+     * operand, "interfaces" is the list of implemented interfaces.
+     * @param reader Streaming reader of XMIR.
+     * @return Internal names of referenced classes.
+     * @throws XMLStreamException If fails.
+     */
+    private static Set<String> references(final XMLStreamReader reader)
+        throws XMLStreamException {
+        final Set<String> result = new HashSet<>(0);
+        final Deque<String> parents = new ArrayDeque<>(0);
+        while (reader.hasNext()) {
+            final int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                final String base = reader.getAttributeValue(null, "base");
+                final String name = reader.getAttributeValue(null, "name");
+                final String parent = parents.peek();
+                if ("string".equals(base)
+                    && ("supername".equals(name)
+                    || "owner".equals(parent)
+                    || "interfaces".equals(parent))) {
+                    final String text = reader.getElementText().trim();
+                    if (!text.isEmpty()) {
+                        result.add(new Hex(text).string());
+                    }
+                    if ("owner".equals(parent)) {
+                        parents.pop();
+                        parents.push("");
+                    }
+                } else {
+                    parents.push(Reachability.kind(base, name));
+                }
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                parents.pop();
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Kind of the element.
+     * @param base Base attribute.
+     * @param name Name attribute.
+     * @return Kind: "owner", "interfaces" or empty.
+     */
+    private static String kind(final String base, final String name) {
+        final String result;
+        if ("opcode".equals(base) && Objects.nonNull(name)
+            && Reachability.OWNERS.contains(name.split("-", 2)[0].toLowerCase(Locale.ROOT))) {
+            result = "owner";
+        } else if ("tuple".equals(base) && "interfaces".equals(name)) {
+            result = "interfaces";
+        } else {
+            result = "";
+        }
+        return result;
+    }
+
+    /**
+     * Internal class name of the XMIR file.
+     * @param relative Path of the XMIR file relative to the XMIR folder.
+     * @return Internal name, like 'org/example/Main'.
+     */
+    private static String name(final Path relative) {
+        final String path = relative.toString().replace(File.separatorChar, '/');
+        return path.substring(0, path.length() - ".xmir".length());
+    }
+}
@@ -0,0 +1,189 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2023 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.opeo.decompilation;
+
+import org.eolang.opeo.decompilation.agents.TracedAgent;
+import org.eolang.opeo.report.Report;
+import org.eolang.opeo.storage.Filter;
+
+/**
+ * Tunable settings of a decompilation run.
+ * <p>
+ *     Settings are immutable: setters return a modified copy, so a run can be
+ *     configured like {@code new Settings().budget(budget).report(report)}.
+ *     Everything that isn't set has a default: in-memory cache of methods,
+ *     unlimited budget, a new report, log output of agents and no filter.
+ * </p>
+ * @since 0.5
+ */
+@SuppressWarnings("PMD.TooManyMethods")
+public final class Settings {
+
+    /**
+     * Cache of decompiled methods.
+     */
+    private final MethodsCache methods;
+
+    /**
+     * Decompilation budget of a single method.
+     */
+    private final Budget limits;
+
+    /**
+     * Performance report.
+     */
+    private final Report perf;
+
+    /**
+     * Output of decompilation agents.
+     */
+    private final TracedAgent.Output traces;
+
+    /**
+     * Filter of XMIR files, rejected files are copied as is.
+     */
+    private final Filter selection;
+
+    /**
+     * Constructor.
+     */
+    public Settings() {
+        this(
+            new MethodsCache.Memory(),
+            new Budget(),
+            new Report(),
+            new TracedAgent.Log(),
+            new Filter()
+        );
+    }
+
+    /**
+     * Constructor.
+     * @param cache Cache of decompiled methods.
+     * @param budget Decompilation budget of a single method.
+     * @param report Performance report.
+     * @param agents Output of decompilation agents.
+     * @param filter Filter of XMIR files.
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    private Settings(
+        final MethodsCache cache,
+        final Budget budget,
+        final Report report,
+        final TracedAgent.Output agents,
+        final Filter filter
+    ) {
+        this.methods = cache;
+        this.limits = budget;
+        this.perf = report;
+        this.traces = agents;
+        this.selection = filter;
+    }
+
+    /**
+     * Get cache of decompiled methods.
+     * @return Cache.
+     */
+    public MethodsCache cache() {
+        return this.methods;
+    }
+
+    /**
+     * Set cache of decompiled methods.
+     * @param cache Cache shared between all the decompiled files.
+     * @return New settings.
+     */
+    public Settings cache(final MethodsCache cache) {
+        return new Settings(cache, this.limits, this.perf, this.traces, this.selection);
+    }
+
+    /**
+     * Get decompilation budget of a single method.
+     * @return Budget.
+     */
+    public Budget budget() {
+        return this.limits;
+    }
+
+    /**
+     * Set decompilation budget of a single method.
+     * @param budget Budget.
+     * @return New settings.
+     */
+    public Settings budget(final Budget budget) {
+        return new Settings(this.methods, budget, this.perf, this.traces, this.selection);
+    }
+
+    /**
+     * Get performance report.
+     * @return Report.
+     */
+    public Report report() {
+        return this.perf;
+    }
+
+    /**
+     * Set performance report.
+     * @param report Report.
+     * @return New settings.
+     */
+    public Settings report(final Report report) {
+        return new Settings(this.methods, this.limits, report, this.traces, this.selection);
+    }
+
+    /**
+     * Get output of decompilation agents.
+     * @return Output.
+     */
+    public TracedAgent.Output agents() {
+        return this.traces;
+    }
+
+    /**
+     * Set output of decompilation agents.
+     * @param agents Output, like {@link TracedAgent.Metrics}.
+     * @return New settings.
+     */
+    public Settings agents(final TracedAgent.Output agents) {
+        return new Settings(this.methods, this.limits, this.perf, agents, this.selection);
+    }
+
+    /**
+     * Get filter of XMIR files.
+     * @return Filter.
+     */
+    public Filter filter() {
+        return this.selection;
+    }
+
+    /**
+     * Set filter of XMIR files.
+     * Rejected files are copied to the output as is.
+     * @param filter Filter.
+     * @return New settings.
+     */
+    public Settings filter(final Filter filter) {
+        return new Settings(this.methods, this.limits, this.perf, this.traces, filter);
+    }
+}
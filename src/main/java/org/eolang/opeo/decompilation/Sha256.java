@@ -0,0 +1,102 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2023 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.opeo.decompilation;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * SHA-256 hash in lowercase hex.
+ * <p>
+ *     All the parts are hashed one after another, as if they were a single array.
+ * </p>
+ * @since 0.5
+ */
+public final class Sha256 {
+
+    /**
+     * Hex digits.
+     */
+    private static final char[] DIGITS = "0123456789abcdef".toCharArray();
+
+    /**
+     * Parts to hash.
+     */
+    private final List<byte[]> parts;
+
+    /**
+     * Constructor.
+     * @param text Text to hash, in UTF-8.
+     */
+    public Sha256(final String text) {
+        this(text.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Constructor.
+     * @param parts Parts to hash.
+     */
+    public Sha256(final byte[]... parts) {
+        this(Arrays.asList(parts));
+    }
+
+    /**
+     * Constructor.
+     * @param parts Parts to hash.
+     */
+    public Sha256(final List<byte[]> parts) {
+        this.parts = parts;
+    }
+
+    /**
+     * Hash value.
+     * @return Hex hash, 64 characters.
+     */
+    public String value() {
+        final MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (final NoSuchAlgorithmException exception) {
+            throw new IllegalStateException("SHA-256 algorithm is not available", exception);
+        }
+        for (final byte[] part : this.parts) {
+            digest.update(part);
+        }
+        final byte[] hash = digest.digest();
+        final char[] res = new char[hash.length * 2];
+        for (int idx = 0; idx < hash.length; ++idx) {
+            res[idx * 2] = Sha256.DIGITS[hash[idx] >> 4 & 0xF];
+            res[idx * 2 + 1] = Sha256.DIGITS[hash[idx] & 0xF];
+        }
+        return new String(res);
+    }
+
+    @Override
+    public String toString() {
+        return this.value();
+    }
+}
@@ -26,6 +26,7 @@ package org.eolang.opeo.decompilation.agents;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.Set;
+import org.eolang.opeo.decompilation.Budget;
 import org.eolang.opeo.decompilation.DecompilerState;
 
 /**
@@ -46,6 +47,11 @@ public final class AllAgents implements DecompilationAgent {
      */
     private final Set<? extends DecompilationAgent> agents;
 
+    /**
+     * Decompilation budget of a single method.
+     */
+    private final Budget budget;
+
     /**
      * Constructor.
      */
@@ -59,6 +65,18 @@ public final class AllAgents implements DecompilationAgent {
      * @param output Where do we save output logs?
      */
     public AllAgents(final boolean counting, final TracedAgent.Output output) {
+        this(counting, output, new Budget());
+    }
+
+    /**
+     * Constructor.
+     * @param counting Do we put numbers to opcodes?
+     * @param output Where do we save output logs?
+     * @param budget Decompilation budget of a single method.
+     */
+    public AllAgents(
+        final boolean counting, final TracedAgent.Output output, final Budget budget
+    ) {
         this(
             new HashSet<>(
                 Arrays.asList(
@@ -90,16 +108,19 @@ public final class AllAgents implements DecompilationAgent {
                     new TracedAgent(new LabelAgent(), output),
                     new TracedAgent(new UnimplementedAgent(counting), output)
                 )
-            )
+            ),
+            budget
         );
     }
 
     /**
      * Constructor.
      * @param agents All handlers that will try to handle incoming instructions.
+     * @param budget Decompilation budget of a single method.
      */
-    private AllAgents(final Set<? extends DecompilationAgent> agents) {
+    private AllAgents(final Set<? extends DecompilationAgent> agents, final Budget budget) {
         this.agents = agents;
+        this.budget = budget;
     }
 
     @Override
@@ -116,7 +137,9 @@ public final class AllAgents implements DecompilationAgent {
 
     @Override
     public void handle(final DecompilerState state) {
+        final Budget.Meter meter = this.budget.meter();
         while (this.appropriate(state)) {
+            meter.spend();
             this.agents.stream().filter(agent -> agent.appropriate(state))
                 .findFirst()
                 .ifPresent(agent -> agent.handle(state));
@@ -70,7 +70,7 @@ public final class CastAgent implements DecompilationAgent {
         if (this.appropriate(state)) {
             state.stack().push(
                 new Cast(
-                    CastAgent.target(state.current().opcode()),
+                    CastAgent.target(state.opcode()),
                     state.stack().pop()
                 )
             );
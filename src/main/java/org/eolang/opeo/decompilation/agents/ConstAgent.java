@@ -68,7 +68,7 @@ public final class ConstAgent implements DecompilationAgent {
     @Override
     public void handle(final DecompilerState state) {
         if (this.appropriate(state)) {
-            final int opcode = state.current().opcode();
+            final int opcode = state.opcode();
             final AstNode res;
             switch (opcode) {
                 case Opcodes.ICONST_M1:
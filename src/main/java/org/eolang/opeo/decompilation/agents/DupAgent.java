@@ -53,7 +53,7 @@ public final class DupAgent implements DecompilationAgent {
     public void handle(final DecompilerState state) {
         if (this.appropriate(state)) {
             final OperandStack stack = state.stack();
-            stack.push(new Duplicate(stack.pop()));
+            stack.push(new Duplicate(state.reference(), stack.pop()));
             state.popInstruction();
         } else {
             throw new IllegalAgentException(this, state);
@@ -26,11 +26,11 @@ package org.eolang.opeo.decompilation.agents;
 import java.util.Collections;
 import java.util.List;
 import org.eolang.opeo.ast.AstNode;
+import org.eolang.opeo.ast.Descriptor;
 import org.eolang.opeo.ast.DynamicInvocation;
 import org.eolang.opeo.decompilation.DecompilerState;
 import org.objectweb.asm.Handle;
 import org.objectweb.asm.Opcodes;
-import org.objectweb.asm.Type;
 
 /**
  * Invokedynamic instruction handler.
@@ -51,9 +51,9 @@ public final class InvokedynamicAgent implements DecompilationAgent {
     @Override
     public void handle(final DecompilerState state) {
         if (this.appropriate(state)) {
-            final List<Object> operands = state.current().params();
+            final List<Object> operands = state.operands();
             final String descriptor = (String) operands.get(1);
-            final List<AstNode> args = state.stack().pop(Type.getArgumentTypes(descriptor).length);
+            final List<AstNode> args = state.stack().pop(new Descriptor(descriptor).count());
             Collections.reverse(args);
             final DynamicInvocation node = new DynamicInvocation(
                 (String) operands.get(0),
@@ -28,6 +28,7 @@ import java.util.List;
 import org.eolang.opeo.ast.AstNode;
 import org.eolang.opeo.ast.Attributes;
 import org.eolang.opeo.ast.Constructor;
+import org.eolang.opeo.ast.Descriptor;
 import org.eolang.opeo.ast.Duplicate;
 import org.eolang.opeo.ast.Labeled;
 import org.eolang.opeo.ast.NewAddress;
@@ -35,7 +36,6 @@ import org.eolang.opeo.ast.Super;
 import org.eolang.opeo.ast.This;
 import org.eolang.opeo.decompilation.DecompilerState;
 import org.objectweb.asm.Opcodes;
-import org.objectweb.asm.Type;
 
 /**
  * Invokespecial instruction handler.
@@ -91,7 +91,7 @@ public final class InvokespecialAgent implements DecompilationAgent {
             final String descriptor = (String) state.operand(2);
             final boolean interfaced = (boolean) state.operand(3);
             final List<AstNode> args = state.stack().pop(
-                Type.getArgumentCount(descriptor)
+                new Descriptor(descriptor).count()
             );
             Collections.reverse(args);
             final AstNode target = state.stack().pop();
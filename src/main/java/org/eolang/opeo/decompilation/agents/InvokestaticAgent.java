@@ -27,11 +27,11 @@ import java.util.Collections;
 import java.util.List;
 import org.eolang.opeo.ast.AstNode;
 import org.eolang.opeo.ast.Attributes;
+import org.eolang.opeo.ast.Descriptor;
 import org.eolang.opeo.ast.Owner;
 import org.eolang.opeo.ast.StaticInvocation;
 import org.eolang.opeo.decompilation.DecompilerState;
 import org.objectweb.asm.Opcodes;
-import org.objectweb.asm.Type;
 
 /**
  * Invokestatic instruction handler.
@@ -56,7 +56,7 @@ public final class InvokestaticAgent implements DecompilationAgent {
             final String method = (String) state.operand(1);
             final String descriptor = (String) state.operand(2);
             final boolean interfaced = (boolean) state.operand(3);
-            final List<AstNode> args = state.stack().pop(Type.getArgumentCount(descriptor));
+            final List<AstNode> args = state.stack().pop(new Descriptor(descriptor).count());
             Collections.reverse(args);
             state.stack().push(
                 new StaticInvocation(
@@ -27,10 +27,10 @@ import java.util.Collections;
 import java.util.List;
 import org.eolang.opeo.ast.AstNode;
 import org.eolang.opeo.ast.Attributes;
+import org.eolang.opeo.ast.Descriptor;
 import org.eolang.opeo.ast.Invocation;
 import org.eolang.opeo.decompilation.DecompilerState;
 import org.objectweb.asm.Opcodes;
-import org.objectweb.asm.Type;
 
 /**
  * Invokevirtual instruction handler.
@@ -67,7 +67,7 @@ public final class InvokevirtualAgent implements DecompilationAgent {
             final String descriptor = (String) state.operand(2);
             final boolean interfaced = (Boolean) state.operand(3);
             final List<AstNode> args = state.stack().pop(
-                Type.getArgumentCount(descriptor)
+                new Descriptor(descriptor).count()
             );
             Collections.reverse(args);
             final AstNode source = state.stack().pop();
@@ -61,7 +61,7 @@ public final class LoadAgent implements DecompilationAgent {
     @Override
     public void handle(final DecompilerState state) {
         if (this.appropriate(state)) {
-            final int opcode = state.current().opcode();
+            final int opcode = state.opcode();
             final Integer index = (Integer) state.operand(0);
             state.stack().push(
                 state.variable(index, LoadAgent.type(opcode))
@@ -56,7 +56,7 @@ public final class MulAgent implements DecompilationAgent {
 
     @Override
     public void handle(final DecompilerState state) {
-        if (this.supported().isSupported(state.current())) {
+        if (this.supported().isSupported(state.opcode())) {
             final AstNode right = state.stack().pop();
             final AstNode left = state.stack().pop();
             state.stack().push(new Multiplication(left, right));
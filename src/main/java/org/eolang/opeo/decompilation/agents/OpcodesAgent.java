@@ -47,7 +47,7 @@ public final class OpcodesAgent implements DecompilationAgent {
 
     @Override
     public boolean appropriate(final DecompilerState state) {
-        return state.hasInstructions() && this.supported().isSupported(state.current());
+        return state.hasInstructions() && this.supported().isSupported(state.opcode());
     }
 
     @Override
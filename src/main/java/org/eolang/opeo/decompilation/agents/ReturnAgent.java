@@ -60,7 +60,7 @@ public final class ReturnAgent implements DecompilationAgent {
     @Override
     public void handle(final DecompilerState state) {
         if (this.appropriate(state)) {
-            final int opcode = state.current().opcode();
+            final int opcode = state.opcode();
             final OperandStack stack = state.stack();
             if (opcode == Opcodes.RETURN) {
                 stack.push(new Return());
@@ -68,7 +68,7 @@ public final class StoreAgent implements DecompilationAgent {
                 new VariableAssignment(
                     (LocalVariable) state.variable(
                         (Integer) state.operand(0),
-                        StoreAgent.infer(value, state.current().opcode())
+                        StoreAgent.infer(value, state.opcode())
                     ),
                     value
                 )
@@ -27,7 +27,6 @@ import java.util.Arrays;
 import java.util.HashSet;
 import java.util.Set;
 import java.util.stream.Collectors;
-import org.eolang.opeo.ast.Opcode;
 import org.eolang.opeo.ast.OpcodeName;
 
 /**
@@ -60,11 +59,11 @@ final class Supported {
 
     /**
      * Check if the instruction is supported.
-     * @param opcode Instruction to check.
+     * @param opcode Opcode number of the instruction to check.
      * @return True if the instruction is supported, false otherwise.
      */
-    boolean isSupported(final Opcode opcode) {
-        return this.all.contains(opcode.opcode());
+    boolean isSupported(final int opcode) {
+        return this.all.contains(opcode);
     }
 
     /**
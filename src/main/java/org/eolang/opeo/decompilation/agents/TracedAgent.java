@@ -27,10 +27,16 @@ import com.jcabi.log.Logger;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.Deque;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.stream.Collectors;
+import org.eolang.opeo.ast.OpcodeName;
 import org.eolang.opeo.decompilation.DecompilerState;
 
 /**
@@ -81,40 +87,64 @@ public final class TracedAgent implements DecompilationAgent {
     @Override
     public void handle(final DecompilerState state) {
         if (this.appropriate(state)) {
-            final String name = this.original.getClass().getSimpleName();
-            this.output.register(this.original.getClass());
-            this.output.write(
-                String.format(
-                    "Stack before %s: [%s]",
-                    name,
-                    state.stack().pretty()
-                )
-            );
-            this.output.write(
-                String.format(
-                    "Instructions before %s: [%s]",
-                    name,
-                    state.prettyOpcodes()
-                )
-            );
+            final Class<? extends DecompilationAgent> agent = this.original.getClass();
+            final String name = agent.getSimpleName();
+            final boolean verbose = this.output.verbose();
+            this.output.register(agent);
+            if (verbose) {
+                this.output.write(
+                    String.format(
+                        "Stack before %s: [%s]",
+                        name,
+                        state.stack().pretty()
+                    )
+                );
+                this.output.write(
+                    String.format(
+                        "Instructions before %s: [%s]",
+                        name,
+                        state.prettyOpcodes()
+                    )
+                );
+            }
+            final int opcode = TracedAgent.opcode(state);
+            final long start = System.nanoTime();
             this.original.handle(state);
-            this.output.write(
-                String.format(
-                    "Stack after %s: [%s]",
-                    name,
-                    state.stack().pretty()
-                )
-            );
-            this.output.write(
-                String.format(
-                    "Instructions after %s: [%s]",
-                    name,
-                    state.prettyOpcodes()
-                )
-            );
+            this.output.handled(agent, opcode, System.nanoTime() - start);
+            if (verbose) {
+                this.output.write(
+                    String.format(
+                        "Stack after %s: [%s]",
+                        name,
+                        state.stack().pretty()
+                    )
+                );
+                this.output.write(
+                    String.format(
+                        "Instructions after %s: [%s]",
+                        name,
+                        state.prettyOpcodes()
+                    )
+                );
+            }
         }
     }
 
+    /**
+     * Opcode of the current instruction.
+     * @param state Decompiler state.
+     * @return Opcode or -1 if there are no instructions left.
+     */
+    private static int opcode(final DecompilerState state) {
+        final int result;
+        if (state.hasInstructions()) {
+            result = state.opcode();
+        } else {
+            result = -1;
+        }
+        return result;
+    }
+
     /**
      * Output target.
      * Target for the output of the traced agent.
@@ -134,6 +164,21 @@ public final class TracedAgent implements DecompilationAgent {
          */
         void register(Class<? extends DecompilationAgent> agent);
 
+        /**
+         * Register an instruction handled by an agent.
+         * @param agent Agent class used.
+         * @param opcode Opcode of the handled instruction.
+         * @param nanos Time spent by the agent in nanoseconds.
+         */
+        void handled(Class<? extends DecompilationAgent> agent, int opcode, long nanos);
+
+        /**
+         * Whether the output needs messages.
+         * Messages are rather expensive to build, so they are built only if they are needed.
+         * @return True if messages should be written.
+         */
+        boolean verbose();
+
     }
 
     /**
@@ -152,6 +197,18 @@ public final class TracedAgent implements DecompilationAgent {
         public void register(final Class<? extends DecompilationAgent> agent) {
             Logger.debug(this, "Agent used: %s", agent.getSimpleName());
         }
+
+        @Override
+        public void handled(
+            final Class<? extends DecompilationAgent> agent, final int opcode, final long nanos
+        ) {
+            // Nothing to do, agents are already logged in the 'register' method.
+        }
+
+        @Override
+        public boolean verbose() {
+            return Logger.isDebugEnabled(this);
+        }
     }
 
     /**
@@ -197,6 +254,18 @@ public final class TracedAgent implements DecompilationAgent {
             this.agents.add(agent);
         }
 
+        @Override
+        public void handled(
+            final Class<? extends DecompilationAgent> agent, final int opcode, final long nanos
+        ) {
+            // Nothing to do, agents are already stored in the 'register' method.
+        }
+
+        @Override
+        public boolean verbose() {
+            return true;
+        }
+
         /**
          * Get all messages.
          * @return All messages.
@@ -213,4 +282,259 @@ public final class TracedAgent implements DecompilationAgent {
             return this.agents.stream().map(Class::getSimpleName).collect(Collectors.toList());
         }
     }
+
+    /**
+     * Metrics output.
+     * Output target that counts handled instructions per agent and per opcode.
+     * Counters are lock-free, so the same output can be shared between
+     * parallel decompilations and summarized at the end of the run.
+     * Optionally, it also keeps histograms of the time spent by agents.
+     * All messages are passed to the original output.
+     * @since 0.5
+     */
+    public static final class Metrics implements Output {
+
+        /**
+         * Number of buckets in the timing histogram.
+         * Bucket 'i' counts handlings that took less than 2^i nanoseconds.
+         */
+        private static final int BUCKETS = 64;
+
+        /**
+         * How many opcodes of each agent to show in the summary.
+         */
+        private static final int TOP = 5;
+
+        /**
+         * Original output.
+         */
+        private final Output origin;
+
+        /**
+         * Do we keep timing histograms?
+         */
+        private final boolean timing;
+
+        /**
+         * Counters of each agent.
+         */
+        private final Map<Class<? extends DecompilationAgent>, Counter> counters;
+
+        /**
+         * Constructor.
+         */
+        public Metrics() {
+            this(new Log(), false);
+        }
+
+        /**
+         * Constructor.
+         * @param origin Original output.
+         * @param timing Do we keep timing histograms?
+         */
+        public Metrics(final Output origin, final boolean timing) {
+            this.origin = origin;
+            this.timing = timing;
+            this.counters = new ConcurrentHashMap<>(0);
+        }
+
+        @Override
+        public void write(final String message) {
+            this.origin.write(message);
+        }
+
+        @Override
+        public void register(final Class<? extends DecompilationAgent> agent) {
+            this.origin.register(agent);
+        }
+
+        @Override
+        public void handled(
+            final Class<? extends DecompilationAgent> agent, final int opcode, final long nanos
+        ) {
+            this.counters.computeIfAbsent(agent, key -> new Counter(this.timing))
+                .add(opcode, nanos);
+            this.origin.handled(agent, opcode, nanos);
+        }
+
+        @Override
+        public boolean verbose() {
+            return this.origin.verbose();
+        }
+
+        /**
+         * How many instructions the agent handled.
+         * @param agent Agent class.
+         * @return Number of handled instructions.
+         */
+        public long hits(final Class<? extends DecompilationAgent> agent) {
+            final Counter counter = this.counters.get(agent);
+            final long result;
+            if (counter == null) {
+                result = 0L;
+            } else {
+                result = counter.hits.sum();
+            }
+            return result;
+        }
+
+        /**
+         * How many instructions with the opcode the agent handled.
+         * @param agent Agent class.
+         * @param opcode Opcode.
+         * @return Number of handled instructions.
+         */
+        public long hits(final Class<? extends DecompilationAgent> agent, final int opcode) {
+            final Counter counter = this.counters.get(agent);
+            final long result;
+            if (counter == null || !counter.opcodes.containsKey(opcode)) {
+                result = 0L;
+            } else {
+                result = counter.opcodes.get(opcode).sum();
+            }
+            return result;
+        }
+
+        /**
+         * Summary of all the counters.
+         * Agents are sorted by the time they spent, the most expensive go first.
+         * @return Human-readable summary.
+         */
+        public String summary() {
+            return this.counters.entrySet().stream()
+                .sorted(
+                    Comparator.comparingLong(
+                        (Map.Entry<Class<? extends DecompilationAgent>, Counter> entry) ->
+                            entry.getValue().nanos.sum()
+                    ).reversed()
+                )
+                .map(
+                    entry -> String.format(
+                        "%s: %s",
+                        entry.getKey().getSimpleName(),
+                        entry.getValue().summary()
+                    )
+                )
+                .collect(Collectors.joining("\n"));
+        }
+
+        /**
+         * Counters of a single agent.
+         * @since 0.5
+         */
+        private static final class Counter {
+
+            /**
+             * Number of handled instructions.
+             */
+            private final LongAdder hits;
+
+            /**
+             * Time spent in nanoseconds.
+             */
+            private final LongAdder nanos;
+
+            /**
+             * Number of handled instructions per opcode.
+             */
+            private final Map<Integer, LongAdder> opcodes;
+
+            /**
+             * Timing histogram, empty if timing is disabled.
+             */
+            private final LongAdder[] histogram;
+
+            /**
+             * Constructor.
+             * @param timing Do we keep timing histogram?
+             */
+            Counter(final boolean timing) {
+                this.hits = new LongAdder();
+                this.nanos = new LongAdder();
+                this.opcodes = new ConcurrentHashMap<>(0);
+                if (timing) {
+                    this.histogram = new LongAdder[Metrics.BUCKETS];
+                    for (int idx = 0; idx < Metrics.BUCKETS; ++idx) {
+                        this.histogram[idx] = new LongAdder();
+                    }
+                } else {
+                    this.histogram = new LongAdder[0];
+                }
+            }
+
+            /**
+             * Count handled instruction.
+             * @param opcode Opcode of the instruction.
+             * @param time Time spent in nanoseconds.
+             */
+            void add(final int opcode, final long time) {
+                this.hits.increment();
+                this.nanos.add(time);
+                this.opcodes.computeIfAbsent(opcode, key -> new LongAdder()).increment();
+                if (this.histogram.length > 0) {
+                    this.histogram[Metrics.BUCKETS - Long.numberOfLeadingZeros(Math.max(time, 0L))]
+                        .increment();
+                }
+            }
+
+            /**
+             * Summary of the counters.
+             * @return Human-readable summary.
+             */
+            String summary() {
+                final long total = this.hits.sum();
+                final StringBuilder result = new StringBuilder(0).append(
+                    String.format(
+                        "%d instructions in %d ms, opcodes: %s",
+                        total,
+                        TimeUnit.NANOSECONDS.toMillis(this.nanos.sum()),
+                        this.opcodes.entrySet().stream()
+                            .sorted(
+                                Comparator.comparingLong(
+                                    (Map.Entry<Integer, LongAdder> entry) -> entry.getValue().sum()
+                                ).reversed()
+                            )
+                            .limit(Metrics.TOP)
+                            .map(
+                                entry -> String.format(
+                                    "%s=%d",
+                                    new OpcodeName(entry.getKey()).simplified(),
+                                    entry.getValue().sum()
+                                )
+                            )
+                            .collect(Collectors.joining(", ", "[", "]"))
+                    )
+                );
+                if (this.histogram.length > 0) {
+                    result.append(
+                        String.format(
+                            ", p50 < %d ns, p99 < %d ns",
+                            this.percentile(total, 0.5),
+                            this.percentile(total, 0.99)
+                        )
+                    );
+                }
+                return result.toString();
+            }
+
+            /**
+             * Upper bound of the percentile from the histogram.
+             * @param total Total number of handled instructions.
+             * @param rank Percentile rank, like 0.99.
+             * @return Upper bound in nanoseconds.
+             */
+            private long percentile(final long total, final double rank) {
+                long seen = 0L;
+                int bucket = 0;
+                while (bucket < Metrics.BUCKETS - 1) {
+                    seen += this.histogram[bucket].sum();
+                    if (seen >= total * rank) {
+                        break;
+                    }
+                    ++bucket;
+                }
+                return 1L << bucket;
+            }
+        }
+    }
 }
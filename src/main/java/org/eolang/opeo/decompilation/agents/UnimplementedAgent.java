@@ -47,7 +47,7 @@ final class UnimplementedAgent implements DecompilationAgent {
 
     @Override
     public boolean appropriate(final DecompilerState state) {
-        return state.hasInstructions() && !new AllAgents().supported().isSupported(state.current());
+        return state.hasInstructions() && !new AllAgents().supported().isSupported(state.opcode());
     }
 
     @Override
@@ -59,11 +59,7 @@ final class UnimplementedAgent implements DecompilationAgent {
     public void handle(final DecompilerState state) {
         if (this.appropriate(state)) {
             state.stack().push(
-                new Opcode(
-                    state.current().opcode(),
-                    state.current().params(),
-                    this.counting
-                )
+                new Opcode(state.opcode(), state.operands(), this.counting)
             );
             state.popInstruction();
         } else {
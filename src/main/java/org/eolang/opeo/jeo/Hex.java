@@ -0,0 +1,163 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2023 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.opeo.jeo;
+
+/**
+ * Hex data of XMIR.
+ * <p>
+ *     XMIR keeps all the data as hex bytes separated by spaces, like "6F 72 67".
+ *     This codec decodes them right from the text of a node: digits are read one by one
+ *     into a reusable buffer of the current thread, without splitting the text, parsing
+ *     each byte into a separate string or running regular expressions. Numbers are
+ *     accumulated without any intermediate bytes at all.
+ * </p>
+ * <p>
+ *     The result is the same as the one of jeo's {@code HexString}: each group of
+ *     digits becomes a single character, so "FF" is decoded into the character
+ *     with code 0xFF and "1" into the one with code 1.
+ * </p>
+ * @since 0.5
+ */
+public final class Hex {
+
+    /**
+     * Reusable buffer of decoded characters of each thread.
+     */
+    private static final ThreadLocal<char[]> BUFFER = ThreadLocal.withInitial(() -> new char[128]);
+
+    /**
+     * Hex text, like "6F 72 67".
+     */
+    private final CharSequence text;
+
+    /**
+     * Constructor.
+     * @param text Hex text, spaces and line breaks between bytes are ignored.
+     */
+    public Hex(final CharSequence text) {
+        this.text = text;
+    }
+
+    /**
+     * Decode string.
+     * @return String.
+     */
+    public String string() {
+        return this.string(false);
+    }
+
+    /**
+     * Decode string without line breaks.
+     * @return String where all the '\n' characters are removed.
+     */
+    public String oneline() {
+        return this.string(true);
+    }
+
+    /**
+     * Decode number from big-endian bytes.
+     * Eight bytes of XMIR 'int' and 'long' data are decoded into a long, an int
+     * is its lower half.
+     * @return Number.
+     */
+    public long number() {
+        long result = 0L;
+        final int length = this.text.length();
+        for (int idx = 0; idx < length; ++idx) {
+            if (!Character.isWhitespace(this.text.charAt(idx))) {
+                result = result << 4 | Hex.digit(this.text, idx);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Decode boolean.
+     * @return True if any byte is not zero.
+     */
+    public boolean bool() {
+        return this.number() != 0L;
+    }
+
+    /**
+     * Decode string.
+     * @param nolines Whether to drop line breaks.
+     * @return String.
+     */
+    private String string(final boolean nolines) {
+        final int length = this.text.length();
+        char[] buffer = Hex.BUFFER.get();
+        if (buffer.length < length / 2 + 1) {
+            buffer = new char[length / 2 + 1];
+            Hex.BUFFER.set(buffer);
+        }
+        int size = 0;
+        int idx = Hex.skip(this.text, 0);
+        while (idx < length) {
+            int code = 0;
+            while (idx < length && !Character.isWhitespace(this.text.charAt(idx))) {
+                code = code << 4 | Hex.digit(this.text, idx);
+                ++idx;
+            }
+            if (!nolines || code != '\n') {
+                buffer[size] = (char) code;
+                ++size;
+            }
+            idx = Hex.skip(this.text, idx);
+        }
+        return new String(buffer, 0, size);
+    }
+
+    /**
+     * Value of a hex digit.
+     * @param text Text.
+     * @param idx Position of the digit.
+     * @return Value from 0 to 15.
+     */
+    private static int digit(final CharSequence text, final int idx) {
+        final int result = Character.digit(text.charAt(idx), 16);
+        if (result < 0) {
+            throw new NumberFormatException(
+                String.format(
+                    "Wrong hex digit '%c' at position %d in '%s'", text.charAt(idx), idx, text
+                )
+            );
+        }
+        return result;
+    }
+
+    /**
+     * Skip whitespaces.
+     * @param text Text.
+     * @param from Position to start from.
+     * @return Position of the next non-whitespace character or the text length.
+     */
+    private static int skip(final CharSequence text, final int from) {
+        int idx = from;
+        while (idx < text.length() && Character.isWhitespace(text.charAt(idx))) {
+            ++idx;
+        }
+        return idx;
+    }
+}
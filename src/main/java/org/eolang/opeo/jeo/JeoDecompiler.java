@@ -23,14 +23,22 @@
  */
 package org.eolang.opeo.jeo;
 
+import com.jcabi.log.Logger;
 import com.jcabi.xml.XML;
 import com.jcabi.xml.XMLDocument;
-import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
 import org.eolang.jeo.representation.xmir.XmlMethod;
 import org.eolang.jeo.representation.xmir.XmlNode;
 import org.eolang.jeo.representation.xmir.XmlProgram;
+import org.eolang.opeo.Instruction;
+import org.eolang.opeo.decompilation.Budget;
 import org.eolang.opeo.decompilation.DecompilerMachine;
 import org.eolang.opeo.decompilation.LocalVariables;
+import org.eolang.opeo.decompilation.MethodsCache;
+import org.eolang.opeo.decompilation.Settings;
+import org.eolang.opeo.report.Flight;
+import org.eolang.opeo.report.Phase;
 import org.objectweb.asm.Type;
 import org.w3c.dom.Node;
 import org.xembly.Transformers;
@@ -53,6 +61,12 @@ public final class JeoDecompiler {
      */
     private final String pckg;
 
+    /**
+     * Settings: cache of decompiled methods, budget of a single method, performance
+     * report and output of decompilation agents.
+     */
+    private final Settings settings;
+
     /**
      * Constructor.
      *
@@ -69,8 +83,20 @@ public final class JeoDecompiler {
      * @param pckg Program package.
      */
     public JeoDecompiler(final XML prog, final String pckg) {
+        this(prog, pckg, new Settings().cache(new MethodsCache.Disabled()));
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param prog Program in XMIR format received from jeo maven plugin.
+     * @param pckg Program package.
+     * @param settings Settings of the run.
+     */
+    public JeoDecompiler(final XML prog, final String pckg, final Settings settings) {
         this.prog = prog;
         this.pckg = pckg;
+        this.settings = settings;
     }
 
     /**
@@ -90,6 +116,7 @@ public final class JeoDecompiler {
 
     /**
      * Decompile method.
+     * If the method exceeds the decompilation budget, its original instructions are kept.
      *
      * @param method Method.
      * @param clazz Class name.
@@ -98,17 +125,18 @@ public final class JeoDecompiler {
         try {
             if (!method.instructions().isEmpty()) {
                 method.withInstructions(
-                    new XmlNode(
-                        new Xembler(
-                            new DecompilerMachine(
-                                new LocalVariables(method.access(), method.descriptor(), clazz),
-                                Collections.singletonMap("counting", "true")
-                            ).decompile(new JeoInstructions(method).instructions()),
-                            new Transformers.Node()
-                        ).xmlQuietly()
-                    ).children().toArray(XmlNode[]::new)
+                    this.fragment(method, clazz).children().toArray(XmlNode[]::new)
                 );
             }
+        } catch (final Budget.Exceeded exceeded) {
+            final String name = this.name(method);
+            Logger.warn(
+                this,
+                "Method '%s' is kept as is: %s",
+                name,
+                exceeded.getMessage()
+            );
+            this.settings.budget().exceeded(name);
         } catch (final ClassCastException | IllegalStateException exception) {
             throw new IllegalStateException(
                 String.format(
@@ -120,4 +148,75 @@ public final class JeoDecompiler {
             );
         }
     }
+
+    /**
+     * Decompiled fragment of the method.
+     * Structurally identical methods are decompiled only once, see {@link MethodsCache}.
+     *
+     * @param method Method.
+     * @param clazz Class name.
+     * @return XML fragment with decompiled instructions.
+     */
+    private XmlNode fragment(final XmlMethod method, final String clazz) {
+        final long start = System.nanoTime();
+        final Flight flight = new Flight(
+            Phase.DECOMPILE, this.pckg, String.format("%s%s", method.name(), method.descriptor())
+        );
+        final Instruction[] instructions = new JeoInstructions(method).instructions();
+        final NormalizedMethod normalized = new NormalizedMethod(
+            method.access(), method.descriptor(), clazz, instructions
+        );
+        final XmlNode result;
+        if (normalized.memoizable()) {
+            result = normalized.restore(
+                this.settings.cache().fragment(
+                    normalized.key(),
+                    () -> normalized.normalize(this.decompile(method, clazz, instructions))
+                )
+            );
+        } else {
+            result = new XmlNode(this.decompile(method, clazz, instructions));
+        }
+        this.settings.report().method(
+            this.name(method), System.nanoTime() - start, instructions.length
+        );
+        flight.commit(instructions.length);
+        return result;
+    }
+
+    /**
+     * Full method name.
+     *
+     * @param method Method.
+     * @return Method name with package and descriptor.
+     */
+    private String name(final XmlMethod method) {
+        return String.format("%s.%s%s", this.pckg, method.name(), method.descriptor());
+    }
+
+    /**
+     * Decompile method instructions.
+     *
+     * @param method Method.
+     * @param clazz Class name.
+     * @param instructions Method instructions.
+     * @return XML fragment with decompiled instructions.
+     */
+    private String decompile(
+        final XmlMethod method, final String clazz, final Instruction... instructions
+    ) {
+        final Map<String, Object> arguments = new HashMap<>(5);
+        arguments.put("counting", "true");
+        arguments.put("output", this.settings.agents());
+        arguments.put("budget", this.settings.budget());
+        arguments.put("class", this.pckg);
+        arguments.put("method", String.format("%s%s", method.name(), method.descriptor()));
+        return new Xembler(
+            new DecompilerMachine(
+                new LocalVariables(method.access(), method.descriptor(), clazz),
+                arguments
+            ).decompile(instructions),
+            new Transformers.Node()
+        ).xmlQuietly();
+    }
 }
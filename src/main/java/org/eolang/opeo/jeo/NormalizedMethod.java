@@ -0,0 +1,592 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2023 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.opeo.jeo;
+
+import com.jcabi.xml.XMLDocument;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.cactoos.scalar.Sticky;
+import org.cactoos.scalar.Unchecked;
+import org.eolang.jeo.representation.xmir.AllLabels;
+import org.eolang.jeo.representation.xmir.XmlNode;
+import org.eolang.opeo.Instruction;
+import org.eolang.opeo.LabelInstruction;
+import org.eolang.opeo.ast.PrefixedName;
+import org.eolang.opeo.decompilation.Sha256;
+import org.objectweb.asm.Label;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.Type;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
+
+/**
+ * Method body with owner-relative references.
+ * <p>
+ *     Structurally identical methods (getters, setters, bridges, generated
+ *     'equals' and 'hashCode', etc.) differ only by the class that owns them and by
+ *     unique label identifiers. This class replaces all these references with
+ *     placeholders, so identical methods get the same {@link #key()}.
+ *     The same replacements are used to make a decompiled fragment owner-independent
+ *     ({@link #normalize(String)}) and to bind it back to a concrete method
+ *     ({@link #restore(String)}). Fragments are rewritten as XML nodes, not as text,
+ *     so they don't depend on how the XML is serialized.
+ * </p>
+ * <p>
+ *     Only references are replaced: operands of instructions that refer to classes and
+ *     members, 'base' and 'name' attributes of a fragment and its data elements.
+ *     A reference is replaced only as a whole class name, so 'org/first/AB' is kept
+ *     intact when the owner is 'org/first/A'. String constants are never rewritten,
+ *     that is why methods with constants that mention the owner are not memoizable.
+ * </p>
+ * @since 0.5
+ */
+final class NormalizedMethod {
+
+    /**
+     * Placeholder for the owner internal name.
+     */
+    private static final String OWNER = "opeo/Owner";
+
+    /**
+     * Placeholder for the owner class name (with dots).
+     */
+    private static final String DOTTED = "opeo.Owner";
+
+    /**
+     * Placeholder for the owner name that is used in typed names.
+     */
+    private static final String UNDERSCORED = "opeo_Owner";
+
+    /**
+     * Placeholder for the owner class name with 'j$' prefix.
+     */
+    private static final String PREFIXED = "opeo.j$Owner";
+
+    /**
+     * Prefix of label placeholders.
+     */
+    private static final String LABEL = "#opeo-label-";
+
+    /**
+     * Attributes of a fragment that might refer to the owner.
+     */
+    private static final String[] ATTRIBUTES = {"base", "name"};
+
+    /**
+     * Method access modifiers.
+     */
+    private final int access;
+
+    /**
+     * Method descriptor.
+     */
+    private final String descriptor;
+
+    /**
+     * Owner internal name.
+     */
+    private final String owner;
+
+    /**
+     * Method instructions.
+     */
+    private final Instruction[] instructions;
+
+    /**
+     * All label identifiers in the order of appearance, computed once.
+     */
+    private final Unchecked<List<String>> labels;
+
+    /**
+     * Normalized text of the method, computed once.
+     */
+    private final Unchecked<String> text;
+
+    /**
+     * Constructor.
+     * @param access Method access modifiers.
+     * @param descriptor Method descriptor.
+     * @param clazz Owner class descriptor.
+     * @param instructions Method instructions.
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    NormalizedMethod(
+        final int access,
+        final String descriptor,
+        final String clazz,
+        final Instruction... instructions
+    ) {
+        this.access = access;
+        this.descriptor = descriptor;
+        this.owner = Type.getType(clazz).getInternalName();
+        this.instructions = instructions.clone();
+        this.labels = new Unchecked<>(new Sticky<>(this::identifiers));
+        this.text = new Unchecked<>(new Sticky<>(this::normalized));
+    }
+
+    /**
+     * Can we safely reuse decompilation results for this method?
+     * We can't do it if the owner name is too short to be found unambiguously
+     * in a decompiled fragment, if some other class name in the method body
+     * might be confused with the owner, if the method refers to nested classes of the
+     * owner, or if its constants mention the owner or the placeholders.
+     * @return True if the method can be memoized.
+     */
+    boolean memoizable() {
+        final String norm = this.text.value();
+        boolean res = this.owner.indexOf('/') > 0
+            && !norm.contains(String.format("%s$", this.owner))
+            && !norm.replace('/', '.').contains(this.dotted())
+            && !norm.replace('/', '_').replace('.', '_').contains(this.underscored());
+        for (final Instruction instruction : this.instructions) {
+            for (final Object operand : instruction.operands()) {
+                if (res && NormalizedMethod.literal(instruction, operand)) {
+                    res = this.foreign(NormalizedMethod.plain(operand));
+                }
+            }
+        }
+        return res;
+    }
+
+    /**
+     * Content-addressed key of the method.
+     * @return SHA-256 hash of the normalized method body.
+     */
+    String key() {
+        return new Sha256(this.text.value()).value();
+    }
+
+    /**
+     * Replace all the method-specific references in the decompiled fragment with placeholders.
+     * @param fragment Decompiled fragment of the method.
+     * @return Owner-independent fragment.
+     */
+    String normalize(final String fragment) {
+        final Map<String, String> names = new LinkedHashMap<>(0);
+        final List<String> all = this.labels.value();
+        for (int index = 0; index < all.size(); ++index) {
+            names.put(all.get(index), NormalizedMethod.label(index));
+        }
+        final Node root = NormalizedMethod.root(fragment);
+        NormalizedMethod.rebind(root, names, this.forms());
+        return new XMLDocument(root).toString();
+    }
+
+    /**
+     * Bind owner-independent fragment to the current method.
+     * @param fragment Owner-independent fragment.
+     * @return Decompiled fragment of the method.
+     */
+    XmlNode restore(final String fragment) {
+        final Map<String, String> names = new LinkedHashMap<>(0);
+        final List<String> all = this.labels.value();
+        for (int index = 0; index < all.size(); ++index) {
+            names.put(NormalizedMethod.label(index), all.get(index));
+        }
+        final Map<String, String> forms = new LinkedHashMap<>(0);
+        for (final Map.Entry<String, String> entry : this.forms().entrySet()) {
+            forms.put(entry.getValue(), entry.getKey());
+        }
+        final Node root = NormalizedMethod.root(fragment);
+        NormalizedMethod.rebind(root, names, forms);
+        return new XmlNode(root);
+    }
+
+    /**
+     * Normalized text of the method.
+     * @return Text with all the method-specific references replaced.
+     */
+    private String normalized() {
+        final StringBuilder res = new StringBuilder(0)
+            .append(this.access)
+            .append('|')
+            .append(NormalizedMethod.references(this.descriptor, this.forms()));
+        final List<String> all = this.labels.value();
+        for (final Instruction instruction : this.instructions) {
+            res.append('|').append(instruction.opcode());
+            for (final Object operand : instruction.operands()) {
+                res.append(',').append(this.operand(instruction, operand, all));
+            }
+        }
+        return res.toString();
+    }
+
+    /**
+     * All label identifiers in the order of appearance.
+     * @return Label identifiers.
+     */
+    private List<String> identifiers() {
+        final List<String> res = new ArrayList<>(0);
+        for (final Instruction instruction : this.instructions) {
+            for (final Object operand : NormalizedMethod.operands(instruction)) {
+                final String uid;
+                if (operand instanceof Label) {
+                    uid = new AllLabels().uid((Label) operand);
+                } else {
+                    uid = operand.toString();
+                }
+                if (!res.contains(uid)) {
+                    res.add(uid);
+                }
+            }
+        }
+        return res;
+    }
+
+    /**
+     * All the forms of the owner name with their placeholders.
+     * @return Map from owner names to placeholders.
+     */
+    private Map<String, String> forms() {
+        final Map<String, String> res = new LinkedHashMap<>(0);
+        res.put(this.owner, NormalizedMethod.OWNER);
+        res.put(this.dotted(), NormalizedMethod.DOTTED);
+        res.put(this.underscored(), NormalizedMethod.UNDERSCORED);
+        res.put(new PrefixedName(this.dotted()).withPrefix(), NormalizedMethod.PREFIXED);
+        return res;
+    }
+
+    /**
+     * Normalized operand.
+     * @param instruction Instruction of the operand.
+     * @param operand Operand.
+     * @param all All label identifiers of the method.
+     * @return Operand text.
+     */
+    private String operand(
+        final Instruction instruction, final Object operand, final List<String> all
+    ) {
+        final String res;
+        if (operand == null) {
+            res = "null";
+        } else if (operand instanceof Label) {
+            res = NormalizedMethod.label(all.indexOf(new AllLabels().uid((Label) operand)));
+        } else if (all.contains(operand.toString())) {
+            res = NormalizedMethod.label(all.indexOf(operand.toString()));
+        } else if (NormalizedMethod.literal(instruction, operand)) {
+            res = String.format(
+                "%s:%s", operand.getClass().getSimpleName(), NormalizedMethod.plain(operand)
+            );
+        } else {
+            res = String.format(
+                "%s:%s",
+                operand.getClass().getSimpleName(),
+                NormalizedMethod.references(NormalizedMethod.plain(operand), this.forms())
+            );
+        }
+        return res;
+    }
+
+    /**
+     * Whether the text doesn't mention the owner or the placeholders.
+     * @param literal Text of a constant.
+     * @return True if the text can't be confused with a reference.
+     */
+    private boolean foreign(final String literal) {
+        final String unified = literal.replace('/', '_').replace('.', '_');
+        return !unified.contains(this.underscored())
+            && !unified.contains(NormalizedMethod.UNDERSCORED)
+            && !unified.contains("j$Owner")
+            && !literal.contains(NormalizedMethod.LABEL);
+    }
+
+    /**
+     * Owner class name with dots.
+     * @return Class name.
+     */
+    private String dotted() {
+        return this.owner.replace('/', '.');
+    }
+
+    /**
+     * Owner class name as it is used in typed names.
+     * @return Class name with underscores.
+     */
+    private String underscored() {
+        return this.owner.replace('/', '_');
+    }
+
+    /**
+     * Root element of a decompiled fragment.
+     * @param fragment Decompiled fragment.
+     * @return Root element.
+     */
+    private static Node root(final String fragment) {
+        return ((Document) new XMLDocument(fragment).node()).getDocumentElement();
+    }
+
+    /**
+     * Replace references in a decompiled fragment, in place.
+     * Only 'base' and 'name' attributes and data elements are touched. A data element
+     * that is a label identifier is replaced as a whole.
+     * @param node Element of the fragment.
+     * @param names Label replacements.
+     * @param forms Owner name replacements.
+     */
+    private static void rebind(
+        final Node node, final Map<String, String> names, final Map<String, String> forms
+    ) {
+        final Element element = (Element) node;
+        for (final String attribute : NormalizedMethod.ATTRIBUTES) {
+            if (element.hasAttribute(attribute)) {
+                final String value = element.getAttribute(attribute);
+                final String replaced = NormalizedMethod.references(value, forms);
+                if (!replaced.equals(value)) {
+                    element.setAttribute(attribute, replaced);
+                }
+            }
+        }
+        if (element.hasAttribute("data")
+            && NormalizedMethod.hexadecimal(element.getTextContent())) {
+            final String value = new Hex(element.getTextContent()).string();
+            final String replaced;
+            if (names.containsKey(value)) {
+                replaced = names.get(value);
+            } else {
+                replaced = NormalizedMethod.references(value, forms);
+            }
+            if (!replaced.equals(value)) {
+                element.setTextContent(NormalizedMethod.hex(replaced));
+            }
+        }
+        final NodeList children = element.getChildNodes();
+        for (int idx = 0; idx < children.getLength(); ++idx) {
+            final Node child = children.item(idx);
+            if (child.getNodeType() == Node.ELEMENT_NODE) {
+                NormalizedMethod.rebind(child, names, forms);
+            }
+        }
+    }
+
+    /**
+     * Replace whole class names in a text.
+     * Internal names might be a part of a descriptor, like 'Lorg/first/A;', and
+     * underscored names are a part of typed names, like '.org_first_A$get'.
+     * @param text Text where to replace.
+     * @param forms Class name replacements.
+     * @return Text after replacement.
+     */
+    private static String references(final String text, final Map<String, String> forms) {
+        String res = text;
+        for (final Map.Entry<String, String> entry : forms.entrySet()) {
+            res = NormalizedMethod.replaced(res, entry.getKey(), entry.getValue());
+        }
+        return res;
+    }
+
+    /**
+     * Replace all the whole occurrences of a class name in a text.
+     * @param text Text where to replace.
+     * @param name Class name.
+     * @param replacement Replacement.
+     * @return Text after replacement.
+     */
+    private static String replaced(
+        final String text, final String name, final String replacement
+    ) {
+        int found = text.indexOf(name);
+        final String res;
+        if (found < 0) {
+            res = text;
+        } else {
+            final StringBuilder out = new StringBuilder(text.length());
+            int from = 0;
+            while (found >= 0) {
+                if (NormalizedMethod.whole(text, name, found)) {
+                    out.append(text, from, found).append(replacement);
+                    from = found + name.length();
+                    found = text.indexOf(name, from);
+                } else {
+                    found = text.indexOf(name, found + 1);
+                }
+            }
+            res = out.append(text, from, text.length()).toString();
+        }
+        return res;
+    }
+
+    /**
+     * Whether the class name found in a text is a whole reference.
+     * Internal names might follow the 'L' of a descriptor, underscored names might
+     * follow the '.' of a typed name and must be followed by '$' or '@'.
+     * @param text Text.
+     * @param name Class name.
+     * @param start Position of the name in the text.
+     * @return True if it's a whole reference.
+     */
+    private static boolean whole(final String text, final String name, final int start) {
+        final int end = start + name.length();
+        final char next;
+        if (end < text.length()) {
+            next = text.charAt(end);
+        } else {
+            next = 0;
+        }
+        final boolean res;
+        if (name.indexOf('/') >= 0) {
+            res = (NormalizedMethod.starts(text, start)
+                || NormalizedMethod.follows(text, start, 'L'))
+                && !NormalizedMethod.part(next, "$/");
+        } else if (name.indexOf('_') >= 0 && name.indexOf('.') < 0) {
+            res = (NormalizedMethod.starts(text, start)
+                || NormalizedMethod.follows(text, start, '.'))
+                && (next == '$' || next == '@');
+        } else if (name.contains("j$")) {
+            res = NormalizedMethod.starts(text, start) && !NormalizedMethod.part(next, "$/");
+        } else {
+            res = NormalizedMethod.starts(text, start) && !NormalizedMethod.part(next, "$/.");
+        }
+        return res;
+    }
+
+    /**
+     * Whether a class name can start at the position, i.e. it's not a part of
+     * another name.
+     * @param text Text.
+     * @param start Position.
+     * @return True if a class name can start here.
+     */
+    private static boolean starts(final String text, final int start) {
+        return start == 0 || !NormalizedMethod.part(text.charAt(start - 1), "$/.");
+    }
+
+    /**
+     * Whether the position follows a single prefix character that starts a name,
+     * like 'L' of a descriptor.
+     * @param text Text.
+     * @param start Position.
+     * @param prefix Prefix character.
+     * @return True if the prefix is right before the position.
+     */
+    private static boolean follows(final String text, final int start, final char prefix) {
+        return start > 0 && text.charAt(start - 1) == prefix
+            && NormalizedMethod.starts(text, start - 1);
+    }
+
+    /**
+     * Whether the character continues a class name.
+     * @param chr Character, zero at the end of the text.
+     * @param extra Characters that continue a name besides letters, digits and '_'.
+     * @return True if it's a part of a name.
+     */
+    private static boolean part(final char chr, final String extra) {
+        return chr >= 'a' && chr <= 'z' || chr >= 'A' && chr <= 'Z'
+            || chr >= '0' && chr <= '9' || chr == '_'
+            || chr != 0 && extra.indexOf(chr) >= 0;
+    }
+
+    /**
+     * Whether the text is a non-empty sequence of hex digits and spaces.
+     * @param text Text.
+     * @return True if it's hex data.
+     */
+    private static boolean hexadecimal(final String text) {
+        boolean res = !text.trim().isEmpty();
+        for (int idx = 0; res && idx < text.length(); ++idx) {
+            final char chr = text.charAt(idx);
+            res = Character.isWhitespace(chr) || Character.digit(chr, 16) >= 0;
+        }
+        return res;
+    }
+
+    /**
+     * Operands of an instruction that refer to labels.
+     * @param instruction Instruction.
+     * @return Label operands.
+     */
+    private static List<Object> operands(final Instruction instruction) {
+        final List<Object> res = new ArrayList<>(0);
+        if (instruction.opcode() == LabelInstruction.LABEL_OPCODE) {
+            res.add(instruction.operand(0));
+        } else {
+            for (final Object operand : instruction.operands()) {
+                if (operand instanceof Label) {
+                    res.add(operand);
+                }
+            }
+        }
+        return res;
+    }
+
+    /**
+     * Whether the operand is a constant rather than a reference.
+     * String constants of 'ldc' and all the string and bootstrap arguments of
+     * 'invokedynamic' are constants.
+     * @param instruction Instruction of the operand.
+     * @param operand Operand.
+     * @return True if the operand is a constant.
+     */
+    private static boolean literal(final Instruction instruction, final Object operand) {
+        final int opcode = instruction.opcode();
+        return (opcode == Opcodes.LDC || opcode == Opcodes.INVOKEDYNAMIC)
+            && (operand instanceof String || operand instanceof Object[]);
+    }
+
+    /**
+     * Plain text of an operand.
+     * @param operand Operand.
+     * @return Text.
+     */
+    private static String plain(final Object operand) {
+        final String res;
+        if (operand instanceof Object[]) {
+            res = Arrays.deepToString((Object[]) operand);
+        } else {
+            res = String.valueOf(operand);
+        }
+        return res;
+    }
+
+    /**
+     * Label placeholder.
+     * @param index Label index.
+     * @return Placeholder.
+     */
+    private static String label(final int index) {
+        return String.format("%s%d#", NormalizedMethod.LABEL, index);
+    }
+
+    /**
+     * Hex representation of a string as XMIR keeps it.
+     * @param text Text.
+     * @return Hex string.
+     */
+    private static String hex(final String text) {
+        final byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+        final StringBuilder res = new StringBuilder(bytes.length * 3);
+        for (final byte part : bytes) {
+            if (res.length() > 0) {
+                res.append(' ');
+            }
+            res.append(String.format("%02X", part));
+        }
+        return res.toString();
+    }
+}
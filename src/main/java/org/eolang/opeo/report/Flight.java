@@ -0,0 +1,66 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2023 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.opeo.report;
+
+/**
+ * Java Flight Recorder event of a plugin phase.
+ * <p>
+ *     This is the version for JVMs without Flight Recorder API, it does nothing.
+ *     The jar of the plugin is a multi-release jar, so on Java 11 and newer
+ *     the version from 'src/main/java11' is used instead, which emits
+ *     'jdk.jfr.Event's. Run the build with '-XX:StartFlightRecording' to see them.
+ * </p>
+ * <p>
+ *     Usage:
+ *     <pre>{@code
+ *     final Flight flight = new Flight(Phase.DECOMPILE, "org/eolang/Main", "main()V");
+ *     ...
+ *     flight.commit(instructions);
+ *     }</pre>
+ * </p>
+ * @since 0.5
+ */
+public final class Flight {
+
+    /**
+     * Constructor.
+     * Starts the event.
+     * @param phase Phase of the plugin run.
+     * @param clazz Class name.
+     * @param method Method name.
+     */
+    @SuppressWarnings("PMD.UnusedFormalParameter")
+    public Flight(final Phase phase, final String clazz, final String method) {
+        // Flight Recorder is not available.
+    }
+
+    /**
+     * Finish and commit the event.
+     * @param instructions Number of handled instructions.
+     */
+    @SuppressWarnings("PMD.UnusedFormalParameter")
+    public void commit(final int instructions) {
+        // Flight Recorder is not available.
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2023 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.opeo.report;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+/**
+ * Meter of a task on the current thread.
+ * <p>
+ *     Remembers the time and the bytes allocated by the current thread when the task
+ *     starts, so it must be read on the same thread when the task ends. Allocation is
+ *     counted per task, so parallel tasks don't count each other's garbage and threads
+ *     that finish before the report is saved are not lost.
+ * </p>
+ * <p>
+ *     Usage:
+ *     <pre>{@code
+ *     final Meter meter = new Meter();
+ *     ...
+ *     report.file("org/eolang/Main.xmir", meter);
+ *     }</pre>
+ * </p>
+ * @since 0.5
+ */
+public final class Meter {
+
+    /**
+     * When the task started, in nanoseconds.
+     */
+    private final long start;
+
+    /**
+     * Bytes allocated by the current thread when the task started.
+     */
+    private final long before;
+
+    /**
+     * Constructor.
+     * Starts the measurement on the current thread.
+     */
+    public Meter() {
+        this.start = System.nanoTime();
+        this.before = Meter.current();
+    }
+
+    /**
+     * Time since the task started.
+     * @return Time in nanoseconds.
+     */
+    public long nanos() {
+        return System.nanoTime() - this.start;
+    }
+
+    /**
+     * Bytes allocated by the current thread since the task started.
+     * @return Allocated bytes or zero if the JVM doesn't support allocation measurement.
+     */
+    public long allocated() {
+        return Math.max(Meter.current() - this.before, 0L);
+    }
+
+    /**
+     * Bytes allocated by the current thread during its life.
+     * @return Allocated bytes or zero if the JVM doesn't support allocation measurement.
+     */
+    private static long current() {
+        final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        long result = 0L;
+        if (threads instanceof com.sun.management.ThreadMXBean) {
+            final com.sun.management.ThreadMXBean bean =
+                (com.sun.management.ThreadMXBean) threads;
+            if (bean.isThreadAllocatedMemorySupported() && bean.isThreadAllocatedMemoryEnabled()) {
+                result = Math.max(
+                    bean.getThreadAllocatedBytes(Thread.currentThread().getId()), 0L
+                );
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2023 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.opeo.report;
+
+/**
+ * Phase of the plugin run recorded by {@link Flight}.
+ *
+ * @since 0.5
+ */
+public enum Phase {
+
+    /**
+     * Reading and parsing of an XMIR file.
+     */
+    READ,
+
+    /**
+     * Decompilation of a single method.
+     */
+    DECOMPILE,
+
+    /**
+     * Handling of all the instructions of a method by decompilation agents.
+     */
+    AGENTS,
+
+    /**
+     * Removing of aliases from a decompiled XMIR.
+     */
+    PRUNE,
+
+    /**
+     * Compilation of a single method.
+     */
+    COMPILE,
+
+    /**
+     * Saving of an XMIR file.
+     */
+    SAVE
+}
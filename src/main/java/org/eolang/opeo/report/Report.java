@@ -0,0 +1,537 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2023 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.opeo.report;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Queue;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Performance report of a single plugin run.
+ * <p>
+ *     Collects wall time of each stage (parse, decompile, prune, serialize, write),
+ *     per-file timings, the slowest methods, instruction counts, bytes read and written,
+ *     skipped and failed files, allocated bytes and peak heap usage. It's safe to share the report
+ *     between parallel threads.
+ * </p>
+ * <p>
+ *     Allocated bytes are counted per file by the thread that processes the file, see
+ *     {@link Meter}, so the work done outside files, like walking the folders, isn't counted.
+ *     Heap usage is sampled after each file, so the peak is the highest of these samples.
+ * </p>
+ * <p>
+ *     The report is saved as JSON. Each goal saves its own section, so reports of
+ *     'decompile' and 'compile' goals of the same build end up in the same file,
+ *     while sections of earlier builds are dropped.
+ * </p>
+ * @since 0.5
+ */
+@SuppressWarnings("PMD.TooManyMethods")
+public final class Report {
+
+    /**
+     * How many slowest methods we keep.
+     */
+    private static final int SLOWEST = 20;
+
+    /**
+     * When the run started, in nanoseconds.
+     */
+    private final long start;
+
+    /**
+     * Bytes allocated while processing files.
+     */
+    private final LongAdder allocated;
+
+    /**
+     * The highest heap usage sampled after each file.
+     */
+    private final LongAccumulator heap;
+
+    /**
+     * Cumulative time of each stage in nanoseconds.
+     */
+    private final Map<String, LongAdder> stages;
+
+    /**
+     * Time of each file.
+     */
+    private final Queue<Timing> files;
+
+    /**
+     * The slowest methods, the fastest of them is on top.
+     */
+    private final PriorityQueue<Timing> methods;
+
+    /**
+     * Number of methods.
+     */
+    private final LongAdder total;
+
+    /**
+     * Number of instructions in all the methods.
+     */
+    private final LongAdder instructions;
+
+    /**
+     * Bytes read.
+     */
+    private final LongAdder read;
+
+    /**
+     * Bytes written.
+     */
+    private final LongAdder written;
+
+    /**
+     * Number of skipped files.
+     */
+    private final LongAdder skipped;
+
+    /**
+     * Number of failed files.
+     */
+    private final LongAdder failed;
+
+    /**
+     * Number of files excluded by filters and passed through as is.
+     */
+    private final LongAdder excluded;
+
+    /**
+     * Reachability of classes from the entry points, if it was computed.
+     */
+    private final Map<String, Long> reachability;
+
+    /**
+     * Constructor.
+     */
+    public Report() {
+        this.start = System.nanoTime();
+        this.allocated = new LongAdder();
+        this.heap = new LongAccumulator(Math::max, 0L);
+        this.stages = new ConcurrentHashMap<>(0);
+        this.files = new ConcurrentLinkedQueue<>();
+        this.methods = new PriorityQueue<>(
+            Report.SLOWEST + 1, Comparator.comparingLong(Timing::nanos)
+        );
+        this.total = new LongAdder();
+        this.instructions = new LongAdder();
+        this.read = new LongAdder();
+        this.written = new LongAdder();
+        this.skipped = new LongAdder();
+        this.failed = new LongAdder();
+        this.excluded = new LongAdder();
+        this.reachability = new ConcurrentHashMap<>(0);
+    }
+
+    /**
+     * Run the action and add its time to the stage.
+     * @param stage Stage name.
+     * @param action Action.
+     * @param <T> Result type.
+     * @return Result of the action.
+     */
+    public <T> T stage(final String stage, final Supplier<? extends T> action) {
+        final long begin = System.nanoTime();
+        try {
+            return action.get();
+        } finally {
+            this.stage(stage, System.nanoTime() - begin);
+        }
+    }
+
+    /**
+     * Add time to the stage.
+     * @param stage Stage name.
+     * @param nanos Time in nanoseconds.
+     */
+    public void stage(final String stage, final long nanos) {
+        this.stages.computeIfAbsent(stage, key -> new LongAdder()).add(nanos);
+    }
+
+    /**
+     * Record the time spent on one file.
+     * @param name File name.
+     * @param nanos Time in nanoseconds.
+     */
+    public void file(final String name, final long nanos) {
+        this.files.add(new Timing(name, nanos, 0));
+    }
+
+    /**
+     * Record the time and memory spent on one file.
+     * @param name File name.
+     * @param meter Meter started by the same thread when the file was taken.
+     */
+    public void file(final String name, final Meter meter) {
+        this.file(name, meter.nanos());
+        this.allocated.add(meter.allocated());
+        this.heap.accumulate(Report.heap());
+    }
+
+    /**
+     * Record the time spent on one method.
+     * @param name Method name.
+     * @param nanos Time in nanoseconds.
+     * @param size Number of method instructions.
+     */
+    public void method(final String name, final long nanos, final int size) {
+        this.total.increment();
+        this.instructions.add(size);
+        synchronized (this.methods) {
+            this.methods.add(new Timing(name, nanos, size));
+            if (this.methods.size() > Report.SLOWEST) {
+                this.methods.poll();
+            }
+        }
+    }
+
+    /**
+     * Record read bytes.
+     * @param bytes Number of bytes.
+     */
+    public void read(final long bytes) {
+        this.read.add(bytes);
+    }
+
+    /**
+     * Record written bytes.
+     * @param bytes Number of bytes.
+     */
+    public void written(final long bytes) {
+        this.written.add(bytes);
+    }
+
+    /**
+     * Record skipped file.
+     */
+    public void skipped() {
+        this.skipped.increment();
+    }
+
+    /**
+     * Record failed file.
+     */
+    public void failed() {
+        this.failed.increment();
+    }
+
+    /**
+     * Record file excluded by filters.
+     */
+    public void excluded() {
+        this.excluded.increment();
+    }
+
+    /**
+     * Record reachability of classes.
+     * @param classes Number of all the classes.
+     * @param roots Number of root classes.
+     * @param reachable Number of classes reachable from the roots.
+     */
+    public void reachability(final long classes, final long roots, final long reachable) {
+        this.reachability.put("classes", classes);
+        this.reachability.put("roots", roots);
+        this.reachability.put("reachable", reachable);
+    }
+
+    /**
+     * Number of failed files.
+     * @return Number of files that failed.
+     */
+    long failures() {
+        return this.failed.sum();
+    }
+
+    /**
+     * Save the report.
+     * The section of the goal is saved next to the report, then the report is
+     * assembled from the sections of all the goals of the same build. Sections of
+     * earlier builds are removed, so a goal that didn't run in this build doesn't
+     * show up in the report.
+     * @param file Report file, like 'target/opeo-report.json'.
+     * @param goal Goal name, like 'decompile'.
+     * @param build Build identifier, the same for all the goals of one build.
+     */
+    public void save(final Path file, final String goal, final String build) {
+        final Path sections = file.resolveSibling(
+            String.format("%s.d", file.getFileName().toString())
+        );
+        final Path current = sections.resolve(build);
+        try {
+            Files.createDirectories(current);
+            Report.stale(sections, current);
+            Files.write(
+                current.resolve(String.format("%s.json", goal)),
+                this.json().getBytes(StandardCharsets.UTF_8)
+            );
+            final StringBuilder all = new StringBuilder("{\n");
+            try (Stream<Path> each = Files.list(current)) {
+                final List<Path> parts = each.filter(path -> path.toString().endsWith(".json"))
+                    .sorted()
+                    .collect(Collectors.toList());
+                for (int idx = 0; idx < parts.size(); ++idx) {
+                    if (idx > 0) {
+                        all.append(",\n");
+                    }
+                    final String name = parts.get(idx).getFileName().toString();
+                    all.append(Report.quoted(name.substring(0, name.length() - 5)))
+                        .append(": ")
+                        .append(
+                            new String(Files.readAllBytes(parts.get(idx)), StandardCharsets.UTF_8)
+                        );
+                }
+            }
+            all.append("\n}\n");
+            Files.write(file, all.toString().getBytes(StandardCharsets.UTF_8));
+        } catch (final IOException exception) {
+            throw new IllegalStateException(
+                String.format("Can't save the performance report to '%s'", file),
+                exception
+            );
+        }
+    }
+
+    /**
+     * Report as JSON object.
+     * @return JSON.
+     */
+    public String json() {
+        final Map<String, Long> millis = new TreeMap<>();
+        this.stages.forEach((stage, nanos) -> millis.put(stage, Report.millis(nanos.sum())));
+        final List<Timing> slowest;
+        synchronized (this.methods) {
+            slowest = new ArrayList<>(this.methods);
+        }
+        slowest.sort(Comparator.comparingLong(Timing::nanos).reversed());
+        final List<Timing> all = new ArrayList<>(this.files);
+        all.sort(Comparator.comparingLong(Timing::nanos).reversed());
+        return String.join(
+            "\n",
+            "{",
+            String.format("  \"total_ms\": %d,", Report.millis(System.nanoTime() - this.start)),
+            String.format("  \"stages_ms\": %s,", Report.object(millis)),
+            String.format(
+                "  \"files\": {\"total\": %d, \"skipped\": %d, \"failed\": %d, \"excluded\": %d},",
+                all.size(),
+                this.skipped.sum(),
+                this.failed.sum(),
+                this.excluded.sum()
+            ),
+            String.format(
+                "  \"methods\": {\"total\": %d, \"instructions\": %d},",
+                this.total.sum(),
+                this.instructions.sum()
+            ),
+            String.format(
+                "  \"bytes\": {\"read\": %d, \"written\": %d},",
+                this.read.sum(),
+                this.written.sum()
+            ),
+            String.format("  \"allocated_bytes\": %d,", this.allocated.sum()),
+            String.format(
+                "  \"peak_heap_bytes\": %d,", Math.max(this.heap.get(), Report.heap())
+            ),
+            String.format(
+                "  \"reachability\": %s,", Report.object(new TreeMap<>(this.reachability))
+            ),
+            String.format("  \"slowest_methods\": %s,", Report.array(slowest)),
+            String.format("  \"per_file\": %s", Report.array(all)),
+            "}"
+        );
+    }
+
+    /**
+     * Current heap usage.
+     * @return Bytes used by all heap memory pools at the same moment.
+     */
+    private static long heap() {
+        return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+    }
+
+    /**
+     * JSON object from stage timings.
+     * @param values Stage timings.
+     * @return JSON object.
+     */
+    private static String object(final Map<String, Long> values) {
+        return values.entrySet().stream()
+            .map(entry -> String.format("%s: %d", Report.quoted(entry.getKey()), entry.getValue()))
+            .collect(Collectors.joining(", ", "{", "}"));
+    }
+
+    /**
+     * JSON array from timings.
+     * @param timings Timings.
+     * @return JSON array.
+     */
+    private static String array(final List<Timing> timings) {
+        final String result;
+        if (timings.isEmpty()) {
+            result = "[]";
+        } else {
+            result = timings.stream()
+                .map(Timing::json)
+                .collect(Collectors.joining(",\n    ", "[\n    ", "\n  ]"));
+        }
+        return result;
+    }
+
+    /**
+     * Convert nanoseconds to milliseconds.
+     * @param nanos Nanoseconds.
+     * @return Milliseconds.
+     */
+    private static long millis(final long nanos) {
+        return TimeUnit.NANOSECONDS.toMillis(nanos);
+    }
+
+    /**
+     * Remove sections of earlier builds.
+     * @param sections Folder with sections of all the builds.
+     * @param current Folder with sections of the current build.
+     * @throws IOException If fails.
+     */
+    private static void stale(final Path sections, final Path current) throws IOException {
+        final List<Path> old;
+        try (Stream<Path> each = Files.list(sections)) {
+            old = each.filter(path -> !path.equals(current)).collect(Collectors.toList());
+        }
+        for (final Path path : old) {
+            final List<Path> files;
+            try (Stream<Path> all = Files.walk(path)) {
+                files = all.sorted(Comparator.reverseOrder()).collect(Collectors.toList());
+            }
+            for (final Path file : files) {
+                Files.deleteIfExists(file);
+            }
+        }
+    }
+
+    /**
+     * Quoted JSON string.
+     * @param text Text.
+     * @return JSON string.
+     */
+    static String quoted(final String text) {
+        final StringBuilder result = new StringBuilder(text.length() + 2).append('"');
+        for (final char chr : text.toCharArray()) {
+            if (chr == '"' || chr == '\\') {
+                result.append('\\').append(chr);
+            } else if (chr < ' ') {
+                result.append(String.format("\\u%04x", (int) chr));
+            } else {
+                result.append(chr);
+            }
+        }
+        return result.append('"').toString();
+    }
+
+    /**
+     * Time spent on a file or a method.
+     * @since 0.5
+     */
+    private static final class Timing {
+
+        /**
+         * File or method name.
+         */
+        private final String name;
+
+        /**
+         * Time in nanoseconds.
+         */
+        private final long time;
+
+        /**
+         * Number of instructions.
+         */
+        private final int size;
+
+        /**
+         * Constructor.
+         * @param name File or method name.
+         * @param time Time in nanoseconds.
+         * @param size Number of instructions.
+         */
+        Timing(final String name, final long time, final int size) {
+            this.name = name;
+            this.time = time;
+            this.size = size;
+        }
+
+        /**
+         * Time in nanoseconds.
+         * @return Nanoseconds.
+         */
+        long nanos() {
+            return this.time;
+        }
+
+        /**
+         * Timing as JSON object.
+         * @return JSON.
+         */
+        String json() {
+            final String result;
+            if (this.size > 0) {
+                result = String.format(
+                    Locale.ROOT,
+                    "{\"name\": %s, \"ms\": %.3f, \"instructions\": %d}",
+                    Report.quoted(this.name),
+                    this.time / 1_000_000.0,
+                    this.size
+                );
+            } else {
+                result = String.format(
+                    Locale.ROOT,
+                    "{\"name\": %s, \"ms\": %.3f}",
+                    Report.quoted(this.name),
+                    this.time / 1_000_000.0
+                );
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,158 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2023 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.opeo.report;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+/**
+ * Summary of a batch run over many input roots.
+ * <p>
+ *     Keeps the result of each root: its performance {@link Report}, or the error
+ *     that stopped it. The run is successful only if all the roots are processed
+ *     and no file failed. It's safe to share the summary between parallel threads.
+ * </p>
+ * @since 0.5
+ */
+public final class Summary {
+
+    /**
+     * Goal name.
+     */
+    private final String goal;
+
+    /**
+     * When the run started, in nanoseconds.
+     */
+    private final long start;
+
+    /**
+     * JSON objects of all the roots.
+     */
+    private final Queue<String> roots;
+
+    /**
+     * Whether all the roots succeeded.
+     */
+    private final AtomicBoolean success;
+
+    /**
+     * Constructor.
+     * @param goal Goal name.
+     */
+    public Summary(final String goal) {
+        this.goal = goal;
+        this.start = System.nanoTime();
+        this.roots = new ConcurrentLinkedQueue<>();
+        this.success = new AtomicBoolean(true);
+    }
+
+    /**
+     * Record a processed root.
+     * @param sources Input root.
+     * @param output Output root.
+     * @param report Performance report of the root.
+     */
+    public void processed(final String sources, final String output, final Report report) {
+        if (report.failures() > 0) {
+            this.success.set(false);
+        }
+        this.roots.add(
+            String.format(
+                "{\"sources\": %s, \"output\": %s, \"status\": \"%s\", \"report\": %s}",
+                Report.quoted(sources),
+                Report.quoted(output),
+                Summary.status(report.failures() == 0),
+                report.json().replace("\n", "\n    ")
+            )
+        );
+    }
+
+    /**
+     * Record a failed root.
+     * @param sources Input root.
+     * @param output Output root.
+     * @param error Error that stopped the root.
+     */
+    public void failed(final String sources, final String output, final Exception error) {
+        this.success.set(false);
+        this.roots.add(
+            String.format(
+                "{\"sources\": %s, \"output\": %s, \"status\": \"%s\", \"error\": %s}",
+                Report.quoted(sources),
+                Report.quoted(output),
+                Summary.status(false),
+                Report.quoted(String.valueOf(error))
+            )
+        );
+    }
+
+    /**
+     * Whether all the roots are processed without failures.
+     * @return True if the run is successful.
+     */
+    public boolean successful() {
+        return this.success.get();
+    }
+
+    /**
+     * Summary as JSON object.
+     * @return JSON.
+     */
+    public String json() {
+        return String.join(
+            "\n",
+            "{",
+            String.format("  \"goal\": %s,", Report.quoted(this.goal)),
+            String.format(
+                "  \"total_ms\": %d,",
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - this.start)
+            ),
+            String.format("  \"status\": \"%s\",", Summary.status(this.successful())),
+            String.format(
+                "  \"roots\": [%s]",
+                this.roots.stream().collect(Collectors.joining(",\n    ", "\n    ", "\n  "))
+            ),
+            "}"
+        );
+    }
+
+    /**
+     * Status name.
+     * @param success Whether it's successful.
+     * @return Status.
+     */
+    private static String status(final boolean success) {
+        final String result;
+        if (success) {
+            result = "ok";
+        } else {
+            result = "failed";
+        }
+        return result;
+    }
+}
@@ -29,6 +29,7 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.stream.Stream;
+import org.eolang.opeo.report.Report;
 
 /**
  * Compilation storage.
@@ -61,9 +62,33 @@ public final class CompilationStorage implements Storage {
      * @param output Path to the output directory.
      */
     public CompilationStorage(final Path xmirs, final Path output) {
+        this(xmirs, output, new Report());
+    }
+
+    /**
+     * Constructor.
+     * @param xmirs Path to the generated XMIRs by opeo-maven-plugin.
+     * @param output Path to the output directory.
+     * @param report Performance report.
+     */
+    public CompilationStorage(final Path xmirs, final Path output, final Report report) {
+        this(xmirs, output, report, new Filter());
+    }
+
+    /**
+     * Constructor.
+     * @param xmirs Path to the generated XMIRs by opeo-maven-plugin.
+     * @param output Path to the output directory.
+     * @param report Performance report.
+     * @param filter Filter of XMIR files.
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    public CompilationStorage(
+        final Path xmirs, final Path output, final Report report, final Filter filter
+    ) {
         this.xmirs = xmirs;
         this.output = output;
-        this.original = new FileStorage(xmirs, output);
+        this.original = new FileStorage(xmirs, output, report, filter);
     }
 
     @Override
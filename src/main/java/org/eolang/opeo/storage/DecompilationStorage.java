@@ -29,6 +29,7 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.stream.Stream;
+import org.eolang.opeo.report.Report;
 
 /**
  * Decompilation storage.
@@ -60,10 +61,34 @@ public final class DecompilationStorage implements Storage {
     public DecompilationStorage(
         final Path xmirs,
         final Path output
+    ) {
+        this(xmirs, output, new Report());
+    }
+
+    /**
+     * Constructor.
+     * @param xmirs Path to the generated XMIRs by jeo-maven-plugin.
+     * @param output Path to the output directory.
+     * @param report Performance report.
+     */
+    public DecompilationStorage(final Path xmirs, final Path output, final Report report) {
+        this(xmirs, output, report, new Filter());
+    }
+
+    /**
+     * Constructor.
+     * @param xmirs Path to the generated XMIRs by jeo-maven-plugin.
+     * @param output Path to the output directory.
+     * @param report Performance report.
+     * @param filter Filter of XMIR files.
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    public DecompilationStorage(
+        final Path xmirs, final Path output, final Report report, final Filter filter
     ) {
         this.xmirs = xmirs;
         this.output = output;
-        this.original = new FileStorage(xmirs, output);
+        this.original = new FileStorage(xmirs, output, report, filter);
     }
 
     @Override
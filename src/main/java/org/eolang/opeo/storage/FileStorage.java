@@ -25,11 +25,17 @@ package org.eolang.opeo.storage;
 
 import java.io.FileNotFoundException;
 import java.io.IOException;
-import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import org.eolang.opeo.report.Flight;
+import org.eolang.opeo.report.Phase;
+import org.eolang.opeo.report.Report;
 
 /**
  * File storage.
@@ -47,14 +53,50 @@ public final class FileStorage implements Storage {
      */
     private final Path output;
 
+    /**
+     * Performance report.
+     */
+    private final Report report;
+
+    /**
+     * Filter of XMIR files.
+     */
+    private final Filter filter;
+
     /**
      * Constructor.
      * @param xmirs Path to the source folder.
      * @param output Path to the output folder.
      */
     public FileStorage(final Path xmirs, final Path output) {
+        this(xmirs, output, new Report());
+    }
+
+    /**
+     * Constructor.
+     * @param xmirs Path to the source folder.
+     * @param output Path to the output folder.
+     * @param report Performance report.
+     */
+    public FileStorage(final Path xmirs, final Path output, final Report report) {
+        this(xmirs, output, report, new Filter());
+    }
+
+    /**
+     * Constructor.
+     * @param xmirs Path to the source folder.
+     * @param output Path to the output folder.
+     * @param report Performance report.
+     * @param filter Filter of XMIR files, rejected files are copied to the output as is.
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    public FileStorage(
+        final Path xmirs, final Path output, final Report report, final Filter filter
+    ) {
         this.xmirs = xmirs;
         this.output = output;
+        this.report = report;
+        this.filter = filter;
     }
 
     @Override
@@ -67,11 +109,17 @@ public final class FileStorage implements Storage {
                 )
             );
         }
-        try {
-            return Files.walk(this.xmirs)
+        try (Stream<Path> walk = Files.walk(this.xmirs)) {
+            final Map<Boolean, List<Path>> files = walk
                 .filter(Files::isRegularFile)
                 .filter(FileStorage::isXmir)
-                .map(this::entry);
+                .collect(
+                    Collectors.partitioningBy(
+                        path -> this.filter.accepts(this.xmirs.relativize(path))
+                    )
+                );
+            this.keep(files.get(false));
+            return files.get(true).stream().map(this::entry);
         } catch (final IOException exception) {
             throw new IllegalStateException(
                 String.format("Can't retrieve XMIR files from the '%s' folder", this.xmirs),
@@ -92,12 +140,16 @@ public final class FileStorage implements Storage {
     @Override
     public void save(final XmirEntry xmir) {
         final Path out = this.output.resolve(Paths.get(xmir.relative()));
+        final Flight flight = new Flight(Phase.SAVE, xmir.relative(), "");
         try {
+            final byte[] bytes = this.report.stage("serialize", xmir::bytes);
+            final long start = System.nanoTime();
             Files.createDirectories(out.getParent());
-            Files.write(
-                out,
-                xmir.toXml().toString().getBytes(StandardCharsets.UTF_8)
-            );
+            Files.deleteIfExists(out);
+            Files.write(out, bytes);
+            this.report.stage("write", System.nanoTime() - start);
+            this.report.written(bytes.length);
+            flight.commit(0);
         } catch (final IllegalArgumentException exception) {
             throw new IllegalStateException(
                 String.format(
@@ -130,15 +182,61 @@ public final class FileStorage implements Storage {
         }
     }
 
+    /**
+     * Keep files rejected by the filter.
+     * They are never parsed, each one is put into the output folder as is: as a hard link
+     * to the source file if the file system supports it, or as a copy otherwise.
+     * @param rejected Rejected files.
+     */
+    private void keep(final List<Path> rejected) {
+        for (final Path path : rejected) {
+            this.report.excluded();
+            if (!this.xmirs.equals(this.output)) {
+                final Path relative = this.xmirs.relativize(path);
+                final Path out = this.output.resolve(relative.toString());
+                try {
+                    Files.createDirectories(out.getParent());
+                    Files.deleteIfExists(out);
+                    FileStorage.link(path, out);
+                } catch (final IOException exception) {
+                    throw new IllegalStateException(
+                        String.format(
+                            "Can't copy excluded file '%s' from the '%s' folder to '%s'",
+                            relative,
+                            this.xmirs,
+                            this.output
+                        ),
+                        exception
+                    );
+                }
+            }
+        }
+    }
+
     /**
      * Read XMIR from the file.
      * @param path Path to the file
      * @return XMIR entry.
      */
     private XmirEntry entry(final Path path) {
+        this.report.read(path.toFile().length());
         return new XmirEntry(path, this.xmirs.relativize(path).toString());
     }
 
+    /**
+     * Link the file, or copy it if links aren't supported.
+     * @param source Source file.
+     * @param target Target file, which doesn't exist.
+     * @throws IOException If fails to copy.
+     */
+    private static void link(final Path source, final Path target) throws IOException {
+        try {
+            Files.createLink(target, source);
+        } catch (final IOException | UnsupportedOperationException exception) {
+            Files.copy(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
     /**
      * Check if the file is XMIR.
      * @param path Path to the file.
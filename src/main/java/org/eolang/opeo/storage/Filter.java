@@ -0,0 +1,165 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2023 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.opeo.storage;
+
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+/**
+ * Filter of XMIR files.
+ * <p>
+ *     Glob patterns of relative paths, like {@code org/eolang/**} or
+ *     {@code **&#47;shaded/**}. A file is accepted if it matches at least one include
+ *     pattern, or there are no include patterns at all, and doesn't match any
+ *     exclude pattern. The filter is applied to paths only, so rejected files are
+ *     never parsed: {@link FileStorage} links or copies them to the output as is.
+ * </p>
+ * @since 0.5
+ */
+public final class Filter {
+
+    /**
+     * Include patterns.
+     */
+    private final List<PathMatcher> includes;
+
+    /**
+     * Exclude patterns.
+     */
+    private final List<PathMatcher> excludes;
+
+    /**
+     * Constructor.
+     * Filter that accepts all the files.
+     */
+    public Filter() {
+        this("", "");
+    }
+
+    /**
+     * Constructor.
+     * @param includes Comma-separated include patterns, might be null or empty.
+     * @param excludes Comma-separated exclude patterns, might be null or empty.
+     */
+    public Filter(final String includes, final String excludes) {
+        this(Filter.split(includes), Filter.split(excludes));
+    }
+
+    /**
+     * Constructor.
+     * @param includes Include patterns.
+     * @param excludes Exclude patterns.
+     */
+    public Filter(final Collection<String> includes, final Collection<String> excludes) {
+        this(Filter.matchers(includes), Filter.matchers(excludes));
+    }
+
+    /**
+     * Constructor.
+     * @param includes Include matchers.
+     * @param excludes Exclude matchers.
+     */
+    private Filter(final List<PathMatcher> includes, final List<PathMatcher> excludes) {
+        this.includes = includes;
+        this.excludes = excludes;
+    }
+
+    /**
+     * Whether the file is accepted.
+     * @param relative Path of the file relative to the XMIR folder.
+     * @return True if the file should be processed.
+     */
+    public boolean accepts(final Path relative) {
+        return (this.includes.isEmpty() || Filter.matches(this.includes, relative))
+            && !Filter.matches(this.excludes, relative);
+    }
+
+    /**
+     * Filter that also rejects the files matched by the given matcher.
+     * @param matcher Matcher of relative paths to reject.
+     * @return New filter.
+     */
+    public Filter excluding(final PathMatcher matcher) {
+        final List<PathMatcher> more = new ArrayList<>(this.excludes);
+        more.add(matcher);
+        return new Filter(this.includes, more);
+    }
+
+    /**
+     * Whether the filter accepts all the files.
+     * @return True if there are no patterns.
+     */
+    public boolean all() {
+        return this.includes.isEmpty() && this.excludes.isEmpty();
+    }
+
+    /**
+     * Whether any of the matchers matches the path.
+     * @param matchers Matchers.
+     * @param path Path.
+     * @return True if matches.
+     */
+    private static boolean matches(final List<PathMatcher> matchers, final Path path) {
+        return matchers.stream().anyMatch(matcher -> matcher.matches(path));
+    }
+
+    /**
+     * Glob matchers.
+     * @param patterns Glob patterns.
+     * @return Matchers.
+     */
+    private static List<PathMatcher> matchers(final Collection<String> patterns) {
+        return patterns.stream()
+            .map(String::trim)
+            .filter(pattern -> !pattern.isEmpty())
+            .map(
+                pattern -> FileSystems.getDefault()
+                    .getPathMatcher(String.format("glob:%s", pattern))
+            )
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * Split comma-separated patterns.
+     * @param patterns Patterns, might be null.
+     * @return List of patterns.
+     */
+    private static List<String> split(final String patterns) {
+        final List<String> result;
+        if (Objects.isNull(patterns)) {
+            result = Collections.emptyList();
+        } else {
+            result = Arrays.asList(patterns.split(","));
+        }
+        return result;
+    }
+}
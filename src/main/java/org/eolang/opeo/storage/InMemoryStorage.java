@@ -23,13 +23,19 @@
  */
 package org.eolang.opeo.storage;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
 import java.util.List;
-import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ConcurrentLinkedDeque;
 import java.util.stream.Stream;
 
 /**
  * Storage that keeps everything in memory.
- * This storage is rather useful for unit tests.
+ * This storage is rather useful for unit tests and for embedded usage when we need to
+ * decompile or compile lots of entries without touching the file system.
+ * The storage is lock-free: each {@link #save(XmirEntry)} is a single append
+ * and {@link #all()} drains the current entries into a snapshot.
  * @since 0.2
  */
 public final class InMemoryStorage implements Storage {
@@ -37,33 +43,54 @@ public final class InMemoryStorage implements Storage {
     /**
      * Container where everything is stored.
      */
-    private final List<XmirEntry> container;
+    private final Deque<XmirEntry> container;
 
     /**
      * Constructor.
      */
     public InMemoryStorage() {
-        this(new CopyOnWriteArrayList<>());
+        this(new ConcurrentLinkedDeque<>());
+    }
+
+    /**
+     * Constructor.
+     * @param entries Initial entries of the storage.
+     *  The entries are copied, so the list isn't modified by the storage.
+     */
+    public InMemoryStorage(final List<XmirEntry> entries) {
+        this(new ConcurrentLinkedDeque<>(entries));
     }
 
     /**
      * Constructor.
      * @param container Container where everything is stored.
+     *  It must be safe for concurrent access if the storage is used from parallel streams.
      */
-    public InMemoryStorage(final List<XmirEntry> container) {
+    private InMemoryStorage(final Deque<XmirEntry> container) {
         this.container = container;
     }
 
+    /**
+     * Retrieve all entries.
+     * The entries are removed from the storage and returned as a snapshot,
+     * so the entries saved while the returned stream is consumed will be
+     * available on the next call.
+     * @return All stored entries.
+     */
     @Override
     public Stream<XmirEntry> all() {
-        final Stream<XmirEntry> stream = this.container.stream();
-        this.container.clear();
-        return stream;
+        final Collection<XmirEntry> snapshot = new ArrayList<>(0);
+        XmirEntry entry = this.container.pollFirst();
+        while (entry != null) {
+            snapshot.add(entry);
+            entry = this.container.pollFirst();
+        }
+        return snapshot.stream();
     }
 
     @Override
     public void save(final XmirEntry xmir) {
-        this.container.add(xmir);
+        this.container.addLast(xmir);
     }
 
     /**
@@ -71,10 +98,10 @@ public final class InMemoryStorage implements Storage {
      * @return The last saved entry.
      */
     public XmirEntry last() {
-        if (this.container.isEmpty()) {
+        final XmirEntry last = this.container.peekLast();
+        if (last == null) {
             throw new IllegalStateException("Storage is empty");
-        } else {
-            return this.container.get(this.container.size() - 1);
         }
+        return last;
     }
 }
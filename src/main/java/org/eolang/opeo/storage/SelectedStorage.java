@@ -0,0 +1,120 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2023 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.opeo.storage;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Storage of selected files.
+ * Retrieves only the given XMIR files instead of walking the whole folder,
+ * and saves XMIRs to the original storage. Files rejected by the filter are
+ * saved to the original storage as is, without parsing.
+ * @since 0.5
+ */
+public final class SelectedStorage implements Storage {
+
+    /**
+     * Root folder of the files, relative paths of entries are counted from it.
+     */
+    private final Path root;
+
+    /**
+     * Selected files.
+     */
+    private final Collection<Path> files;
+
+    /**
+     * Where to save XMIRs.
+     */
+    private final Storage origin;
+
+    /**
+     * Filter of XMIR files.
+     */
+    private final Filter filter;
+
+    /**
+     * Constructor.
+     * @param root Root folder of the files.
+     * @param files Selected files.
+     * @param origin Where to save XMIRs.
+     */
+    public SelectedStorage(final Path root, final Collection<Path> files, final Storage origin) {
+        this(root, files, origin, new Filter());
+    }
+
+    /**
+     * Constructor.
+     * @param root Root folder of the files.
+     * @param files Selected files.
+     * @param origin Where to save XMIRs.
+     * @param filter Filter of XMIR files, rejected files are saved as is.
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    public SelectedStorage(
+        final Path root, final Collection<Path> files, final Storage origin, final Filter filter
+    ) {
+        this.root = root;
+        this.files = new ArrayList<>(files);
+        this.origin = origin;
+        this.filter = filter;
+    }
+
+    @Override
+    public Stream<XmirEntry> all() {
+        final Map<Boolean, List<Path>> selected = this.files.stream()
+            .filter(Files::isRegularFile)
+            .filter(path -> path.toString().endsWith(".xmir"))
+            .collect(
+                Collectors.partitioningBy(
+                    path -> this.filter.accepts(this.root.relativize(path))
+                )
+            );
+        for (final Path path : selected.get(false)) {
+            this.origin.save(this.entry(path).verbatim());
+        }
+        return selected.get(true).stream().map(this::entry);
+    }
+
+    @Override
+    public void save(final XmirEntry xmir) {
+        this.origin.save(xmir);
+    }
+
+    /**
+     * Entry of the file.
+     * @param path Path to the file.
+     * @return XMIR entry.
+     */
+    private XmirEntry entry(final Path path) {
+        return new XmirEntry(path, this.root.relativize(path).toString());
+    }
+}
@@ -25,6 +25,9 @@ package org.eolang.opeo.storage;
 
 import java.util.stream.Stream;
 import org.eolang.opeo.decompilation.WithoutAliases;
+import org.eolang.opeo.report.Flight;
+import org.eolang.opeo.report.Phase;
+import org.eolang.opeo.report.Report;
 
 /**
  * Storage without aliases.
@@ -44,12 +47,27 @@ public final class WithoutAliasesStorage implements Storage {
      */
     private final Storage origin;
 
+    /**
+     * Performance report.
+     */
+    private final Report report;
+
     /**
      * Constructor.
      * @param origin Original storage.
      */
     public WithoutAliasesStorage(final Storage origin) {
+        this(origin, new Report());
+    }
+
+    /**
+     * Constructor.
+     * @param origin Original storage.
+     * @param report Performance report.
+     */
+    public WithoutAliasesStorage(final Storage origin, final Report report) {
         this.origin = origin;
+        this.report = report;
     }
 
     @Override
@@ -59,6 +77,11 @@ public final class WithoutAliasesStorage implements Storage {
 
     @Override
     public void save(final XmirEntry xmir) {
-        this.origin.save(xmir.transform(xml -> new WithoutAliases(xml).toXml()));
+        final Flight flight = new Flight(Phase.PRUNE, xmir.relative(), "");
+        final XmirEntry pruned = this.report.stage(
+            "prune", () -> xmir.transform(xml -> new WithoutAliases(xml).toXml())
+        );
+        flight.commit(0);
+        this.origin.save(pruned);
     }
 }
@@ -26,18 +26,31 @@ package org.eolang.opeo.storage;
 import com.jcabi.xml.XML;
 import com.jcabi.xml.XMLDocument;
 import java.io.FileNotFoundException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
 import java.util.List;
+import java.util.Objects;
 import java.util.function.Function;
+import java.util.zip.CRC32;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
 import org.cactoos.Input;
+import org.cactoos.bytes.BytesOf;
+import org.cactoos.bytes.UncheckedBytes;
+import org.cactoos.io.InputOf;
 import org.cactoos.scalar.Sticky;
 import org.cactoos.scalar.Synced;
 import org.cactoos.scalar.Unchecked;
+import org.eolang.opeo.report.Flight;
+import org.eolang.opeo.report.Phase;
 
 /**
  * Xmir with package.
+ * <p>
+ *     An entry read from a file or an input keeps its raw content. A {@link #verbatim()}
+ *     entry is saved with this raw content, it's never parsed and transformations
+ *     don't change it. This is how files that can't be parsed are kept as is.
+ * </p>
  * @since 0.2
  */
 @ToString
@@ -55,13 +68,24 @@ public final class XmirEntry {
      */
     private final String pckg;
 
+    /**
+     * Raw content, or null if the entry is built from XML.
+     */
+    @ToString.Exclude
+    private final Input source;
+
+    /**
+     * Whether the entry is saved with its raw content.
+     */
+    private final boolean raw;
+
     /**
      * Constructor.
      * @param path Path to XMIR.
      * @param pckg Package name.
      */
     XmirEntry(final Path path, final String pckg) {
-        this(XmirEntry.fromFile(path), pckg);
+        this(XmirEntry.fromFile(path), pckg, new InputOf(path), false);
     }
 
     /**
@@ -79,7 +103,7 @@ public final class XmirEntry {
      * @param pckg Package name.
      */
     public XmirEntry(final Input input, final String pckg) {
-        this(XmirEntry.fromInput(input), pckg);
+        this(XmirEntry.fromInput(input), pckg, input, false);
     }
 
     /**
@@ -88,17 +112,59 @@ public final class XmirEntry {
      * @param pckg Package name.
      */
     public XmirEntry(final Unchecked<XML> xml, final String pckg) {
+        this(xml, pckg, null, false);
+    }
+
+    /**
+     * Constructor.
+     * @param xml Lazy XML.
+     * @param pckg Package name.
+     * @param source Raw content, or null if there is no such.
+     * @param raw Whether the entry is saved with its raw content.
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    private XmirEntry(
+        final Unchecked<XML> xml, final String pckg, final Input source, final boolean raw
+    ) {
         this.xml = xml;
         this.pckg = pckg;
+        this.source = source;
+        this.raw = raw;
     }
 
     /**
      * Transform XMIR.
+     * A {@link #verbatim()} entry is returned unchanged, since it's never parsed.
      * @param transformer Function to transform XMIR.
      * @return Transformed XMIR.
      */
     public XmirEntry transform(final Function<? super XML, ? extends XML> transformer) {
-        return new XmirEntry(transformer.apply(this.xml.value()), this.pckg);
+        final XmirEntry result;
+        if (this.raw) {
+            result = this;
+        } else {
+            result = new XmirEntry(transformer.apply(this.xml.value()), this.pckg);
+        }
+        return result;
+    }
+
+    /**
+     * The same entry that is saved as is, without parsing.
+     * @return Verbatim entry.
+     */
+    public XmirEntry verbatim() {
+        return new XmirEntry(this.xml, this.pckg, this.source, Objects.nonNull(this.source));
+    }
+
+    /**
+     * Checksum of the content.
+     * It's computed from the raw content, so the entry isn't parsed.
+     * @return CRC32 checksum in hex.
+     */
+    public String checksum() {
+        final CRC32 crc = new CRC32();
+        crc.update(this.content());
+        return Long.toHexString(crc.getValue());
     }
 
     /**
@@ -126,6 +192,34 @@ public final class XmirEntry {
         return this.xml.value();
     }
 
+    /**
+     * Content to save.
+     * @return Raw content of a verbatim entry or serialized XML otherwise.
+     */
+    byte[] bytes() {
+        final byte[] result;
+        if (this.raw) {
+            result = this.content();
+        } else {
+            result = this.xml.value().toString().getBytes(StandardCharsets.UTF_8);
+        }
+        return result;
+    }
+
+    /**
+     * Raw content.
+     * @return Raw content if it's known, serialized XML otherwise.
+     */
+    private byte[] content() {
+        final byte[] result;
+        if (Objects.isNull(this.source)) {
+            result = this.xml.value().toString().getBytes(StandardCharsets.UTF_8);
+        } else {
+            result = new UncheckedBytes(new BytesOf(this.source)).asBytes();
+        }
+        return result;
+    }
+
     /**
      * Prestructor from file.
      * @param path Path to the file.
@@ -137,7 +231,10 @@ public final class XmirEntry {
                 new Sticky<>(
                     () -> {
                         try {
-                            return new XMLDocument(path);
+                            final Flight flight = new Flight(Phase.READ, path.toString(), "");
+                            final XML xml = new XMLDocument(path);
+                            flight.commit(0);
+                            return xml;
                         } catch (final FileNotFoundException exception) {
                             throw new IllegalStateException(
                                 String.format("Can't find '%x'", path),
@@ -0,0 +1,191 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2023 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.opeo.report;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Java Flight Recorder event of a plugin phase.
+ * <p>
+ *     This is the version for Java 11 and newer, it's packed into
+ *     'META-INF/versions/11' of the multi-release jar. Events are recorded only
+ *     if Flight Recorder is running, for example with '-XX:StartFlightRecording'.
+ * </p>
+ * @since 0.5
+ */
+public final class Flight {
+
+    /**
+     * Flight Recorder event.
+     */
+    private final OpeoEvent event;
+
+    /**
+     * Constructor.
+     * Starts the event.
+     * @param phase Phase of the plugin run.
+     * @param clazz Class name.
+     * @param method Method name.
+     */
+    public Flight(final Phase phase, final String clazz, final String method) {
+        this.event = Flight.event(phase);
+        if (this.event.isEnabled()) {
+            this.event.clazz = clazz;
+            this.event.method = method;
+            this.event.begin();
+        }
+    }
+
+    /**
+     * Finish and commit the event.
+     * @param instructions Number of handled instructions.
+     */
+    public void commit(final int instructions) {
+        if (this.event.shouldCommit()) {
+            this.event.instructions = instructions;
+            this.event.commit();
+        }
+    }
+
+    /**
+     * Event of the phase.
+     * @param phase Phase of the plugin run.
+     * @return New event.
+     */
+    private static OpeoEvent event(final Phase phase) {
+        final OpeoEvent result;
+        switch (phase) {
+            case READ:
+                result = new ReadEvent();
+                break;
+            case DECOMPILE:
+                result = new DecompileEvent();
+                break;
+            case AGENTS:
+                result = new AgentsEvent();
+                break;
+            case PRUNE:
+                result = new PruneEvent();
+                break;
+            case COMPILE:
+                result = new CompileEvent();
+                break;
+            case SAVE:
+                result = new SaveEvent();
+                break;
+            default:
+                throw new IllegalArgumentException(
+                    String.format("Unknown phase '%s'", phase)
+                );
+        }
+        return result;
+    }
+
+    /**
+     * Common fields of all the plugin events.
+     * @since 0.5
+     * @checkstyle VisibilityModifierCheck (30 lines)
+     */
+    @Category("opeo")
+    @StackTrace(false)
+    @SuppressWarnings("PMD.AbstractClassWithoutAnyMethod")
+    private abstract static class OpeoEvent extends Event {
+
+        /**
+         * Class name.
+         */
+        @Label("Class")
+        String clazz;
+
+        /**
+         * Method name.
+         */
+        @Label("Method")
+        String method;
+
+        /**
+         * Number of handled instructions.
+         */
+        @Label("Instructions")
+        int instructions;
+    }
+
+    /**
+     * XMIR file read.
+     * @since 0.5
+     */
+    @Name("org.eolang.opeo.Read")
+    @Label("Read XMIR")
+    private static final class ReadEvent extends OpeoEvent {
+    }
+
+    /**
+     * Method decompiled.
+     * @since 0.5
+     */
+    @Name("org.eolang.opeo.Decompile")
+    @Label("Decompile Method")
+    private static final class DecompileEvent extends OpeoEvent {
+    }
+
+    /**
+     * Instructions of a method handled by decompilation agents.
+     * @since 0.5
+     */
+    @Name("org.eolang.opeo.Agents")
+    @Label("Agents Dispatch")
+    private static final class AgentsEvent extends OpeoEvent {
+    }
+
+    /**
+     * Aliases removed.
+     * @since 0.5
+     */
+    @Name("org.eolang.opeo.Prune")
+    @Label("Remove Aliases")
+    private static final class PruneEvent extends OpeoEvent {
+    }
+
+    /**
+     * Method compiled.
+     * @since 0.5
+     */
+    @Name("org.eolang.opeo.Compile")
+    @Label("Compile Method")
+    private static final class CompileEvent extends OpeoEvent {
+    }
+
+    /**
+     * XMIR file saved.
+     * @since 0.5
+     */
+    @Name("org.eolang.opeo.Save")
+    @Label("Save XMIR")
+    private static final class SaveEvent extends OpeoEvent {
+    }
+}
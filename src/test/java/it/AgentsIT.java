@@ -24,22 +24,8 @@
 package it;
 
 import com.jcabi.xml.XMLDocument;
-import java.util.ArrayList;
-import java.util.Collection;
 import java.util.Collections;
-import java.util.List;
-import java.util.Map;
-import java.util.Objects;
-import java.util.concurrent.atomic.AtomicInteger;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
-import org.cactoos.Scalar;
-import org.cactoos.scalar.Sticky;
-import org.eolang.jeo.representation.xmir.AllLabels;
 import org.eolang.jucs.ClasspathSource;
-import org.eolang.opeo.Instruction;
-import org.eolang.opeo.OpcodeInstruction;
-import org.eolang.opeo.ast.OpcodeName;
 import org.eolang.opeo.decompilation.DecompilerMachine;
 import org.eolang.opeo.decompilation.agents.TracedAgent;
 import org.eolang.parser.xmir.Xmir;
@@ -48,7 +34,6 @@ import org.hamcrest.Matchers;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.xembly.Directives;
 import org.xembly.Xembler;
-import org.yaml.snakeyaml.Yaml;
 
 /**
  * Test pack that checks how separate agents decompile instructions.
@@ -94,123 +79,4 @@ final class AgentsIT {
             Matchers.equalTo(pack.agents())
         );
     }
-
-    /**
-     * Instruction pack.
-     * You can find examples of the {@link InstructionPack} right
-     * <a href="./resources/agents">here.</a>
-     * @since 0.4
-     */
-    private static final class InstructionPack {
-
-        /**
-         * The pattern to match instructions.
-         * It matches:
-         * 1. Boolean values. Example: true, false.
-         * 2. Double values. Example: 10.12.
-         * 3. Long values. Example: 100L.
-         * 4. Integer values. Example: 100.
-         * 5. String values. Example: "Hello world!".
-         * 6. Label. Example: LABEL:labelid.
-         * 7. Instruction names. Example: LDC.
-         */
-        private static final Pattern INSTRUCTION = Pattern.compile(
-            "(\\bfalse|true\\b)|(\\d+\\.\\d+)|(\\d+L)|(\\d+)|\"([^\"]*)\"|\\bLABEL\\b:(\\S+)|(\\S+)"
-        );
-
-        /**
-         * Yaml pack.
-         */
-        private final Scalar<? extends Map<String, Object>> pack;
-
-        /**
-         * Constructor.
-         * @param yaml Yaml file content.
-         */
-        InstructionPack(final String yaml) {
-            this(new Sticky<>(() -> new Yaml().load(yaml)));
-        }
-
-        /**
-         * Constructor.
-         * @param pack Yaml pack.
-         */
-        private InstructionPack(final Scalar<? extends Map<String, Object>> pack) {
-            this.pack = pack;
-        }
-
-        /**
-         * Expected agents used to decompile instructions.
-         * @return Agents.
-         */
-        @SuppressWarnings("unchecked")
-        List<String> agents() {
-            return (List<String>) this.value("agents");
-        }
-
-        /**
-         * Expected EO code.
-         * @return EO code.
-         */
-        String expected() {
-            return (String) this.value("eo");
-        }
-
-        /**
-         * Instructions to decompile.
-         * @return Instructions.
-         */
-        @SuppressWarnings("unchecked")
-        Instruction[] instructions() {
-            return ((Collection<String>) this.value("opcodes"))
-                .stream()
-                .map(this::parse)
-                .toArray(Instruction[]::new);
-        }
-
-        /**
-         * Parse instruction.
-         * @param instr Instruction as string.
-         * @return Instruction.
-         */
-        private Instruction parse(final String instr) {
-            final Matcher matcher = InstructionPack.INSTRUCTION.matcher(instr);
-            final AtomicInteger opcode = new AtomicInteger();
-            final List<Object> arguments = new ArrayList<>(0);
-            while (matcher.find()) {
-                if (Objects.nonNull(matcher.group(1))) {
-                    arguments.add(Boolean.parseBoolean(matcher.group(1)));
-                } else if (Objects.nonNull(matcher.group(2))) {
-                    arguments.add(Double.parseDouble(matcher.group(2)));
-                } else if (Objects.nonNull(matcher.group(3))) {
-                    arguments.add(Long.parseLong(matcher.group(3)));
-                } else if (Objects.nonNull(matcher.group(4))) {
-                    arguments.add(Integer.parseInt(matcher.group(4)));
-                } else if (Objects.nonNull(matcher.group(5))) {
-                    final String group = matcher.group(5);
-                    arguments.add(group);
-                } else if (Objects.nonNull(matcher.group(6))) {
-                    arguments.add(new AllLabels().label(matcher.group(6)));
-                } else {
-                    opcode.set(new OpcodeName(matcher.group(7)).code());
-                }
-            }
-            return new OpcodeInstruction(opcode.get(), arguments.toArray());
-        }
-
-        /**
-         * Get Yaml value by key.
-         * @param key Yaml key.
-         * @return Yaml value.
-         * @checkstyle IllegalCatchCheck (6 lines)
-         */
-        @SuppressWarnings("PMD.AvoidCatchingGenericException")
-        private Object value(final String key) {
-            try {
-                return this.pack.value().get(key);
-            } catch (final Exception exception) {
-                throw new IllegalStateException("Failed to parse YAML pack", exception);
-            }
-        }
-    }
 }
@@ -0,0 +1,200 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2023 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package it;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.cactoos.Scalar;
+import org.cactoos.scalar.Sticky;
+import org.eolang.jeo.representation.xmir.AllLabels;
+import org.eolang.opeo.Instruction;
+import org.eolang.opeo.OpcodeInstruction;
+import org.eolang.opeo.ast.OpcodeName;
+import org.yaml.snakeyaml.Yaml;
+
+/**
+ * Instruction pack.
+ * You can find examples of the {@link InstructionPack} right
+ * <a href="./resources/agents">here.</a>
+ * @since 0.4
+ */
+@SuppressWarnings("JTCOP.RuleCorrectTestName")
+final class InstructionPack {
+
+    /**
+     * The pattern to match instructions.
+     * It matches:
+     * 1. Boolean values. Example: true, false.
+     * 2. Double values. Example: 10.12.
+     * 3. Long values. Example: 100L.
+     * 4. Integer values. Example: 100.
+     * 5. String values. Example: "Hello world!".
+     * 6. Label. Example: LABEL:labelid.
+     * 7. Instruction names. Example: LDC.
+     */
+    private static final Pattern INSTRUCTION = Pattern.compile(
+        "(\\bfalse|true\\b)|(\\d+\\.\\d+)|(\\d+L)|(\\d+)|\"([^\"]*)\"|\\bLABEL\\b:(\\S+)|(\\S+)"
+    );
+
+    /**
+     * Yaml pack.
+     */
+    private final Scalar<? extends Map<String, Object>> pack;
+
+    /**
+     * Constructor.
+     * @param yaml Yaml file content.
+     */
+    InstructionPack(final String yaml) {
+        this(new Sticky<>(() -> new Yaml().load(yaml)));
+    }
+
+    /**
+     * Constructor.
+     * @param pack Yaml pack.
+     */
+    private InstructionPack(final Scalar<? extends Map<String, Object>> pack) {
+        this.pack = pack;
+    }
+
+    /**
+     * Expected agents used to decompile instructions.
+     * @return Agents.
+     */
+    @SuppressWarnings("unchecked")
+    List<String> agents() {
+        return (List<String>) this.value("agents");
+    }
+
+    /**
+     * Expected EO code.
+     * @return EO code.
+     */
+    String expected() {
+        return (String) this.value("eo");
+    }
+
+    /**
+     * Instructions to decompile.
+     * @return Instructions.
+     */
+    Instruction[] instructions() {
+        return this.instructions("");
+    }
+
+    /**
+     * Instructions to decompile with unique labels.
+     * The suffix is appended to each label identifier, so the same pack
+     * can be used several times in one method.
+     * @param suffix Label suffix.
+     * @return Instructions.
+     */
+    Instruction[] instructions(final String suffix) {
+        return this.opcodes()
+            .stream()
+            .map(instr -> InstructionPack.parse(instr, suffix))
+            .toArray(Instruction[]::new);
+    }
+
+    /**
+     * Identifiers of all the labels used in the pack.
+     * @param suffix Label suffix.
+     * @return Label identifiers.
+     */
+    List<String> labels(final String suffix) {
+        final List<String> result = new ArrayList<>(0);
+        for (final String instr : this.opcodes()) {
+            final Matcher matcher = InstructionPack.INSTRUCTION.matcher(instr);
+            while (matcher.find()) {
+                if (Objects.nonNull(matcher.group(6))) {
+                    result.add(String.format("%s%s", matcher.group(6), suffix));
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Raw instructions.
+     * @return Instructions as strings.
+     */
+    @SuppressWarnings("unchecked")
+    private Collection<String> opcodes() {
+        return (Collection<String>) this.value("opcodes");
+    }
+
+    /**
+     * Parse instruction.
+     * @param instr Instruction as string.
+     * @param suffix Label suffix.
+     * @return Instruction.
+     */
+    private static Instruction parse(final String instr, final String suffix) {
+        final Matcher matcher = InstructionPack.INSTRUCTION.matcher(instr);
+        final AtomicInteger opcode = new AtomicInteger();
+        final List<Object> arguments = new ArrayList<>(0);
+        while (matcher.find()) {
+            if (Objects.nonNull(matcher.group(1))) {
+                arguments.add(Boolean.parseBoolean(matcher.group(1)));
+            } else if (Objects.nonNull(matcher.group(2))) {
+                arguments.add(Double.parseDouble(matcher.group(2)));
+            } else if (Objects.nonNull(matcher.group(3))) {
+                arguments.add(Long.parseLong(matcher.group(3)));
+            } else if (Objects.nonNull(matcher.group(4))) {
+                arguments.add(Integer.parseInt(matcher.group(4)));
+            } else if (Objects.nonNull(matcher.group(5))) {
+                final String group = matcher.group(5);
+                arguments.add(group);
+            } else if (Objects.nonNull(matcher.group(6))) {
+                arguments.add(
+                    new AllLabels().label(String.format("%s%s", matcher.group(6), suffix))
+                );
+            } else {
+                opcode.set(new OpcodeName(matcher.group(7)).code());
+            }
+        }
+        return new OpcodeInstruction(opcode.get(), arguments.toArray());
+    }
+
+    /**
+     * Get Yaml value by key.
+     * @param key Yaml key.
+     * @return Yaml value.
+     * @checkstyle IllegalCatchCheck (6 lines)
+     */
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    private Object value(final String key) {
+        try {
+            return this.pack.value().get(key);
+        } catch (final Exception exception) {
+            throw new IllegalStateException("Failed to parse YAML pack", exception);
+        }
+    }
+}
@@ -0,0 +1,168 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2023 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package it;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.eolang.opeo.compilation.SelectiveCompiler;
+import org.eolang.opeo.decompilation.NaiveDecompiler;
+import org.eolang.opeo.decompilation.Settings;
+import org.eolang.opeo.report.Report;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Performance regression gate.
+ * <p>
+ *     Decompiles and compiles a generated corpus (see {@link XmirCorpus}), so it doesn't
+ *     need network access, and compares the bytes allocated by each goal with the
+ *     baseline checked in to 'src/test/resources/performance/baseline.json'.
+ *     The test fails if a goal allocates more than the baseline multiplied by
+ *     '1 + opeo.perf.tolerance' (0.2 by default). Allocated bytes are counted per file by
+ *     the worker threads, so they hardly change between runs and hosts, unlike the time,
+ *     which is not gated.
+ * </p>
+ * <p>
+ *     The test runs in the 'performance' profile, to update the baseline after
+ *     an intended change, run:
+ *     <pre>{@code
+ *     mvn clean verify -Pperformance -Dopeo.perf.rebaseline=true
+ *     }</pre>
+ * </p>
+ * @since 0.5
+ */
+final class PerformanceIT {
+
+    /**
+     * Baseline file.
+     */
+    private static final Path BASELINE = Paths.get("src/test/resources/performance/baseline.json");
+
+    /**
+     * Number of classes in the corpus.
+     */
+    private static final int CLASSES = 100;
+
+    /**
+     * Number of methods in each class of the corpus.
+     */
+    private static final int METHODS = 50;
+
+    @Test
+    void staysWithinBaseline(@TempDir final Path temp) throws IOException {
+        final Path xmir = temp.resolve("xmir");
+        final Path decompiled = temp.resolve("opeo-xmir");
+        final Path report = temp.resolve("opeo-report.json");
+        new XmirCorpus(PerformanceIT.CLASSES, PerformanceIT.METHODS).save(xmir);
+        final Report decompilation = new Report();
+        new NaiveDecompiler(xmir, decompiled, new Settings().report(decompilation)).decompile();
+        decompilation.save(report, "decompile", "performance");
+        final Report compilation = new Report();
+        new SelectiveCompiler(decompiled, temp.resolve("xmir-compiled"), compilation).compile();
+        compilation.save(report, "compile", "performance");
+        final String actual = new String(Files.readAllBytes(report), StandardCharsets.UTF_8);
+        if (Boolean.getBoolean("opeo.perf.rebaseline")) {
+            PerformanceIT.rebaseline(actual);
+        }
+        final String baseline = new String(
+            Files.readAllBytes(PerformanceIT.BASELINE), StandardCharsets.UTF_8
+        );
+        final double tolerance = Double.parseDouble(
+            System.getProperty("opeo.perf.tolerance", "0.2")
+        );
+        for (final String goal : new String[] {"decompile", "compile"}) {
+            final long limit = (long) (
+                PerformanceIT.metric(baseline, goal, "allocated_bytes") * (1.0 + tolerance)
+            );
+            MatcherAssert.assertThat(
+                String.format(
+                    "Goal '%s' allocated more than %d bytes (baseline %d, tolerance %.2f)",
+                    goal,
+                    limit,
+                    PerformanceIT.metric(baseline, goal, "allocated_bytes"),
+                    tolerance
+                ),
+                PerformanceIT.metric(actual, goal, "allocated_bytes"),
+                Matchers.lessThanOrEqualTo(limit)
+            );
+        }
+    }
+
+    /**
+     * Save the actual report values as the new baseline.
+     * @param actual Actual report.
+     * @throws IOException If fails.
+     */
+    private static void rebaseline(final String actual) throws IOException {
+        final StringBuilder json = new StringBuilder("{\n");
+        final String[] goals = {"compile", "decompile"};
+        for (int idx = 0; idx < goals.length; ++idx) {
+            if (idx > 0) {
+                json.append(",\n");
+            }
+            json.append(
+                String.format(
+                    "\"%s\": {\n  \"allocated_bytes\": %d\n}",
+                    goals[idx],
+                    PerformanceIT.metric(actual, goals[idx], "allocated_bytes")
+                )
+            );
+        }
+        json.append("\n}\n");
+        Files.write(PerformanceIT.BASELINE, json.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Metric of the goal from the JSON report.
+     * @param json JSON report with sections of goals.
+     * @param goal Goal name.
+     * @param metric Metric name.
+     * @return Metric value.
+     */
+    private static long metric(final String json, final String goal, final String metric) {
+        final String section = String.format("\"%s\": {", goal);
+        final int start = json.indexOf(section);
+        if (start < 0) {
+            throw new IllegalStateException(
+                String.format("Goal '%s' not found in the report:%n%s", goal, json)
+            );
+        }
+        final Matcher matcher = Pattern.compile(
+            String.format("\"%s\": (\\d+)", Pattern.quote(metric))
+        ).matcher(json);
+        if (!matcher.find(start)) {
+            throw new IllegalStateException(
+                String.format("Metric '%s' of goal '%s' not found in:%n%s", metric, goal, json)
+            );
+        }
+        return Long.parseLong(matcher.group(1));
+    }
+}
@@ -0,0 +1,456 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2023 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package it;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.IntStream;
+import org.cactoos.io.ResourceOf;
+import org.cactoos.text.TextOf;
+import org.eolang.jeo.representation.HexData;
+import org.eolang.jeo.representation.directives.DirectivesData;
+import org.eolang.opeo.Instruction;
+import org.eolang.opeo.ast.Label;
+import org.eolang.opeo.ast.Opcode;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.Type;
+import org.xembly.Directives;
+import org.xembly.Xembler;
+
+/**
+ * Synthetic corpus of jeo XMIR files.
+ * <p>
+ *     Generates any number of classes with methods of the given size.
+ *     Method bodies are built from the instruction packs that {@link AgentsIT} uses
+ *     (see <a href="./resources/agents">agents</a>), picked randomly according
+ *     to the opcode mix. After each pack the values left on the operand stack are popped,
+ *     and each method ends with 'return'. The same seed always gives the same corpus.
+ * </p>
+ * <p>
+ *     The corpus doesn't need network access, so it can be used in benchmarks and
+ *     soak tests at 10k, 100k or 1M methods scale. Classes are generated and saved
+ *     one by one, so memory consumption doesn't depend on the corpus size.
+ * </p>
+ * @since 0.5
+ */
+@SuppressWarnings("JTCOP.RuleCorrectTestName")
+public final class XmirCorpus {
+
+    /**
+     * Package of the generated classes.
+     */
+    private static final String PACKAGE = "org.eolang.corpus";
+
+    /**
+     * Number of classes.
+     */
+    private final int classes;
+
+    /**
+     * Number of methods per class.
+     */
+    private final int methods;
+
+    /**
+     * Approximate number of instructions per method.
+     */
+    private final int size;
+
+    /**
+     * Opcode mix: pack name to its weight.
+     */
+    private final Map<String, Integer> mix;
+
+    /**
+     * Random seed.
+     */
+    private final long seed;
+
+    /**
+     * Constructor.
+     * @param classes Number of classes.
+     * @param methods Number of methods per class.
+     */
+    public XmirCorpus(final int classes, final int methods) {
+        this(classes, methods, 20, XmirCorpus.uniform(), 0L);
+    }
+
+    /**
+     * Constructor.
+     * @param classes Number of classes.
+     * @param methods Number of methods per class.
+     * @param size Approximate number of instructions per method.
+     * @param mix Opcode mix: pack name from 'agents' resources to its weight.
+     * @param seed Random seed.
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    public XmirCorpus(
+        final int classes,
+        final int methods,
+        final int size,
+        final Map<String, Integer> mix,
+        final long seed
+    ) {
+        this.classes = classes;
+        this.methods = methods;
+        this.size = size;
+        this.mix = new LinkedHashMap<>(mix);
+        this.seed = seed;
+    }
+
+    /**
+     * Generate the corpus and save it to the folder.
+     * @param dir Folder where to save XMIR files.
+     * @return Total number of generated methods.
+     */
+    public long save(final Path dir) {
+        final List<Pack> packs = this.packs();
+        final Path folder = dir.resolve(XmirCorpus.PACKAGE.replace('.', '/'));
+        try {
+            Files.createDirectories(folder);
+        } catch (final IOException exception) {
+            throw new IllegalStateException(
+                String.format("Can't create the corpus folder '%s'", folder),
+                exception
+            );
+        }
+        IntStream.range(0, this.classes).parallel().forEach(
+            index -> {
+                final String name = String.format("Class%d", index);
+                try {
+                    Files.write(
+                        folder.resolve(String.format("%s.xmir", name)),
+                        new Xembler(this.program(name, index, packs))
+                            .xmlQuietly()
+                            .getBytes(StandardCharsets.UTF_8)
+                    );
+                } catch (final IOException exception) {
+                    throw new IllegalStateException(
+                        String.format("Can't save the class '%s' to '%s'", name, folder),
+                        exception
+                    );
+                }
+            }
+        );
+        return (long) this.classes * this.methods;
+    }
+
+    /**
+     * Uniform opcode mix: all the packs from 'agents' resources have the same weight.
+     * @return Opcode mix.
+     */
+    public static Map<String, Integer> uniform() {
+        final Map<String, Integer> result = new LinkedHashMap<>(0);
+        final List<String> packs = Arrays.asList(
+            "add", "bipush", "hello_world", "if", "load", "mul"
+        );
+        for (final String pack : packs) {
+            result.put(pack, 1);
+        }
+        return result;
+    }
+
+    /**
+     * XMIR of one class.
+     * @param name Class name.
+     * @param index Class index.
+     * @param packs Instruction packs with weights.
+     * @return Directives.
+     */
+    private Directives program(final String name, final int index, final List<Pack> packs) {
+        final Random random = new Random(this.seed + index);
+        final Directives result = new Directives()
+            .add("program")
+            .attr("name", name)
+            .attr("version", "0.0.0")
+            .attr("revision", "0.0.0")
+            .attr("dob", "1970-01-01T00:00:00Z")
+            .attr("time", "1970-01-01T00:00:00Z")
+            .attr("ms", "0")
+            .add("listing").up()
+            .add("errors").up()
+            .add("sheets").up()
+            .add("license").up()
+            .add("metas")
+            .append(XmirCorpus.meta("package", XmirCorpus.PACKAGE))
+            .append(XmirCorpus.meta("alias", "org.eolang.jeo.opcode"))
+            .append(XmirCorpus.meta("alias", "org.eolang.jeo.label"))
+            .up()
+            .add("objects")
+            .add("o").attr("abstract", "").attr("name", name)
+            .append(new DirectivesData("access", Opcodes.ACC_PUBLIC | Opcodes.ACC_SUPER))
+            .append(new DirectivesData("supername", "java/lang/Object"))
+            .add("o").attr("base", "tuple").attr("name", "interfaces").attr("star", "").up();
+        for (int method = 0; method < this.methods; ++method) {
+            result.append(
+                this.method(String.format("method%d", method), index, method, packs, random)
+            );
+        }
+        return result.up().up().up();
+    }
+
+    /**
+     * XMIR of one method.
+     * @param name Method name.
+     * @param clazz Class index.
+     * @param method Method index.
+     * @param packs Instruction packs with weights.
+     * @param random Random generator.
+     * @return Directives.
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    private Directives method(
+        final String name,
+        final int clazz,
+        final int method,
+        final List<Pack> packs,
+        final Random random
+    ) {
+        final Directives result = new Directives()
+            .add("o").attr("abstract", "").attr("name", name)
+            .append(new DirectivesData("access", Opcodes.ACC_PUBLIC))
+            .append(new DirectivesData("descriptor", "()V"))
+            .append(new DirectivesData("signature", ""))
+            .add("o").attr("base", "tuple").attr("name", "exceptions").attr("star", "").up()
+            .add("o").attr("base", "seq").attr("name", "@")
+            .add("o").attr("base", "tuple").attr("star", "");
+        int total = 0;
+        int snippet = 0;
+        while (total < this.size) {
+            final String suffix = String.format("-c%d-m%d-s%d", clazz, method, snippet);
+            final InstructionPack pack = XmirCorpus.pick(packs, random);
+            int slots = 0;
+            for (final Instruction instruction : pack.instructions(suffix)) {
+                result.append(
+                    new Opcode(instruction.opcode(), instruction.operands(), false).toXmir()
+                );
+                slots += XmirCorpus.slots(instruction);
+                total += 1;
+            }
+            for (final String label : pack.labels(suffix)) {
+                result.append(new Label(new HexData(label).value()).toXmir());
+            }
+            for (; slots >= 2; slots -= 2) {
+                result.append(new Opcode(Opcodes.POP2, false).toXmir());
+            }
+            if (slots == 1) {
+                result.append(new Opcode(Opcodes.POP, false).toXmir());
+            }
+            snippet += 1;
+        }
+        return result.append(new Opcode(Opcodes.RETURN, false).toXmir()).up().up().up();
+    }
+
+    /**
+     * Load instruction packs from resources.
+     * @return Packs with weights.
+     * @checkstyle IllegalCatchCheck (25 lines)
+     */
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    private List<Pack> packs() {
+        final List<Pack> result = new ArrayList<>(this.mix.size());
+        for (final Map.Entry<String, Integer> entry : this.mix.entrySet()) {
+            final String resource = String.format("agents/%s.yaml", entry.getKey());
+            try {
+                result.add(
+                    new Pack(
+                        new InstructionPack(new TextOf(new ResourceOf(resource)).asString()),
+                        entry.getValue()
+                    )
+                );
+            } catch (final Exception exception) {
+                throw new IllegalArgumentException(
+                    String.format("Can't read the instruction pack '%s'", resource),
+                    exception
+                );
+            }
+        }
+        if (result.stream().mapToInt(Pack::weight).sum() <= 0) {
+            throw new IllegalArgumentException(
+                String.format("Opcode mix must have at least one positive weight: %s", this.mix)
+            );
+        }
+        return result;
+    }
+
+    /**
+     * Pick a random pack according to weights.
+     * @param packs Packs with weights.
+     * @param random Random generator.
+     * @return Instruction pack.
+     */
+    private static InstructionPack pick(final List<Pack> packs, final Random random) {
+        int target = random.nextInt(packs.stream().mapToInt(Pack::weight).sum());
+        InstructionPack result = packs.get(0).pack();
+        for (final Pack pack : packs) {
+            target -= pack.weight();
+            if (target < 0) {
+                result = pack.pack();
+                break;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Meta directive.
+     * @param head Meta head.
+     * @param tail Meta tail.
+     * @return Directives.
+     */
+    private static Directives meta(final String head, final String tail) {
+        return new Directives().add("meta")
+            .add("head").set(head).up()
+            .add("tail").set(tail).up()
+            .add("part").set(tail).up()
+            .up();
+    }
+
+    /**
+     * How many operand stack slots the instruction adds (or removes if negative).
+     * @param instruction Instruction.
+     * @return Stack slots.
+     * @checkstyle CyclomaticComplexityCheck (100 lines)
+     * @checkstyle MagicNumberCheck (100 lines)
+     */
+    @SuppressWarnings("PMD.CognitiveComplexity")
+    private static int slots(final Instruction instruction) {
+        final int opcode = instruction.opcode();
+        final int result;
+        if (opcode == Opcodes.LCONST_0 || opcode == Opcodes.LCONST_1
+            || opcode == Opcodes.DCONST_0 || opcode == Opcodes.DCONST_1) {
+            result = 2;
+        } else if (opcode >= Opcodes.ACONST_NULL && opcode <= Opcodes.SIPUSH) {
+            result = 1;
+        } else if (opcode == Opcodes.LDC) {
+            final Object constant = instruction.operand(0);
+            if (constant instanceof Long || constant instanceof Double) {
+                result = 2;
+            } else {
+                result = 1;
+            }
+        } else if (opcode >= Opcodes.ILOAD && opcode <= Opcodes.ALOAD) {
+            result = XmirCorpus.wide(opcode - Opcodes.ILOAD);
+        } else if (opcode >= Opcodes.ISTORE && opcode <= Opcodes.ASTORE) {
+            result = -XmirCorpus.wide(opcode - Opcodes.ISTORE);
+        } else if (opcode >= Opcodes.IADD && opcode <= Opcodes.DREM) {
+            result = -XmirCorpus.wide((opcode - Opcodes.IADD) % 4);
+        } else if (opcode >= Opcodes.IFEQ && opcode <= Opcodes.IFLE) {
+            result = -1;
+        } else if (opcode >= Opcodes.IF_ICMPEQ && opcode <= Opcodes.IF_ACMPNE) {
+            result = -2;
+        } else if (opcode == Opcodes.GETSTATIC) {
+            result = Type.getType((String) instruction.operand(2)).getSize();
+        } else if (opcode == Opcodes.GETFIELD) {
+            result = Type.getType((String) instruction.operand(2)).getSize() - 1;
+        } else if (opcode >= Opcodes.INVOKEVIRTUAL && opcode <= Opcodes.INVOKEINTERFACE) {
+            final int sizes = Type.getArgumentsAndReturnSizes((String) instruction.operand(2));
+            if (opcode == Opcodes.INVOKESTATIC) {
+                result = (sizes & 3) - (sizes >> 2) + 1;
+            } else {
+                result = (sizes & 3) - (sizes >> 2);
+            }
+        } else if (opcode == Opcodes.NEW || opcode == Opcodes.DUP) {
+            result = 1;
+        } else if (opcode == Opcodes.POP) {
+            result = -1;
+        } else if (opcode == Opcodes.POP2) {
+            result = -2;
+        } else {
+            throw new IllegalArgumentException(
+                String.format(
+                    "Opcode %s is not supported by the corpus generator yet",
+                    new Opcode(opcode).pretty()
+                )
+            );
+        }
+        return result;
+    }
+
+    /**
+     * Size of the value for load/store/arithmetic opcodes ordered as 'int, long, float, double'.
+     * @param offset Offset of the opcode from the 'int' one.
+     * @return Size in stack slots.
+     */
+    private static int wide(final int offset) {
+        final int result;
+        if (offset == 1 || offset == 3) {
+            result = 2;
+        } else {
+            result = 1;
+        }
+        return result;
+    }
+
+    /**
+     * Instruction pack with its weight.
+     * @since 0.5
+     */
+    private static final class Pack {
+
+        /**
+         * Instruction pack.
+         */
+        private final InstructionPack origin;
+
+        /**
+         * Weight.
+         */
+        private final int value;
+
+        /**
+         * Constructor.
+         * @param origin Instruction pack.
+         * @param value Weight.
+         */
+        Pack(final InstructionPack origin, final int value) {
+            this.origin = origin;
+            this.value = value;
+        }
+
+        /**
+         * Instruction pack.
+         * @return Pack.
+         */
+        InstructionPack pack() {
+            return this.origin;
+        }
+
+        /**
+         * Weight.
+         * @return Weight.
+         */
+        int weight() {
+            return this.value;
+        }
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2023 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package it;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+import org.eolang.opeo.decompilation.NaiveDecompiler;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Test case for {@link XmirCorpus}.
+ * @since 0.5
+ */
+final class XmirCorpusTest {
+
+    @Test
+    void generatesCorpus(@TempDir final Path temp) throws IOException {
+        final Path dir = temp.resolve("xmir");
+        new XmirCorpus(3, 4).save(dir);
+        MatcherAssert.assertThat(
+            "We expect that the corpus will contain one XMIR file per class",
+            XmirCorpusTest.count(dir),
+            Matchers.equalTo(3L)
+        );
+    }
+
+    @Test
+    void decompilesGeneratedCorpus(@TempDir final Path temp) throws IOException {
+        final Path input = temp.resolve("xmir");
+        final Path output = temp.resolve("opeo-xmir");
+        new XmirCorpus(2, 5).save(input);
+        new NaiveDecompiler(input, output).decompile();
+        MatcherAssert.assertThat(
+            "We expect that all the generated classes will be decompiled",
+            XmirCorpusTest.count(output),
+            Matchers.equalTo(2L)
+        );
+        MatcherAssert.assertThat(
+            "We expect that the generated classes will be decompiled without failures",
+            Files.exists(output.resolve("opeo-decompile-failures.txt")),
+            Matchers.is(false)
+        );
+    }
+
+    /**
+     * Count XMIR files in the folder.
+     * @param dir Folder.
+     * @return Number of XMIR files.
+     * @throws IOException If fails.
+     */
+    private static long count(final Path dir) throws IOException {
+        try (Stream<Path> files = Files.walk(dir)) {
+            return files.filter(path -> path.toString().endsWith(".xmir")).count();
+        }
+    }
+}
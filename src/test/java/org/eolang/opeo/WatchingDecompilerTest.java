@@ -0,0 +1,172 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2023 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.opeo;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.cactoos.bytes.BytesOf;
+import org.cactoos.io.ResourceOf;
+import org.eolang.opeo.decompilation.Budget;
+import org.eolang.opeo.storage.InMemoryStorage;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Test cases for {@link WatchingDecompiler}.
+ * @since 0.5
+ */
+final class WatchingDecompilerTest {
+
+    @Test
+    void decompilesChangedFiles(@TempDir final Path dir) throws Exception {
+        final Path input = Files.createDirectories(dir.resolve("jeo-xmir"));
+        final Path output = dir.resolve("opeo-xmir");
+        final Thread watch = new Thread(
+            new WatchingDecompiler(input, output, new InMemoryStorage(), 50L, new Budget())
+                ::decompile
+        );
+        watch.start();
+        Thread.sleep(500L);
+        final Path pckg = Files.createDirectories(input.resolve("org"));
+        Files.write(
+            pckg.resolve("Known.xmir"),
+            new BytesOf(new ResourceOf("xmir/Known.xmir")).asBytes()
+        );
+        final Path decompiled = output.resolve("org").resolve("Known.xmir");
+        for (int attempt = 0; attempt < 100 && !Files.exists(decompiled); ++attempt) {
+            Thread.sleep(100L);
+        }
+        final boolean appeared = Files.exists(decompiled);
+        Files.delete(pckg.resolve("Known.xmir"));
+        for (int attempt = 0; attempt < 100 && Files.exists(decompiled); ++attempt) {
+            Thread.sleep(100L);
+        }
+        watch.interrupt();
+        watch.join();
+        MatcherAssert.assertThat(
+            "We expect the new file to be decompiled and its output to be removed after deletion",
+            new boolean[] {appeared, Files.exists(decompiled)},
+            Matchers.equalTo(new boolean[] {true, false})
+        );
+    }
+
+    @Test
+    void removesOutputsOfDeletedFolder(@TempDir final Path dir) throws Exception {
+        final Path input = Files.createDirectories(dir.resolve("jeo-xmir"));
+        final Path output = dir.resolve("opeo-xmir");
+        final Thread watch = WatchingDecompilerTest.start(input, output);
+        final Path pckg = Files.createDirectories(input.resolve("org"));
+        Files.write(
+            pckg.resolve("Known.xmir"),
+            new BytesOf(new ResourceOf("xmir/Known.xmir")).asBytes()
+        );
+        final Path decompiled = output.resolve("org").resolve("Known.xmir");
+        WatchingDecompilerTest.await(decompiled, true);
+        WatchingDecompilerTest.delete(pckg);
+        WatchingDecompilerTest.await(output.resolve("org"), false);
+        watch.interrupt();
+        watch.join();
+        MatcherAssert.assertThat(
+            "We expect the outputs of a deleted folder to be removed",
+            Files.exists(output.resolve("org")),
+            Matchers.is(false)
+        );
+    }
+
+    @Test
+    void watchesInputFolderAfterItIsRecreated(@TempDir final Path dir) throws Exception {
+        final Path input = Files.createDirectories(dir.resolve("jeo-xmir"));
+        final Path output = dir.resolve("opeo-xmir");
+        final Thread watch = WatchingDecompilerTest.start(input, output);
+        WatchingDecompilerTest.delete(input);
+        Thread.sleep(500L);
+        Files.createDirectories(input);
+        Thread.sleep(500L);
+        Files.write(
+            input.resolve("Known.xmir"),
+            new BytesOf(new ResourceOf("xmir/Known.xmir")).asBytes()
+        );
+        final Path decompiled = output.resolve("Known.xmir");
+        WatchingDecompilerTest.await(decompiled, true);
+        final boolean alive = watch.isAlive();
+        watch.interrupt();
+        watch.join();
+        MatcherAssert.assertThat(
+            "We expect the watcher to survive deletion of the input folder and to watch it again",
+            new boolean[] {alive, Files.exists(decompiled)},
+            Matchers.equalTo(new boolean[] {true, true})
+        );
+    }
+
+    /**
+     * Start watching in a separate thread.
+     * @param input Input folder.
+     * @param output Output folder.
+     * @return Watching thread.
+     * @throws InterruptedException If interrupted.
+     */
+    private static Thread start(final Path input, final Path output)
+        throws InterruptedException {
+        final Thread watch = new Thread(
+            new WatchingDecompiler(input, output, new InMemoryStorage(), 50L, new Budget())
+                ::decompile
+        );
+        watch.start();
+        Thread.sleep(500L);
+        return watch;
+    }
+
+    /**
+     * Wait until the file appears or disappears.
+     * @param path File.
+     * @param exists Whether to wait for the file to appear.
+     * @throws InterruptedException If interrupted.
+     */
+    private static void await(final Path path, final boolean exists)
+        throws InterruptedException {
+        for (int attempt = 0; attempt < 100 && Files.exists(path) != exists; ++attempt) {
+            Thread.sleep(100L);
+        }
+    }
+
+    /**
+     * Delete the folder with all its content.
+     * @param dir Folder.
+     * @throws IOException If fails.
+     */
+    private static void delete(final Path dir) throws IOException {
+        try (Stream<Path> all = Files.walk(dir)) {
+            for (final Path path : all.sorted(Comparator.reverseOrder())
+                .collect(Collectors.toList())) {
+                Files.delete(path);
+            }
+        }
+    }
+}
@@ -24,6 +24,8 @@
 package org.eolang.opeo.ast;
 
 import com.jcabi.matchers.XhtmlMatchers;
+import java.util.ArrayList;
+import java.util.List;
 import org.eolang.opeo.compilation.HasInstructions;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.Matchers;
@@ -153,4 +155,36 @@ final class AdditionTest {
             )
         );
     }
+
+    @Test
+    void emitsNestedOpcodesIntoSink() {
+        final AstNode addition = new Addition(
+            new Addition(new Const(1), new Const(2)),
+            new Const(3)
+        );
+        final List<AstNode> sink = new ArrayList<>(0);
+        sink.add(new Opcode(Opcodes.NOP));
+        addition.emit(sink);
+        final List<AstNode> expected = new ArrayList<>(0);
+        expected.add(new Opcode(Opcodes.NOP));
+        expected.addAll(addition.opcodes());
+        MatcherAssert.assertThat(
+            "We expect that nested additions append the same opcodes to the end of the sink",
+            sink,
+            Matchers.equalTo(expected)
+        );
+    }
+
+    @Test
+    void determinesTypeOfDeeplyNestedExpression() {
+        AstNode expression = new Const(1.0);
+        for (int depth = 0; depth < 1_000; ++depth) {
+            expression = new Addition(new Const(depth), expression);
+        }
+        MatcherAssert.assertThat(
+            "We expect that the widest operand type is propagated through all the nested additions",
+            ((Typed) expression).type(),
+            Matchers.equalTo(Type.DOUBLE_TYPE)
+        );
+    }
 }
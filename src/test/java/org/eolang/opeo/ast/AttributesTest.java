@@ -75,6 +75,22 @@ final class AttributesTest {
         );
     }
 
+    @Test
+    void keepsParsedAttributesUnchanged() {
+        final String xmir = String.join(
+            "",
+            "<o base='string' data='bytes'>",
+            "64 65 73 63 72 69 70 74 6F 72 3D 49 7C 74 79 70 65 3D 6C 6F 63 61 6C",
+            "</o>"
+        );
+        final Attributes changed = new Attributes(new XmlNode(xmir)).descriptor("J");
+        MatcherAssert.assertThat(
+            "We expect that setters change only the copy, not the attributes parsed before",
+            new String[]{changed.toString(), new Attributes(new XmlNode(xmir)).toString()},
+            Matchers.equalTo(new String[]{"descriptor=J|type=local", "descriptor=I|type=local"})
+        );
+    }
+
     @ParameterizedTest
     @MethodSource("xmirAttributes")
     void parsesXmir(final String xmir, final String expected) {
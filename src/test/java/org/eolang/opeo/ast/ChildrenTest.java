@@ -0,0 +1,94 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2023 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.opeo.ast;
+
+import org.eolang.jeo.representation.xmir.XmlNode;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link Children}.
+ * @since 0.5
+ */
+final class ChildrenTest {
+
+    /**
+     * XML node with three children separated by whitespaces.
+     */
+    private static final String XML = String.join(
+        "\n",
+        "<o base='.plus'>",
+        "  <o base='int' name='first'/>",
+        "  <o base='int' name='second'/>",
+        "  <o base='int' name='third'/>",
+        "</o>"
+    );
+
+    @Test
+    void skipsWhitespaces() {
+        MatcherAssert.assertThat(
+            "We expect that only element children will be counted",
+            new Children(new XmlNode(ChildrenTest.XML)).size(),
+            Matchers.equalTo(3)
+        );
+    }
+
+    @Test
+    void retrievesChildByIndex() {
+        MatcherAssert.assertThat(
+            "We expect that the second child will be retrieved by index",
+            new Children(new XmlNode(ChildrenTest.XML)).get(1).attribute("name").get(),
+            Matchers.equalTo("second")
+        );
+    }
+
+    @Test
+    void retrievesLastChild() {
+        MatcherAssert.assertThat(
+            "We expect that the last child will be retrieved",
+            new Children(new XmlNode(ChildrenTest.XML)).last().attribute("name").get(),
+            Matchers.equalTo("third")
+        );
+    }
+
+    @Test
+    void retrievesChildrenFromIndex() {
+        MatcherAssert.assertThat(
+            "We expect that children will be retrieved starting from the index",
+            new Children(new XmlNode(ChildrenTest.XML)).from(1),
+            Matchers.hasSize(2)
+        );
+    }
+
+    @Test
+    void throwsOnMissingChild() {
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> new Children(new XmlNode(ChildrenTest.XML)).get(3),
+            "We expect that missing child can't be retrieved"
+        );
+    }
+}
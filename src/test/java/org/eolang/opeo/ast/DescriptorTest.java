@@ -0,0 +1,82 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2023 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.opeo.ast;
+
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.objectweb.asm.Type;
+
+/**
+ * Test case for {@link Descriptor}.
+ * @since 0.5
+ */
+final class DescriptorTest {
+
+    @Test
+    void parsesArguments() {
+        MatcherAssert.assertThat(
+            "We expect that argument types will be parsed from the descriptor",
+            new Descriptor("(ILjava/lang/String;)V").arguments(),
+            Matchers.contains(Type.INT_TYPE, Type.getType(String.class))
+        );
+    }
+
+    @Test
+    void parsesReturnType() {
+        MatcherAssert.assertThat(
+            "We expect that the return type will be parsed from the descriptor",
+            new Descriptor("()Ljava/lang/String;").returned(),
+            Matchers.equalTo(Type.getType(String.class))
+        );
+    }
+
+    @Test
+    void countsSlotsOfWideArguments() {
+        MatcherAssert.assertThat(
+            "We expect that 'long' and 'double' arguments occupy two slots each",
+            new Descriptor("(JIDLjava/lang/Object;)V").slots(),
+            Matchers.equalTo(6)
+        );
+    }
+
+    @Test
+    void sharesParsedDescriptor() {
+        MatcherAssert.assertThat(
+            "We expect that the same descriptor will be parsed only once",
+            new Descriptor("(IJ)V").arguments(),
+            Matchers.sameInstance(new Descriptor("(IJ)V").arguments())
+        );
+    }
+
+    @Test
+    void forbidsChangingArguments() {
+        Assertions.assertThrows(
+            UnsupportedOperationException.class,
+            () -> new Descriptor("(I)V").arguments().set(0, Type.LONG_TYPE),
+            "We expect that cached argument types can't be changed"
+        );
+    }
+}
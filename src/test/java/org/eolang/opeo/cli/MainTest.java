@@ -0,0 +1,114 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2023 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.opeo.cli;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Test cases for {@link Main}.
+ * @since 0.5
+ */
+final class MainTest {
+
+    @Test
+    void compilesManyRoots(@TempDir final Path dir) throws Exception {
+        final Path first = Files.createDirectories(dir.resolve("first"));
+        final Path second = Files.createDirectories(dir.resolve("second"));
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        final int code = new Main(
+            "compile",
+            "--threads=2",
+            String.format("%s=%s", first, dir.resolve("first-out")),
+            String.format("%s=%s", second, dir.resolve("second-out"))
+        ).exec(
+            new PrintStream(out, true, "UTF-8"),
+            new PrintStream(new ByteArrayOutputStream(), true, "UTF-8")
+        );
+        final String summary = new String(out.toByteArray(), StandardCharsets.UTF_8);
+        MatcherAssert.assertThat(
+            String.format("We expect both roots to be compiled, but got:%n%s", summary),
+            summary,
+            Matchers.allOf(
+                Matchers.containsString("\"status\": \"ok\""),
+                Matchers.containsString(first.toString()),
+                Matchers.containsString(second.toString())
+            )
+        );
+        MatcherAssert.assertThat(
+            "We expect zero exit code of the successful run",
+            code,
+            Matchers.equalTo(0)
+        );
+    }
+
+    @Test
+    void failsOnWrongUsage(@TempDir final Path dir) throws Exception {
+        final ByteArrayOutputStream err = new ByteArrayOutputStream();
+        final int code = new Main(
+            "compile", String.format("%s=%s", dir.resolve("absent"), dir.resolve("out"))
+        ).exec(
+            new PrintStream(new ByteArrayOutputStream(), true, "UTF-8"),
+            new PrintStream(err, true, "UTF-8")
+        );
+        MatcherAssert.assertThat(
+            "We expect usage help on wrong usage",
+            new String(err.toByteArray(), StandardCharsets.UTF_8),
+            Matchers.containsString("Usage:")
+        );
+        MatcherAssert.assertThat(
+            "We expect the exit code of wrong usage",
+            code,
+            Matchers.equalTo(2)
+        );
+    }
+
+    @Test
+    void failsOnUnknownOption(@TempDir final Path dir) throws Exception {
+        final ByteArrayOutputStream err = new ByteArrayOutputStream();
+        final int code = new Main(
+            "compile", "--thread=2", String.format("%s=%s", dir, dir.resolve("out"))
+        ).exec(
+            new PrintStream(new ByteArrayOutputStream(), true, "UTF-8"),
+            new PrintStream(err, true, "UTF-8")
+        );
+        MatcherAssert.assertThat(
+            "We expect that a misspelled option is reported instead of being ignored",
+            new String(err.toByteArray(), StandardCharsets.UTF_8),
+            Matchers.containsString("Unknown option '--thread=2'")
+        );
+        MatcherAssert.assertThat(
+            "We expect the exit code of wrong usage for an unknown option",
+            code,
+            Matchers.equalTo(2)
+        );
+    }
+}
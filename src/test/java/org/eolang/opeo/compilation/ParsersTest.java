@@ -0,0 +1,108 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2023 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.opeo.compilation;
+
+import org.eolang.jeo.representation.xmir.XmlNode;
+import org.eolang.opeo.ast.Addition;
+import org.eolang.opeo.ast.AstNode;
+import org.eolang.opeo.ast.Const;
+import org.eolang.opeo.ast.LocalVariable;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.objectweb.asm.Type;
+import org.xembly.Xembler;
+
+/**
+ * Tests for {@link Parsers}.
+ * @since 0.5
+ */
+final class ParsersTest {
+
+    @Test
+    void parsesExactBase() {
+        MatcherAssert.assertThat(
+            "We expect that '.plus' node will be parsed into addition",
+            new Parsers().parse(
+                ".plus",
+                ParsersTest.xml(new Addition(new Const(1), new Const(2))),
+                new XmirParser()
+            ),
+            Matchers.equalTo(new Addition(new Const(1), new Const(2)))
+        );
+    }
+
+    @Test
+    void parsesPrefixedBase() {
+        final AstNode local = new LocalVariable(1, Type.INT_TYPE);
+        MatcherAssert.assertThat(
+            "We expect that 'local-' node will be parsed into local variable",
+            new Parsers().parse("local-1", ParsersTest.xml(local), node -> local),
+            Matchers.equalTo(local)
+        );
+    }
+
+    @Test
+    void parsesCustomNode() {
+        final AstNode custom = new Const(42);
+        MatcherAssert.assertThat(
+            "We expect that a custom node will be parsed by the registered factory",
+            new Parsers()
+                .with("answer", (node, parser) -> custom)
+                .parse("answer", ParsersTest.xml(new Const(1)), node -> custom),
+            Matchers.sameInstance(custom)
+        );
+    }
+
+    @Test
+    void prefersLatestPrefix() {
+        final AstNode custom = new Const(42);
+        MatcherAssert.assertThat(
+            "We expect that a newly registered prefix will be tried first",
+            new Parsers()
+                .withPrefix(".my-", (node, parser) -> custom)
+                .parse(".my-node", ParsersTest.xml(new Const(1)), node -> custom),
+            Matchers.sameInstance(custom)
+        );
+    }
+
+    @Test
+    void throwsOnUnknownBase() {
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> new Parsers().parse("unknown", ParsersTest.xml(new Const(1)), node -> null),
+            "We expect that unknown node can't be parsed"
+        );
+    }
+
+    /**
+     * Convert AST node to XML node.
+     * @param node AST node.
+     * @return XML node.
+     */
+    private static XmlNode xml(final AstNode node) {
+        return new XmlNode(new Xembler(node.toXmir()).xmlQuietly());
+    }
+}
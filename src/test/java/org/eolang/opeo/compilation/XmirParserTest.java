@@ -30,6 +30,7 @@ import org.eolang.jeo.representation.xmir.XmlNode;
 import org.eolang.opeo.ast.Addition;
 import org.eolang.opeo.ast.Attributes;
 import org.eolang.opeo.ast.Const;
+import org.eolang.opeo.ast.Duplicate;
 import org.eolang.opeo.ast.Field;
 import org.eolang.opeo.ast.FieldAssignment;
 import org.eolang.opeo.ast.LocalVariable;
@@ -67,6 +68,16 @@ final class XmirParserTest {
         );
     }
 
+    @Test
+    void resolvesReferencesToDuplicatedNodes() {
+        final Duplicate duplicate = new Duplicate("ref-x", new Const(1));
+        MatcherAssert.assertThat(
+            "We expect the reference to point to the duplicated node, so it's emitted once",
+            new XmirParser(duplicate, duplicate).toJeoNodes(),
+            new HasInstructions(Opcodes.ICONST_1, Opcodes.DUP)
+        );
+    }
+
     @Test
     void convertsAddition() {
         final List<XmlNode> nodes = new XmirParser(
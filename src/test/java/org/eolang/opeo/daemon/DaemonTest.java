@@ -0,0 +1,197 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2023 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.opeo.daemon;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Test cases for {@link Daemon} and {@link Client}.
+ * @since 0.5
+ */
+final class DaemonTest {
+
+    @Test
+    void runsJobByDaemon(@TempDir final Path dir) throws Exception {
+        final Path endpoint = dir.resolve("daemon.properties");
+        final Thread daemon = DaemonTest.start(endpoint, "1.0");
+        Files.createDirectories(dir.resolve("in"));
+        final Path report = dir.resolve("report.json");
+        final boolean remote = new Client(endpoint, "1.0").run(
+            new Job("compile")
+                .with("sources", dir.resolve("in").toFile())
+                .with("output", dir.resolve("out").toFile())
+                .with("report", report.toFile())
+        );
+        daemon.join();
+        MatcherAssert.assertThat(
+            "We expect the daemon to run the job and save the report",
+            remote && Files.exists(report),
+            Matchers.is(true)
+        );
+        MatcherAssert.assertThat(
+            "We expect the daemon to remove its endpoint file when it stops",
+            Files.exists(endpoint),
+            Matchers.is(false)
+        );
+    }
+
+    @Test
+    void rejectsClientOfAnotherVersion(@TempDir final Path dir) throws Exception {
+        final Path endpoint = dir.resolve("daemon.properties");
+        final Thread daemon = DaemonTest.start(endpoint, "1.0");
+        final boolean remote = new Client(endpoint, "2.0").run(
+            new Job("compile").with("sources", dir.toFile()).with("output", dir.toFile())
+        );
+        daemon.join();
+        MatcherAssert.assertThat(
+            "We expect the daemon to reject a client of another version",
+            remote,
+            Matchers.is(false)
+        );
+    }
+
+    @Test
+    void fallsBackWithoutDaemon(@TempDir final Path dir) {
+        MatcherAssert.assertThat(
+            "We expect the client to report that there is no daemon",
+            new Client(dir.resolve("absent.properties"), "1.0").run(new Job("compile")),
+            Matchers.is(false)
+        );
+    }
+
+    @Test
+    void fallsBackWhenDaemonDoesNotAnswer(@TempDir final Path dir) throws Exception {
+        try (ServerSocket silent = new ServerSocket(0, 1, InetAddress.getLoopbackAddress())) {
+            final Path endpoint = dir.resolve("stale.properties");
+            Files.write(
+                endpoint,
+                String.format("port=%d%ntoken=stale%n", silent.getLocalPort())
+                    .getBytes(StandardCharsets.UTF_8)
+            );
+            MatcherAssert.assertThat(
+                "We expect the client to give up on a daemon that never answers",
+                new Client(endpoint, "1.0").run(new Job("compile")),
+                Matchers.is(false)
+            );
+        }
+    }
+
+    @Test
+    void failsWhenAcceptedJobIsNotFinished(@TempDir final Path dir) throws Exception {
+        try (ServerSocket server = new ServerSocket(0, 1, InetAddress.getLoopbackAddress())) {
+            final Path endpoint = dir.resolve("slow.properties");
+            Files.write(
+                endpoint,
+                String.format("port=%d%ntoken=slow%n", server.getLocalPort())
+                    .getBytes(StandardCharsets.UTF_8)
+            );
+            final Thread daemon = new Thread(
+                () -> {
+                    try (Socket socket = server.accept()) {
+                        final DataInputStream in = new DataInputStream(socket.getInputStream());
+                        final DataOutputStream out = new DataOutputStream(
+                            socket.getOutputStream()
+                        );
+                        in.readUTF();
+                        out.writeUTF(Daemon.ACCEPTED);
+                        out.flush();
+                        in.readUTF();
+                        in.read();
+                    } catch (final IOException exception) {
+                        throw new UncheckedIOException(exception);
+                    }
+                }
+            );
+            daemon.start();
+            Assertions.assertThrows(
+                IllegalStateException.class,
+                () -> new Client(endpoint, "1.0", 200).run(new Job("compile")),
+                "We expect the client to fail instead of running an accepted job twice"
+            );
+            daemon.join();
+        }
+    }
+
+    @Test
+    void stopsWhenIdle(@TempDir final Path dir) {
+        final Path endpoint = dir.resolve("idle.properties");
+        Assertions.assertDoesNotThrow(
+            () -> new Daemon(endpoint, "1.0", 100).serve(),
+            "We expect the daemon to stop cleanly when nobody connects to it"
+        );
+        MatcherAssert.assertThat(
+            "We expect the idle daemon to remove its endpoint file",
+            Files.exists(endpoint),
+            Matchers.is(false)
+        );
+    }
+
+    @Test
+    void parsesJobFromText() {
+        MatcherAssert.assertThat(
+            "We expect the job to survive the text round trip",
+            Job.parsed(new Job("decompile").with("budget.steps", 42L).text()).text(),
+            Matchers.containsString("budget.steps=42")
+        );
+    }
+
+    /**
+     * Start the daemon with a short idle timeout and wait until it's ready.
+     * @param endpoint Endpoint file.
+     * @param version Daemon version.
+     * @return Daemon thread.
+     * @throws InterruptedException If interrupted.
+     */
+    private static Thread start(final Path endpoint, final String version)
+        throws InterruptedException {
+        final Thread thread = new Thread(
+            () -> {
+                try {
+                    new Daemon(endpoint, version, 1000).serve();
+                } catch (final IOException exception) {
+                    throw new UncheckedIOException(exception);
+                }
+            }
+        );
+        thread.start();
+        while (!Files.exists(endpoint)) {
+            Thread.sleep(10L);
+        }
+        return thread;
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2023 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.opeo.decompilation;
+
+import java.util.Collections;
+import org.eolang.opeo.OpcodeInstruction;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.objectweb.asm.Opcodes;
+
+/**
+ * Test case for {@link Budget}.
+ * @since 0.5
+ */
+final class BudgetTest {
+
+    @Test
+    void throwsWhenStepsAreExceeded() {
+        final Budget.Meter meter = new Budget(2L, 0L).meter();
+        meter.spend();
+        meter.spend();
+        Assertions.assertThrows(
+            Budget.Exceeded.class,
+            meter::spend,
+            "We expect that the third step will exceed the budget of two steps"
+        );
+    }
+
+    @Test
+    void doesNotLimitByDefault() {
+        final Budget.Meter meter = new Budget().meter();
+        Assertions.assertDoesNotThrow(
+            () -> {
+                for (int step = 0; step < 10_000; ++step) {
+                    meter.spend();
+                }
+            },
+            "We expect that the default budget is unlimited"
+        );
+    }
+
+    @Test
+    void abandonsDecompilationOfTooLongMethod() {
+        Assertions.assertThrows(
+            Budget.Exceeded.class,
+            () -> new DecompilerMachine(
+                new LocalVariables(),
+                Collections.singletonMap("budget", new Budget(1L, 0L))
+            ).decompile(
+                new OpcodeInstruction(Opcodes.ICONST_1),
+                new OpcodeInstruction(Opcodes.ICONST_2),
+                new OpcodeInstruction(Opcodes.IADD),
+                new OpcodeInstruction(Opcodes.IRETURN)
+            ),
+            "We expect that decompilation will be abandoned if the budget is exceeded"
+        );
+    }
+
+    @Test
+    void summarizesExceededMethods() {
+        final Budget budget = new Budget(1L, 1L);
+        budget.exceeded("Main.main([Ljava/lang/String;)V");
+        MatcherAssert.assertThat(
+            "We expect that the summary will contain the method that exceeded the budget",
+            budget.summary(),
+            Matchers.containsString("Main.main([Ljava/lang/String;)V")
+        );
+    }
+}
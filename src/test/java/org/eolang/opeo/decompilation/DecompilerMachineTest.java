@@ -50,6 +50,7 @@ import org.eolang.opeo.ast.This;
 import org.eolang.opeo.ast.VariableAssignment;
 import org.hamcrest.Description;
 import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
 import org.hamcrest.TypeSafeMatcher;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
@@ -303,6 +304,28 @@ final class DecompilerMachineTest {
         );
     }
 
+    @Test
+    void decompilesDuplicatesDeterministically() throws ImpossibleModificationException {
+        final OpcodeInstruction[] instructions = {
+            new OpcodeInstruction(Opcodes.ICONST_2),
+            new OpcodeInstruction(Opcodes.ANEWARRAY, "java/lang/Object"),
+            new OpcodeInstruction(Opcodes.DUP),
+            new OpcodeInstruction(Opcodes.ICONST_0),
+            new OpcodeInstruction(Opcodes.ALOAD, 0),
+            new OpcodeInstruction(Opcodes.AASTORE),
+        };
+        final String lines = " line=\"-?\\d+\"";
+        MatcherAssert.assertThat(
+            "Decompilation of the same instructions must produce identical XMIR, except for random line numbers of jeo",
+            new Xembler(new DecompilerMachine().decompile(instructions)).xml()
+                .replaceAll(lines, ""),
+            Matchers.equalTo(
+                new Xembler(new DecompilerMachine().decompile(instructions)).xml()
+                    .replaceAll(lines, "")
+            )
+        );
+    }
+
     @Test
     void decompilesVariableAssignment() {
         MatcherAssert.assertThat(
@@ -0,0 +1,53 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2023 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.opeo.decompilation;
+
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link Fingerprint}.
+ * @since 0.5
+ */
+final class FingerprintTest {
+
+    @Test
+    void keepsFingerprintOfTheSameBuild() {
+        MatcherAssert.assertThat(
+            "We expect that the fingerprint of the same build won't change",
+            new Fingerprint("1.0-SNAPSHOT").value(),
+            Matchers.equalTo(new Fingerprint("1.0-SNAPSHOT").value())
+        );
+    }
+
+    @Test
+    void addsChecksumToVersion() {
+        MatcherAssert.assertThat(
+            "We expect that the fingerprint has a checksum of the plugin code after the version",
+            new Fingerprint("1.0-SNAPSHOT").value(),
+            Matchers.matchesPattern("1\\.0-SNAPSHOT-[0-9a-f-]{12,}")
+        );
+    }
+}
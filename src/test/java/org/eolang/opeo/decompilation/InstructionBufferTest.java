@@ -0,0 +1,107 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2023 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.opeo.decompilation;
+
+import java.util.Arrays;
+import org.eolang.opeo.ast.Opcode;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.objectweb.asm.Opcodes;
+
+/**
+ * Test case for {@link InstructionBuffer}.
+ * @since 0.5
+ */
+final class InstructionBufferTest {
+
+    @Test
+    void readsInstructionsOneByOne() {
+        final InstructionBuffer buffer = new InstructionBuffer(
+            Arrays.asList(
+                new Opcode(Opcodes.ALOAD, 0),
+                new Opcode(Opcodes.GETFIELD, "org/eolang/Foo", "bar", "I"),
+                new Opcode(Opcodes.IRETURN)
+            )
+        );
+        buffer.next();
+        MatcherAssert.assertThat(
+            "We expect the current instruction and its operands after the cursor moved",
+            new Object[]{buffer.opcode(), buffer.operand(1), buffer.operands(), buffer.pretty()},
+            Matchers.equalTo(
+                new Object[]{
+                    Opcodes.GETFIELD,
+                    "bar",
+                    Arrays.asList("org/eolang/Foo", "bar", "I"),
+                    "getfield ireturn",
+                }
+            )
+        );
+    }
+
+    @Test
+    void sharesEqualStrings() {
+        final InstructionBuffer buffer = new InstructionBuffer(
+            Arrays.asList(
+                new Opcode(Opcodes.NEW, new String("org/eolang/Foo".toCharArray())),
+                new Opcode(Opcodes.CHECKCAST, new String("org/eolang/Foo".toCharArray()))
+            )
+        );
+        final Object first = buffer.operand(0);
+        buffer.next();
+        MatcherAssert.assertThat(
+            "We expect that equal operands of different instructions are the same object",
+            buffer.operand(0),
+            Matchers.sameInstance(first)
+        );
+    }
+
+    @Test
+    void keepsHashCodeWhileReading() {
+        final InstructionBuffer buffer = new InstructionBuffer(
+            Arrays.asList(new Opcode(Opcodes.ICONST_0), new Opcode(Opcodes.IRETURN))
+        );
+        final int before = buffer.hashCode();
+        buffer.next();
+        MatcherAssert.assertThat(
+            "We expect that moving the cursor doesn't change the hash code of the buffer",
+            buffer.hashCode(),
+            Matchers.equalTo(before)
+        );
+    }
+
+    @Test
+    void failsWhenInstructionsAreOver() {
+        final InstructionBuffer buffer = new InstructionBuffer(
+            Arrays.asList(new Opcode(Opcodes.RETURN))
+        );
+        buffer.next();
+        Assertions.assertThrows(
+            IllegalStateException.class,
+            buffer::opcode,
+            "We expect an exception when there are no instructions left"
+        );
+    }
+}
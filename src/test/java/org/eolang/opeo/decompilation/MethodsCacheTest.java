@@ -0,0 +1,62 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2023 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.opeo.decompilation;
+
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link MethodsCache}.
+ * @since 0.5
+ */
+final class MethodsCacheTest {
+
+    @Test
+    void decompilesIdenticalMethodsOnce() {
+        final MethodsCache.Memory cache = new MethodsCache.Memory();
+        cache.fragment("key", () -> "<o base='first'/>");
+        MatcherAssert.assertThat(
+            "We expect that the cached fragment will be returned for the same key",
+            cache.fragment("key", () -> "<o base='second'/>"),
+            Matchers.equalTo("<o base='first'/>")
+        );
+        MatcherAssert.assertThat(
+            "We expect exactly one hit and one miss",
+            new long[]{cache.hits(), cache.misses()},
+            Matchers.equalTo(new long[]{1L, 1L})
+        );
+    }
+
+    @Test
+    void doesNotCacheMoreThanLimit() {
+        final MethodsCache.Memory cache = new MethodsCache.Memory(0);
+        cache.fragment("key", () -> "<o base='first'/>");
+        MatcherAssert.assertThat(
+            "We expect that nothing will be cached if the limit is reached",
+            cache.fragment("key", () -> "<o base='second'/>"),
+            Matchers.equalTo("<o base='second'/>")
+        );
+    }
+}
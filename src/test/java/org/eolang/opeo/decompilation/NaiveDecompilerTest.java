@@ -23,12 +23,14 @@
  */
 package org.eolang.opeo.decompilation;
 
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import org.cactoos.bytes.BytesOf;
 import org.cactoos.io.ResourceOf;
 import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
 import org.hamcrest.io.FileMatchers;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
@@ -79,4 +81,18 @@ final class NaiveDecompilerTest {
         );
     }
 
+    @Test
+    void keepsUnparseableFileAsIs(@TempDir final Path temp) throws Exception {
+        final Path input = temp.resolve("xmir").resolve("Broken.xmir");
+        Files.createDirectories(input.getParent());
+        final byte[] broken = "<program><broken".getBytes(StandardCharsets.UTF_8);
+        Files.write(input, broken);
+        new NaiveDecompiler(temp).decompile();
+        MatcherAssert.assertThat(
+            "We expect that the file that can't be parsed will be copied as is",
+            Files.readAllBytes(temp.resolve("opeo-xmir").resolve("Broken.xmir")),
+            Matchers.equalTo(broken)
+        );
+    }
+
 }
@@ -0,0 +1,92 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2023 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.opeo.decompilation;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Test case for {@link PersistentMethodsCache}.
+ * @since 0.5
+ */
+final class PersistentMethodsCacheTest {
+
+    @Test
+    void reusesFragmentsBetweenBuilds(@TempDir final Path dir) {
+        new PersistentMethodsCache(dir, "1.0", Long.MAX_VALUE)
+            .fragment("key", () -> "<o base='first'/>");
+        MatcherAssert.assertThat(
+            "We expect that the fragment saved by the previous build will be reused",
+            new PersistentMethodsCache(dir, "1.0", Long.MAX_VALUE)
+                .fragment("key", () -> "<o base='second'/>"),
+            Matchers.equalTo("<o base='first'/>")
+        );
+    }
+
+    @Test
+    void ignoresFragmentsOfOtherVersions(@TempDir final Path dir) {
+        new PersistentMethodsCache(dir, "1.0", Long.MAX_VALUE)
+            .fragment("key", () -> "<o base='first'/>");
+        MatcherAssert.assertThat(
+            "We expect that fragments decompiled by another plugin version won't be reused",
+            new PersistentMethodsCache(dir, "2.0", Long.MAX_VALUE)
+                .fragment("key", () -> "<o base='second'/>"),
+            Matchers.equalTo("<o base='second'/>")
+        );
+    }
+
+    @Test
+    void prunesCacheBiggerThanLimit(@TempDir final Path dir) throws IOException {
+        final PersistentMethodsCache cache = new PersistentMethodsCache(dir, "1.0", 0L);
+        cache.fragment("first", () -> "<o base='first'/>");
+        cache.fragment("second", () -> "<o base='second'/>");
+        cache.prune();
+        try (Stream<Path> files = Files.walk(dir)) {
+            MatcherAssert.assertThat(
+                "We expect that all fragments will be removed if the limit is zero",
+                files.filter(Files::isRegularFile).count(),
+                Matchers.equalTo(0L)
+            );
+        }
+    }
+
+    @Test
+    void keepsTemporaryFilesOfOtherBuilds(@TempDir final Path dir) throws IOException {
+        final PersistentMethodsCache cache = new PersistentMethodsCache(dir, "1.0", 0L);
+        cache.fragment("first", () -> "<o base='first'/>");
+        final Path tmp = Files.createTempFile(dir, "fragment", ".tmp");
+        cache.prune();
+        MatcherAssert.assertThat(
+            "We expect that a fragment which is still being written won't be pruned",
+            Files.exists(tmp),
+            Matchers.is(true)
+        );
+    }
+}
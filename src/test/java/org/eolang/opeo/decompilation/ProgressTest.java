@@ -0,0 +1,126 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2023 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.opeo.decompilation;
+
+import java.nio.file.Path;
+import org.cactoos.io.InputOf;
+import org.eolang.opeo.storage.XmirEntry;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.hamcrest.io.FileMatchers;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Test case for {@link Progress}.
+ * @since 0.5
+ */
+final class ProgressTest {
+
+    /**
+     * Name of the journal file.
+     */
+    private static final String JOURNAL = ".opeo-decompile-journal";
+
+    @Test
+    void resumesFromJournal(@TempDir final Path dir) {
+        final XmirEntry entry = ProgressTest.entry("Foo.xmir");
+        new Progress.Journal(dir).completed(entry);
+        MatcherAssert.assertThat(
+            "We expect that the entry decompiled by the interrupted run will be skipped",
+            new Progress.Journal(dir).done(entry),
+            Matchers.is(true)
+        );
+    }
+
+    @Test
+    void decompilesChangedEntriesAgain(@TempDir final Path dir) {
+        new Progress.Journal(dir).completed(ProgressTest.entry("Foo.xmir"));
+        MatcherAssert.assertThat(
+            "We expect that the entry changed after the interrupted run will be decompiled again",
+            new Progress.Journal(dir).done(
+                new XmirEntry(new InputOf("<program name='changed'/>"), "Foo.xmir")
+            ),
+            Matchers.is(false)
+        );
+    }
+
+    @Test
+    void removesJournalWhenFinished(@TempDir final Path dir) {
+        final Progress progress = new Progress.Journal(dir);
+        progress.completed(ProgressTest.entry("Foo.xmir"));
+        progress.finish();
+        MatcherAssert.assertThat(
+            "We expect that the journal will be removed after the finished run",
+            dir.resolve(ProgressTest.JOURNAL).toFile(),
+            Matchers.not(FileMatchers.anExistingFile())
+        );
+    }
+
+    @Test
+    void reportsFailures(@TempDir final Path dir) {
+        final Progress progress = new Progress.Journal(dir);
+        progress.failed(
+            ProgressTest.entry("Broken.xmir"), new IllegalStateException("broken method")
+        );
+        progress.finish();
+        MatcherAssert.assertThat(
+            "We expect that failures will be saved to the report",
+            dir.resolve("opeo-decompile-failures.txt").toFile(),
+            FileMatchers.anExistingFile()
+        );
+    }
+
+    @Test
+    void retriesFailedEntries(@TempDir final Path dir) {
+        final XmirEntry entry = ProgressTest.entry("Broken.xmir");
+        new Progress.Journal(dir).failed(entry, new IllegalStateException("broken method"));
+        MatcherAssert.assertThat(
+            "We expect that failed entries will be retried by the next run",
+            new Progress.Journal(dir).done(entry),
+            Matchers.is(false)
+        );
+    }
+
+    @Test
+    void countsFailuresInMemory() {
+        final Progress.Memory progress = new Progress.Memory();
+        progress.completed(ProgressTest.entry("Foo.xmir"));
+        progress.failed(ProgressTest.entry("Bar.xmir"), new IllegalArgumentException("bar"));
+        MatcherAssert.assertThat(
+            "We expect that summary will contain the number of decompiled and failed files",
+            progress.finish(),
+            Matchers.equalTo("1 files decompiled, 1 files failed")
+        );
+    }
+
+    /**
+     * Create XMIR entry.
+     * @param name Relative name.
+     * @return XMIR entry.
+     */
+    private static XmirEntry entry(final String name) {
+        return new XmirEntry(new InputOf("<program/>"), name);
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2023 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.opeo.decompilation;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import org.eolang.opeo.report.Report;
+import org.eolang.opeo.storage.Filter;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Test case for {@link Reachability}.
+ * @since 0.5
+ */
+final class ReachabilityTest {
+
+    @Test
+    void findsClassesReachableFromRoots(@TempDir final Path dir) throws IOException {
+        ReachabilityTest.xmir(dir, "app/Main", "java/lang/Object", "invokestatic", "app/Service");
+        ReachabilityTest.xmir(dir, "app/Service", "app/Base", "new", "app/Model");
+        ReachabilityTest.xmir(dir, "app/Base", "java/lang/Object", "getfield", "app/Unused");
+        ReachabilityTest.xmir(dir, "app/Model", "java/lang/Object", "getstatic", "java/io/File");
+        ReachabilityTest.xmir(dir, "app/Unused", "java/lang/Object", "new", "app/Main");
+        MatcherAssert.assertThat(
+            "We expect that only classes referenced from the root, even indirectly, are reachable",
+            new Reachability(dir, "app/Main.xmir", new Report()).classes(),
+            Matchers.containsInAnyOrder("app/Main", "app/Service", "app/Base", "app/Model")
+        );
+    }
+
+    @Test
+    void rejectsUnreachableFiles(@TempDir final Path dir) throws IOException {
+        ReachabilityTest.xmir(dir, "Main", "java/lang/Object", "invokevirtual", "Used");
+        ReachabilityTest.xmir(dir, "Used", "java/lang/Object", "return", "");
+        ReachabilityTest.xmir(dir, "Unused", "java/lang/Object", "return", "");
+        final Filter filter = new Reachability(dir, "Main.xmir", new Report())
+            .filter(new Filter());
+        MatcherAssert.assertThat(
+            "We expect that the filter rejects only unreachable classes",
+            new boolean[]{
+                filter.accepts(Paths.get("Main.xmir")),
+                filter.accepts(Paths.get("Used.xmir")),
+                filter.accepts(Paths.get("Unused.xmir")),
+            },
+            Matchers.equalTo(new boolean[]{true, true, false})
+        );
+    }
+
+    /**
+     * Save a class with one instruction.
+     * @param dir Folder with XMIRs.
+     * @param name Class name.
+     * @param parent Superclass name.
+     * @param opcode Instruction opcode.
+     * @param owner Class operand of the instruction.
+     * @throws IOException If fails.
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    private static void xmir(
+        final Path dir,
+        final String name,
+        final String parent,
+        final String opcode,
+        final String owner
+    ) throws IOException {
+        final Path file = dir.resolve(String.format("%s.xmir", name));
+        Files.createDirectories(file.getParent());
+        Files.write(
+            file,
+            String.join(
+                "\n",
+                "<program>",
+                "<objects><o abstract='' name='clazz'>",
+                String.format(
+                    "<o base='string' data='bytes' name='supername'>%s</o>",
+                    ReachabilityTest.hex(parent)
+                ),
+                "<o base='tuple' name='interfaces' star=''/>",
+                "<o abstract='' name='method'><o base='seq' name='@'>",
+                String.format("<o base='opcode' name='%s'>", opcode),
+                "<o base='int' data='bytes'>00 00 00 00 00 00 00 B8</o>",
+                String.format("<o base='string' data='bytes'>%s</o>", ReachabilityTest.hex(owner)),
+                "<o base='string' data='bytes'>66 6F 6F</o>",
+                "</o>",
+                "</o></o>",
+                "</o></objects>",
+                "</program>"
+            ).getBytes(StandardCharsets.UTF_8)
+        );
+    }
+
+    /**
+     * Encode text as XMIR hex bytes.
+     * @param text Text.
+     * @return Hex bytes separated by spaces, like "6F 72 67".
+     */
+    private static String hex(final String text) {
+        final StringBuilder result = new StringBuilder(0);
+        for (final byte chr : text.getBytes(StandardCharsets.UTF_8)) {
+            if (result.length() > 0) {
+                result.append(' ');
+            }
+            result.append(String.format("%02X", chr));
+        }
+        return result.toString();
+    }
+}
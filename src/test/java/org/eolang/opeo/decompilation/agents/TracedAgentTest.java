@@ -25,6 +25,7 @@ package org.eolang.opeo.decompilation.agents;
 
 import java.util.ArrayDeque;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 import org.eolang.opeo.ast.Opcode;
 import org.eolang.opeo.decompilation.DecompilerState;
@@ -82,4 +83,55 @@ final class TracedAgentTest {
         );
     }
 
+    @Test
+    void countsHandledInstructionsInParallel() {
+        final TracedAgent.Metrics metrics = new TracedAgent.Metrics(
+            new TracedAgent.Container(), true
+        );
+        final int total = 1000;
+        IntStream.range(0, total).parallel().forEach(
+            idx -> new TracedAgent(new DummyAgent(), metrics).handle(
+                new DecompilerState(
+                    Stream.of(new Opcode(Opcodes.LCONST_1))
+                        .collect(Collectors.toCollection(ArrayDeque::new)),
+                    new OperandStack(),
+                    new LocalVariables()
+                )
+            )
+        );
+        MatcherAssert.assertThat(
+            "We expect all the handled instructions to be counted per agent and per opcode",
+            new long[] {
+                metrics.hits(DummyAgent.class),
+                metrics.hits(DummyAgent.class, Opcodes.LCONST_1),
+                metrics.hits(DummyAgent.class, Opcodes.LRETURN),
+            },
+            Matchers.equalTo(new long[] {total, total, 0L})
+        );
+    }
+
+    @Test
+    void summarizesMetrics() {
+        final TracedAgent.Metrics metrics = new TracedAgent.Metrics(
+            new TracedAgent.Container(), true
+        );
+        new TracedAgent(new DummyAgent(), metrics).handle(
+            new DecompilerState(
+                Stream.of(new Opcode(Opcodes.LCONST_1))
+                    .collect(Collectors.toCollection(ArrayDeque::new)),
+                new OperandStack(),
+                new LocalVariables()
+            )
+        );
+        MatcherAssert.assertThat(
+            "We expect the summary to contain agents, opcodes and timing percentiles",
+            metrics.summary(),
+            Matchers.allOf(
+                Matchers.startsWith("DummyAgent: 1 instructions in "),
+                Matchers.containsString("[lconst_1=1]"),
+                Matchers.containsString("p99 < ")
+            )
+        );
+    }
+
 }
@@ -0,0 +1,94 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2023 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.opeo.jeo;
+
+import org.eolang.jeo.representation.xmir.HexString;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link Hex}.
+ * @since 0.5
+ */
+final class HexTest {
+
+    @Test
+    void decodesStringLikeJeo() {
+        final String hex = "6F 72 67 2F D0 AF 1";
+        MatcherAssert.assertThat(
+            "We expect that each group of digits is decoded into a character, like jeo does",
+            new Hex(String.format("  %s\n", hex)).string(),
+            Matchers.equalTo(new HexString(hex).decode())
+        );
+    }
+
+    @Test
+    void dropsLineBreaks() {
+        MatcherAssert.assertThat(
+            "We expect that line breaks are removed from the decoded string",
+            new Hex("61 0A 62 0A").oneline(),
+            Matchers.equalTo("ab")
+        );
+    }
+
+    @Test
+    void decodesLongString() {
+        final StringBuilder hex = new StringBuilder(0);
+        final StringBuilder expected = new StringBuilder(0);
+        for (int idx = 0; idx < 1000; ++idx) {
+            hex.append("7A ");
+            expected.append('z');
+        }
+        MatcherAssert.assertThat(
+            "We expect that strings longer than the reusable buffer are decoded too",
+            new Hex(hex).string(),
+            Matchers.equalTo(expected.toString())
+        );
+    }
+
+    @Test
+    void decodesNumbers() {
+        MatcherAssert.assertThat(
+            "We expect that big-endian bytes are decoded into numbers and booleans",
+            new Object[]{
+                (int) new Hex("FF FF FF FF FF FF FF FE").number(),
+                new Hex("00 00 00 01 00 00 00 00").number(),
+                new Hex("01").bool(),
+                new Hex("00").bool(),
+            },
+            Matchers.equalTo(new Object[]{-2, 4_294_967_296L, true, false})
+        );
+    }
+
+    @Test
+    void rejectsWrongDigits() {
+        Assertions.assertThrows(
+            NumberFormatException.class,
+            () -> new Hex("6G").string(),
+            "We expect that non-hex digits are rejected"
+        );
+    }
+}
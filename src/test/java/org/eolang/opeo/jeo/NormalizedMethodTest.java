@@ -0,0 +1,140 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2023 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.opeo.jeo;
+
+import com.jcabi.matchers.XhtmlMatchers;
+import org.eolang.opeo.Instruction;
+import org.eolang.opeo.OpcodeInstruction;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.objectweb.asm.Opcodes;
+
+/**
+ * Test case for {@link NormalizedMethod}.
+ * @since 0.5
+ */
+final class NormalizedMethodTest {
+
+    @Test
+    void createsSameKeyForIdenticalGetters() {
+        MatcherAssert.assertThat(
+            "We expect that getters from different classes will have the same key",
+            NormalizedMethodTest.getter("org/first/A").key(),
+            Matchers.equalTo(NormalizedMethodTest.getter("org/second/B").key())
+        );
+    }
+
+    @Test
+    void createsDifferentKeysForDifferentMethods() {
+        MatcherAssert.assertThat(
+            "We expect that methods with different instructions will have different keys",
+            NormalizedMethodTest.getter("org/first/A").key(),
+            Matchers.not(
+                Matchers.equalTo(
+                    new NormalizedMethod(
+                        Opcodes.ACC_PUBLIC,
+                        "()I",
+                        "Lorg/first/A;",
+                        new OpcodeInstruction(Opcodes.ICONST_1),
+                        new OpcodeInstruction(Opcodes.IRETURN)
+                    ).key()
+                )
+            )
+        );
+    }
+
+    @Test
+    void rebindsFragmentToAnotherOwner() {
+        MatcherAssert.assertThat(
+            "We expect that the fragment decompiled for one class will be rebound to another",
+            NormalizedMethodTest.getter("org/second/B").restore(
+                NormalizedMethodTest.getter("org/first/A").normalize(
+                    "<o><o base='$'><o base='string' data='bytes'>6F 72 67 2E 66 69 72 73 74 2E 41</o></o><o name='org/first/A'/></o>"
+                )
+            ).node(),
+            XhtmlMatchers.hasXPaths(
+                "/o/o/o[@data='bytes' and text()='6F 72 67 2E 73 65 63 6F 6E 64 2E 42']",
+                "/o/o[@name='org/second/B']"
+            )
+        );
+    }
+
+    @Test
+    void refusesToMemoizeClassesWithoutPackage() {
+        MatcherAssert.assertThat(
+            "We expect that methods of classes without a package won't be memoized",
+            NormalizedMethodTest.getter("A").memoizable(),
+            Matchers.is(false)
+        );
+    }
+
+    @Test
+    void refusesToMemoizeMethodsWithOwnerInConstants() {
+        MatcherAssert.assertThat(
+            "We expect that methods with string constants that mention the owner won't be memoized",
+            new NormalizedMethod(
+                Opcodes.ACC_PUBLIC,
+                "()Ljava/lang/String;",
+                "Lorg/first/A;",
+                new OpcodeInstruction(Opcodes.LDC, "org.first.A"),
+                new OpcodeInstruction(Opcodes.ARETURN)
+            ).memoizable(),
+            Matchers.is(false)
+        );
+    }
+
+    @Test
+    void keepsClassesWithSimilarNames() {
+        MatcherAssert.assertThat(
+            "We expect that only the whole owner name will be replaced in the fragment",
+            NormalizedMethodTest.getter("org/second/B").restore(
+                NormalizedMethodTest.getter("org/first/A").normalize(
+                    "<o base='.org_first_AB$get'><o name='org/first/AB'/><o base='org.first.j$A'/></o>"
+                )
+            ).node(),
+            XhtmlMatchers.hasXPaths(
+                "/o[@base='.org_first_AB$get']",
+                "/o/o[@name='org/first/AB']",
+                "/o/o[@base='org.second.j$B']"
+            )
+        );
+    }
+
+    /**
+     * Getter method.
+     * @param owner Owner internal name.
+     * @return Normalized getter.
+     */
+    private static NormalizedMethod getter(final String owner) {
+        final Instruction[] instructions = {
+            new OpcodeInstruction(Opcodes.ALOAD, 0),
+            new OpcodeInstruction(Opcodes.GETFIELD, owner, "value", "I"),
+            new OpcodeInstruction(Opcodes.IRETURN),
+        };
+        return new NormalizedMethod(
+            Opcodes.ACC_PUBLIC, "()I", String.format("L%s;", owner), instructions
+        );
+    }
+}
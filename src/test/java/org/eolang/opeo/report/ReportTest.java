@@ -0,0 +1,146 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2023 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.opeo.report;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Test cases for {@link Report}.
+ * @since 0.5
+ */
+final class ReportTest {
+
+    @Test
+    void reportsStagesAndFiles() {
+        final Report report = new Report();
+        MatcherAssert.assertThat(
+            "We expect the stage to return the result of the action",
+            report.stage("parse", () -> "parsed"),
+            Matchers.equalTo("parsed")
+        );
+        report.stage("write", 1_000_000L);
+        report.file("org/eolang/Main.xmir", 2_000_000L);
+        report.skipped();
+        report.read(100L);
+        report.written(200L);
+        final String json = report.json();
+        MatcherAssert.assertThat(
+            String.format("We expect the report to contain stages and files, but got:%n%s", json),
+            json,
+            Matchers.allOf(
+                Matchers.containsString("\"parse\": "),
+                Matchers.containsString("\"write\": 1"),
+                Matchers.containsString("\"total\": 1, \"skipped\": 1, \"failed\": 0"),
+                Matchers.containsString("\"read\": 100, \"written\": 200"),
+                Matchers.containsString("\"org/eolang/Main.xmir\"")
+            )
+        );
+    }
+
+    @Test
+    void keepsOnlySlowestMethods() {
+        final Report report = new Report();
+        for (int idx = 0; idx < 100; ++idx) {
+            report.method(String.format("m%d", idx), idx * 1_000L, 1);
+        }
+        final String json = report.json();
+        MatcherAssert.assertThat(
+            String.format("We expect only the slowest methods in the report, but got:%n%s", json),
+            json,
+            Matchers.allOf(
+                Matchers.containsString("\"m99\""),
+                Matchers.containsString("\"m80\""),
+                Matchers.not(Matchers.containsString("\"m79\"")),
+                Matchers.containsString("\"total\": 100, \"instructions\": 100")
+            )
+        );
+    }
+
+    @Test
+    void countsAllocationsOfFilesOnly() {
+        final Report report = new Report();
+        final byte[][] before = ReportTest.allocate();
+        final Meter meter = new Meter();
+        final byte[][] during = ReportTest.allocate();
+        report.file("org/eolang/Main.xmir", meter);
+        MatcherAssert.assertThat(
+            "We expect that only the bytes allocated while the file was processed are counted",
+            Long.parseLong(
+                report.json().replaceAll("(?s).*\"allocated_bytes\": (\\d+).*", "$1")
+            ),
+            Matchers.allOf(
+                Matchers.greaterThanOrEqualTo((long) during.length * 1024L),
+                Matchers.lessThan((long) (before.length + during.length) * 1024L)
+            )
+        );
+    }
+
+    @Test
+    void mergesReportsOfDifferentGoals(@TempDir final Path dir) throws Exception {
+        final Path file = dir.resolve("opeo-report.json");
+        new Report().save(file, "decompile", "1");
+        new Report().save(file, "compile", "1");
+        MatcherAssert.assertThat(
+            "We expect the report to contain sections of both goals",
+            new String(Files.readAllBytes(file), StandardCharsets.UTF_8),
+            Matchers.allOf(
+                Matchers.startsWith("{\n\"compile\": {"),
+                Matchers.containsString("\"decompile\": {")
+            )
+        );
+    }
+
+    @Test
+    void dropsSectionsOfEarlierBuilds(@TempDir final Path dir) throws Exception {
+        final Path file = dir.resolve("opeo-report.json");
+        new Report().save(file, "decompile", "1");
+        new Report().save(file, "compile", "2");
+        MatcherAssert.assertThat(
+            "We expect the report to contain only the goals of the last build",
+            new String(Files.readAllBytes(file), StandardCharsets.UTF_8),
+            Matchers.allOf(
+                Matchers.containsString("\"compile\": {"),
+                Matchers.not(Matchers.containsString("\"decompile\": {"))
+            )
+        );
+    }
+
+    /**
+     * Allocate about a megabyte.
+     * @return Allocated arrays.
+     */
+    private static byte[][] allocate() {
+        final byte[][] result = new byte[1_000][];
+        for (int idx = 0; idx < result.length; ++idx) {
+            result[idx] = new byte[1024];
+        }
+        return result;
+    }
+}
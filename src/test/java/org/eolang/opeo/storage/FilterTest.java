@@ -0,0 +1,110 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2023 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.opeo.storage;
+
+import com.jcabi.xml.XMLDocument;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.stream.Collectors;
+import org.eolang.opeo.report.Report;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Test case for {@link Filter}.
+ * @since 0.5
+ */
+final class FilterTest {
+
+    @Test
+    void acceptsAllFilesWithoutPatterns() {
+        MatcherAssert.assertThat(
+            "We expect that the filter without patterns accepts any file",
+            new Filter().accepts(Paths.get("com/example/Main.xmir")),
+            Matchers.is(true)
+        );
+    }
+
+    @Test
+    void acceptsOnlyIncludedAndNotExcludedFiles() {
+        final Filter filter = new Filter("org/eolang/**", "**/shaded/**");
+        MatcherAssert.assertThat(
+            "We expect that only included files that are not excluded are accepted",
+            new boolean[]{
+                filter.accepts(Paths.get("org/eolang/opeo/Main.xmir")),
+                filter.accepts(Paths.get("org/eolang/shaded/Lib.xmir")),
+                filter.accepts(Paths.get("com/google/Lib.xmir")),
+            },
+            Matchers.equalTo(new boolean[]{true, false, false})
+        );
+    }
+
+    @Test
+    void passesExcludedFilesThroughWithoutParsing(@TempDir final Path dir) throws IOException {
+        final Path input = dir.resolve("input");
+        final Path output = dir.resolve("output");
+        final String broken = "not even XML";
+        Files.createDirectories(input.resolve("org"));
+        Files.createDirectories(input.resolve("lib"));
+        Files.write(input.resolve("org/App.xmir"), "<program/>".getBytes(StandardCharsets.UTF_8));
+        Files.write(input.resolve("lib/Lib.xmir"), broken.getBytes(StandardCharsets.UTF_8));
+        MatcherAssert.assertThat(
+            "We expect that only included files are retrieved from the storage",
+            new FileStorage(input, output, new Report(), new Filter("", "lib/**"))
+                .all()
+                .map(XmirEntry::relative)
+                .collect(Collectors.toList()),
+            Matchers.contains(Paths.get("org/App.xmir").toString())
+        );
+        MatcherAssert.assertThat(
+            "We expect that excluded files are copied to the output as is",
+            new String(Files.readAllBytes(output.resolve("lib/Lib.xmir")), StandardCharsets.UTF_8),
+            Matchers.equalTo(broken)
+        );
+    }
+
+    @Test
+    void keepsSourceOfExcludedFileIntact(@TempDir final Path dir) throws IOException {
+        final Path input = dir.resolve("input");
+        final Path output = dir.resolve("output");
+        final String original = "<program name='Lib'/>";
+        Files.createDirectories(input.resolve("lib"));
+        Files.write(input.resolve("lib/Lib.xmir"), original.getBytes(StandardCharsets.UTF_8));
+        final FileStorage storage = new FileStorage(
+            input, output, new Report(), new Filter("", "lib/**")
+        );
+        storage.all().count();
+        storage.save(new XmirEntry(new XMLDocument("<program name='Changed'/>"), "lib/Lib.xmir"));
+        MatcherAssert.assertThat(
+            "We expect that saving over the output of an excluded file doesn't change its source",
+            new String(Files.readAllBytes(input.resolve("lib/Lib.xmir")), StandardCharsets.UTF_8),
+            Matchers.equalTo(original)
+        );
+    }
+}
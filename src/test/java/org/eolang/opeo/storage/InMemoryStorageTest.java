@@ -0,0 +1,104 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2023 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.opeo.storage;
+
+import java.util.Arrays;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import org.cactoos.io.InputOf;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link InMemoryStorage}.
+ * @since 0.4
+ */
+final class InMemoryStorageTest {
+
+    @Test
+    void savesEntriesFromParallelStream() {
+        final InMemoryStorage storage = new InMemoryStorage();
+        final int total = 10_000;
+        IntStream.range(0, total)
+            .parallel()
+            .mapToObj(InMemoryStorageTest::entry)
+            .forEach(storage::save);
+        MatcherAssert.assertThat(
+            "We expect that all the entries saved concurrently will be stored",
+            storage.all().count(),
+            Matchers.equalTo((long) total)
+        );
+    }
+
+    @Test
+    void returnsSnapshotOfEntries() {
+        final InMemoryStorage storage = new InMemoryStorage();
+        storage.save(InMemoryStorageTest.entry(1));
+        storage.save(InMemoryStorageTest.entry(2));
+        final Stream<XmirEntry> all = storage.all();
+        storage.save(InMemoryStorageTest.entry(3));
+        MatcherAssert.assertThat(
+            "We expect that the entries saved after the 'all' call won't appear in the stream",
+            all.map(XmirEntry::relative).collect(Collectors.toList()),
+            Matchers.contains("1", "2")
+        );
+        MatcherAssert.assertThat(
+            "We expect that the entries saved after the 'all' call will be kept in the storage",
+            storage.last().relative(),
+            Matchers.equalTo("3")
+        );
+    }
+
+    @Test
+    void keepsEntriesPassedAsList() {
+        MatcherAssert.assertThat(
+            "We expect that the entries passed to the constructor will be stored",
+            new InMemoryStorage(
+                Arrays.asList(InMemoryStorageTest.entry(1), InMemoryStorageTest.entry(2))
+            ).last().relative(),
+            Matchers.equalTo("2")
+        );
+    }
+
+    @Test
+    void failsOnEmptyStorage() {
+        Assertions.assertThrows(
+            IllegalStateException.class,
+            () -> new InMemoryStorage().last(),
+            "We expect that the empty storage won't return the last entry"
+        );
+    }
+
+    /**
+     * Create a simple entry.
+     * @param index Entry index.
+     * @return Entry.
+     */
+    private static XmirEntry entry(final int index) {
+        return new XmirEntry(new InputOf("<program/>"), String.valueOf(index));
+    }
+}